@@ -0,0 +1,18 @@
+import axios from "axios";
+
+// the largest page the list endpoints return
+const PAGE_SIZE = 500;
+
+// The list endpoints return one page at a time; follow X-Next-Cursor until the last one.
+const fetchAll = async (path) => {
+    const items = [];
+    let cursor;
+    do {
+        const response = await axios.get(path, {params: {limit: PAGE_SIZE, cursor}});
+        items.push(...response.data);
+        cursor = response.headers['x-next-cursor'];
+    } while (cursor);
+    return items;
+};
+
+export default fetchAll;
@@ -1,5 +1,6 @@
 import React, {useEffect, useState} from "react";
 import axios from "axios";
+import fetchAll from "../fetchAll";
 import {API_URL} from "./Home";
 
 const Attachments = () => {
@@ -25,8 +26,7 @@ const Attachments = () => {
     const fetchAttachments = async () => {
         try {
             // Replace 'your-api-endpoint' with the actual endpoint you want to call
-            const response = await axios.get(`/api/attachments`);
-            setAttachments(response.data);
+            setAttachments(await fetchAll(`/api/attachments`));
         } catch (error) {
             console.error('Error fetching data: ', error);
         }
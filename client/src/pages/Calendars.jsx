@@ -1,5 +1,6 @@
 import React, {useEffect, useState} from "react";
 import axios from "axios";
+import fetchAll from "../fetchAll";
 
 const Calendars = () => {
     // useStates
@@ -19,8 +20,7 @@ const Calendars = () => {
     // Fetch calendar data
     const fetchCalendars = async () => {
         try {
-            const response = await axios.get(`/api/calendars`);
-            setCalendars(response.data);
+            setCalendars(await fetchAll(`/api/calendars`));
         } catch (error) {
             console.error("Error fetching calendars data: ", error);
         }
@@ -1,5 +1,6 @@
 import React, {useEffect, useState} from "react";
 import axios from "axios";
+import fetchAll from "../fetchAll";
 
 const Meetings = () => {
     const [meetings, setMeetings] = useState([]);
@@ -19,8 +20,7 @@ const Meetings = () => {
 
     const fetchMeetings = async () => {
         try {
-            const response = await axios.get(`/api/meetings`);
-            setMeetings(response.data);
+            setMeetings(await fetchAll(`/api/meetings`));
         } catch (error) {
             console.error('Error fetching data: ', error);
         }
@@ -1,5 +1,6 @@
 import React, {useEffect, useState} from "react";
 import axios from "axios";
+import fetchAll from "../fetchAll";
 
 const Participants = () => {
     // useStates
@@ -18,8 +19,7 @@ const Participants = () => {
     // Fetch participants data
     const fetchParticipants = async () => {
         try {
-            const response = await axios.get(`/api/participants`);
-            setParticipants(response.data);
+            setParticipants(await fetchAll(`/api/participants`));
         } catch (error) {
             console.error('Error fetching data: ', error);
         }
@@ -0,0 +1,52 @@
+package rockets.data_access_layer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JacksonStdImpl;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Modules Spring Boot adds to the application's {@code ObjectMapper}, which
+ * every controller response and request body goes through.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces reflective getter, setter and constructor calls with
+     * generated lambdas.
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Blackbird falls back to reflection for every property whose
+     * serializer isn't one of Jackson's own, and Jackson's UUID serializer
+     * isn't marked as one, so without this every id is read reflectively.
+     */
+    @Bean
+    public SimpleModule uuidModule() {
+        return new SimpleModule("uuid").addSerializer(UUID.class, new UuidSerializer());
+    }
+
+    @JacksonStdImpl
+    static final class UuidSerializer extends StdScalarSerializer<UUID> {
+        UuidSerializer() {
+            super(UUID.class);
+        }
+
+        @Override
+        public void serialize(UUID value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeString(value.toString());
+        }
+    }
+}
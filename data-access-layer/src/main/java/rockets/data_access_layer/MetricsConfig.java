@@ -0,0 +1,20 @@
+package rockets.data_access_layer;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import rockets.data_access_layer.controller.FailureMetricsInterceptor;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+    private final FailureMetricsInterceptor failureMetricsInterceptor;
+
+    public MetricsConfig(FailureMetricsInterceptor failureMetricsInterceptor) {
+        this.failureMetricsInterceptor = failureMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(failureMetricsInterceptor);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import rockets.data_access_layer.entity.Attachment;
 import rockets.data_access_layer.service.AttachmentService;
+import rockets.data_access_layer.util.Pagination;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,8 +20,9 @@ public class AttachmentController {
     }
 
     @GetMapping
-    public List<Attachment> getAllAttachments() {
-        return attachmentService.getAllAttachments();
+    public ResponseEntity<List<Attachment>> getAllAttachments(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_LIMIT) int limit) {
+        return Pagination.toResponse(attachmentService.getAttachmentsPage(cursor, limit));
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,24 @@
+package rockets.data_access_layer.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import rockets.data_access_layer.dto.CacheRegionStatistics;
+import rockets.data_access_layer.service.CacheStatisticsService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/cache")
+public class CacheController {
+    private final CacheStatisticsService cacheStatisticsService;
+
+    public CacheController(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    @GetMapping("/statistics")
+    public List<CacheRegionStatistics> getStatistics() {
+        return cacheStatisticsService.getRegionStatistics();
+    }
+}
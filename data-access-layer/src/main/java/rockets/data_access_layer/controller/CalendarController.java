@@ -1,15 +1,34 @@
 package rockets.data_access_layer.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import rockets.data_access_layer.dto.CalendarDTO;
+import rockets.data_access_layer.dto.CalendarView;
+import rockets.data_access_layer.dto.ImportProgress;
 import rockets.data_access_layer.entity.Calendar;
 import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.service.CalendarImportService;
 import rockets.data_access_layer.service.CalendarService;
 import rockets.data_access_layer.service.MeetingService;
+import rockets.data_access_layer.util.ETags;
+import rockets.data_access_layer.util.Export;
+import rockets.data_access_layer.util.ICalendar;
+import rockets.data_access_layer.util.Pagination;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -17,24 +36,72 @@ import java.util.UUID;
 public class CalendarController {
     private final CalendarService calendarService;
     private final MeetingService meetingService;
+    private final CalendarImportService calendarImportService;
+    private final ObjectMapper objectMapper;
 
-    public CalendarController(CalendarService calendarService, MeetingService meetingService) {
+    public CalendarController(CalendarService calendarService, MeetingService meetingService,
+            CalendarImportService calendarImportService, ObjectMapper objectMapper) {
         this.calendarService = calendarService;
         this.meetingService = meetingService;
+        this.calendarImportService = calendarImportService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public List<Calendar> getAllCalendars() {
-        return calendarService.getAllCalendars();
+    public ResponseEntity<List<Calendar>> getAllCalendars(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_LIMIT) int limit) {
+        return Pagination.toResponse(calendarService.getCalendarsPage(cursor, limit));
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<Calendar> getCalendarById(@PathVariable UUID id) {
-        return calendarService.getCalendarById(id)
+    @GetMapping("/views")
+    public ResponseEntity<List<CalendarView>> getCalendarViews(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_LIMIT) int limit) {
+        return Pagination.toResponse(calendarService.getCalendarViewsPage(cursor, limit));
+    }
+
+    @GetMapping("/{id}/view")
+    public ResponseEntity<CalendarView> getCalendarViewById(@PathVariable UUID id) {
+        return calendarService.getCalendarViewById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportCalendars() {
+        return Export.toResponse(objectMapper, calendarService::exportCalendarViews);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getCalendarById(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<String> etag = calendarService.getCalendarETag(id);
+        if (etag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ETags.matches(ifNoneMatch, etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+        }
+        return calendarService.getRenderedCalendar(id)
+                .map(body -> ResponseEntity.ok().eTag(etag.get()).contentType(MediaType.APPLICATION_JSON).body(body))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}.ics", produces = "text/calendar")
+    public ResponseEntity<StreamingResponseBody> getCalendarFeed(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<String> etag = calendarService.getCalendarETag(id).map(tag -> ETags.weakVariant(tag, "ics"));
+        if (etag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ETags.matches(ifNoneMatch, etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+        }
+        return calendarService.getCalendarViewById(id)
+                .map(calendar -> ICalendar.toResponse(etag.get(), calendar.title(),
+                        export -> calendarService.exportCalendarEvents(id, export)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PostMapping(consumes = "application/json")
     public Calendar createCalendar(@RequestBody @Valid CalendarDTO calendarDTO) {
         Calendar calendar = new Calendar();
@@ -61,6 +128,27 @@ public class CalendarController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Imports an iCalendar upload into calendar {@code id}, streaming an
+     * {@link ImportProgress} line after every chunk it commits. The upload is
+     * read as it is imported, never buffered whole.
+     */
+    @PostMapping(value = "/{id}/import", consumes = {"text/calendar", "application/octet-stream"},
+            produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> importCalendar(@PathVariable UUID id, InputStream body) {
+        if (!calendarService.calendarExists(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        return Export.<ImportProgress>toResponse(objectMapper, export -> {
+            try {
+                calendarImportService.importCalendar(id, reader, progress -> export.accept(List.of(progress)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     @PutMapping(value = "/{id}", consumes = "application/json")
     public ResponseEntity<Calendar> updateCalendar(@PathVariable UUID id, @RequestBody @Valid CalendarDTO calendarDTO) {
         Calendar calendar = new Calendar();
@@ -0,0 +1,48 @@
+package rockets.data_access_layer.controller;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Counts the requests each handler answered with 404 ({@code api.not_found})
+ * or 400 ({@code api.validation_failures}), whether the controller returned
+ * the status itself or {@link ValidationExceptionHandler} mapped an
+ * exception to it.
+ */
+@Component
+public class FailureMetricsInterceptor implements HandlerInterceptor {
+    public static final String NOT_FOUND = "api.not_found";
+
+    public static final String VALIDATION_FAILURES = "api.validation_failures";
+
+    private final MeterRegistry meterRegistry;
+
+    public FailureMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return;
+        }
+        String name = switch (HttpStatus.resolve(response.getStatus())) {
+            case NOT_FOUND -> NOT_FOUND;
+            case BAD_REQUEST -> VALIDATION_FAILURES;
+            case null, default -> null;
+        };
+        if (name != null) {
+            Counter.builder(name)
+                    .tag("handler", method.getBeanType().getSimpleName() + "." + method.getMethod().getName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -1,69 +1,189 @@
 package rockets.data_access_layer.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import rockets.data_access_layer.dto.MeetingBatchResult;
 import rockets.data_access_layer.dto.MeetingDTO;
+import rockets.data_access_layer.dto.MeetingOccurrence;
+import rockets.data_access_layer.dto.MeetingSearchHit;
+import rockets.data_access_layer.dto.MeetingView;
+import rockets.data_access_layer.dto.OccurrenceChanges;
 import rockets.data_access_layer.entity.Meeting;
 import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.service.ConflictPolicy;
+import rockets.data_access_layer.service.MeetingSearchIndex;
 import rockets.data_access_layer.service.MeetingService;
 import rockets.data_access_layer.service.ParticipantService;
+import rockets.data_access_layer.util.ETags;
+import rockets.data_access_layer.util.Export;
+import rockets.data_access_layer.util.Pagination;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/meetings")
 public class MeetingController {
+    public static final String CONFLICTS_HEADER = "X-Meeting-Conflicts";
+
     private final MeetingService meetingService;
     private final ParticipantService participantService;
+    private final ObjectMapper objectMapper;
 
-    public MeetingController(MeetingService meetingService, ParticipantService participantService) {
+    public MeetingController(MeetingService meetingService, ParticipantService participantService, ObjectMapper objectMapper) {
         this.meetingService = meetingService;
         this.participantService = participantService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public List<Meeting> getAllMeetings() {
-        return meetingService.getAllMeetings();
+    public ResponseEntity<List<Meeting>> getAllMeetings(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_LIMIT) int limit) {
+        return Pagination.toResponse(meetingService.getMeetingsPage(cursor, limit));
+    }
+
+    @GetMapping(params = {"from", "to"})
+    public ResponseEntity<List<Meeting>> getMeetingsInRange(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date to,
+            @RequestParam(required = false) UUID calendarId,
+            @RequestParam(required = false) UUID participantId) {
+        if (!from.before(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(meetingService.getMeetingsInRange(from, to, calendarId, participantId));
+    }
+
+    @GetMapping(value = "/occurrences", params = {"from", "to"})
+    public ResponseEntity<List<MeetingOccurrence>> getOccurrences(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date to,
+            @RequestParam(required = false) UUID calendarId,
+            @RequestParam(required = false) UUID participantId) {
+        if (!from.before(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(meetingService.getOccurrences(from, to, calendarId, participantId));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<MeetingSearchHit>> searchMeetings(@RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (q.isBlank() || limit < 1 || limit > MeetingSearchIndex.MAX_RESULTS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(meetingService.searchMeetings(q, limit));
+    }
+
+    @GetMapping("/views")
+    public ResponseEntity<List<MeetingView>> getMeetingViews(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_LIMIT) int limit) {
+        return Pagination.toResponse(meetingService.getMeetingViewsPage(cursor, limit));
+    }
+
+    @GetMapping("/{id}/view")
+    public ResponseEntity<MeetingView> getMeetingViewById(@PathVariable UUID id) {
+        return meetingService.getMeetingViewById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportMeetings() {
+        return Export.toResponse(objectMapper, meetingService::exportMeetingViews);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Meeting> getMeetingById(@PathVariable UUID id) {
+    public ResponseEntity<Meeting> getMeetingById(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<String> etag = meetingService.getMeetingETag(id);
+        if (etag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ETags.matches(ifNoneMatch, etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+        }
         return meetingService.getMeetingById(id)
-                .map(ResponseEntity::ok)
+                .map(meeting -> ResponseEntity.ok().eTag(etag.get()).body(meeting))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping(consumes = "application/json")
-    public Meeting createMeeting(@RequestBody @Valid MeetingDTO meetingDTO) {
+    public ResponseEntity<Meeting> createMeeting(@RequestBody @Valid MeetingDTO meetingDTO,
+            @RequestParam(defaultValue = "IGNORE") ConflictPolicy conflicts) {
         Meeting meeting = new Meeting();
         meeting.setId(meetingDTO.getId());
         meeting.setTitle(meetingDTO.getTitle());
         meeting.setDetails(meetingDTO.getDetails());
         meeting.setDateTime(meetingDTO.getDateTime());
+        if (meetingDTO.getDurationMinutes() != null) {
+            meeting.setDurationMinutes(meetingDTO.getDurationMinutes());
+        }
+        meeting.setRecurrenceRule(meetingDTO.getRecurrenceRule());
+        meeting.setTimeZone(meetingDTO.getTimeZone());
         meeting.setLocation(meeting.getLocation());
 
         List<Participant> participants = participantService.getAllParticipantsByIds(meetingDTO.getParticipantIds());
         meeting.addParticipants(participants);
 
-        return meetingService.createMeeting(meeting);
+        return withConflicts(meetingService.createMeeting(meeting, conflicts), conflicts);
+    }
+
+    @PostMapping(value = "/batch", consumes = "application/json")
+    public ResponseEntity<List<MeetingBatchResult>> createMeetings(@RequestBody List<MeetingDTO> meetingDTOs) {
+        if (meetingDTOs.size() > MeetingService.MAX_BATCH_MEETINGS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(meetingService.createMeetings(meetingDTOs));
     }
 
     @PutMapping(value = "/{id}", consumes = "application/json")
-    public ResponseEntity<Meeting> updateMeeting(@PathVariable UUID id, @RequestBody @Valid MeetingDTO meetingDTO) {
+    public ResponseEntity<Meeting> updateMeeting(@PathVariable UUID id, @RequestBody @Valid MeetingDTO meetingDTO,
+            @RequestParam(defaultValue = "IGNORE") ConflictPolicy conflicts) {
         Meeting meeting = new Meeting();
         meeting.setId(meetingDTO.getId());
         meeting.setTitle(meetingDTO.getTitle());
         meeting.setDetails(meetingDTO.getDetails());
         meeting.setDateTime(meetingDTO.getDateTime());
+        if (meetingDTO.getDurationMinutes() != null) {
+            meeting.setDurationMinutes(meetingDTO.getDurationMinutes());
+        }
+        meeting.setRecurrenceRule(meetingDTO.getRecurrenceRule());
+        meeting.setTimeZone(meetingDTO.getTimeZone());
         meeting.setLocation(meetingDTO.getLocation());
 
-        return meetingService.updateMeeting(id, meeting)
-                .map(ResponseEntity::ok)
+        return meetingService.updateMeeting(id, meeting, conflicts)
+                .map(updated -> withConflicts(updated, conflicts))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Under {@link ConflictPolicy#WARN} the write goes through and the ids of
+     * the overlapping meetings are listed in {@link #CONFLICTS_HEADER}.
+     */
+    private ResponseEntity<Meeting> withConflicts(Meeting meeting, ConflictPolicy conflicts) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (conflicts == ConflictPolicy.WARN) {
+            String meetingIds = meetingService.findConflicts(meeting).stream()
+                    .map(conflict -> conflict.meetingId().toString())
+                    .distinct()
+                    .collect(Collectors.joining(","));
+            if (!meetingIds.isEmpty()) {
+                response.header(CONFLICTS_HEADER, meetingIds);
+            }
+        }
+        return response.body(meeting);
+    }
+
     @PostMapping(value = "/{id}/participants", consumes = "application/json")
     public ResponseEntity<Meeting> addParticipantsToMeeting(@PathVariable UUID id, @RequestBody List<UUID> participantIds) {
         return meetingService.addParticipantsToMeeting(id, participantIds)
@@ -71,6 +191,13 @@ public class MeetingController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PutMapping(value = "/{id}/participants", consumes = "application/json")
+    public ResponseEntity<Meeting> replaceParticipantsOfMeeting(@PathVariable UUID id, @RequestBody List<UUID> participantIds) {
+        return meetingService.replaceParticipantsOfMeeting(id, participantIds)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping(value = "/{id}/participants", consumes = "application/json")
     public ResponseEntity<Meeting> removeParticipantsFromMeeting(@PathVariable UUID id, @RequestBody List<UUID> participantIds) {
         return meetingService.removeParticipantsFromMeeting(id, participantIds)
@@ -92,6 +219,23 @@ public class MeetingController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PutMapping(value = "/{id}/occurrences", params = "start", consumes = "application/json")
+    public ResponseEntity<Meeting> overrideOccurrence(@PathVariable UUID id,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date start,
+            @RequestBody @Valid OccurrenceChanges changes) {
+        return meetingService.overrideOccurrence(id, start, changes)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping(value = "/{id}/occurrences", params = "start")
+    public ResponseEntity<Void> cancelOccurrence(@PathVariable UUID id,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date start) {
+        return meetingService.cancelOccurrence(id, start)
+                .map(series -> ResponseEntity.noContent().<Void>build())
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMeeting(@PathVariable UUID id) {
         meetingService.deleteMeeting(id);
@@ -1,17 +1,29 @@
 package rockets.data_access_layer.controller;
 
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import rockets.data_access_layer.dto.BusyInterval;
+import rockets.data_access_layer.dto.ParticipantView;
 import rockets.data_access_layer.entity.Participant;
 import rockets.data_access_layer.service.ParticipantService;
+import rockets.data_access_layer.service.ParticipantSuggestIndex;
+import rockets.data_access_layer.util.Pagination;
 
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/participants")
 public class ParticipantController {
+    /**
+     * The most participants one free/busy request may ask about, the same as
+     * a slot search.
+     */
+    static final int MAX_FREE_BUSY_PARTICIPANTS = 500;
+
     private final ParticipantService participantService;
 
     public ParticipantController(ParticipantService participantService) {
@@ -19,8 +31,47 @@ public class ParticipantController {
     }
 
     @GetMapping
-    public List<Participant> getAllParticipants() {
-        return participantService.getAllParticipants();
+    public ResponseEntity<List<Participant>> getAllParticipants(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_LIMIT) int limit) {
+        return Pagination.toResponse(participantService.getParticipantsPage(cursor, limit));
+    }
+
+    @GetMapping("/views")
+    public ResponseEntity<List<ParticipantView>> getParticipantViews(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_LIMIT) int limit) {
+        return Pagination.toResponse(participantService.getParticipantViewsPage(cursor, limit));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ParticipantView>> suggestParticipants(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (prefix.isBlank() || limit < 1 || limit > ParticipantSuggestIndex.MAX_SUGGESTIONS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(participantService.suggestParticipants(prefix, limit));
+    }
+
+    @GetMapping("/freebusy")
+    public ResponseEntity<List<BusyInterval>> getFreeBusy(@RequestParam List<UUID> ids,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date to) {
+        if (!from.before(to) || ids.size() > MAX_FREE_BUSY_PARTICIPANTS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(participantService.getBusyIntervals(ids, from, to));
+    }
+
+    @GetMapping("/{id}/freebusy")
+    public ResponseEntity<List<BusyInterval>> getParticipantFreeBusy(@PathVariable UUID id,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") Date to) {
+        if (!from.before(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (participantService.getParticipantById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(participantService.getBusyIntervals(List.of(id), from, to));
     }
 
     @GetMapping("/{id}")
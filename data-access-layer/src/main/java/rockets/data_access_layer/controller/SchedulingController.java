@@ -0,0 +1,31 @@
+package rockets.data_access_layer.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import rockets.data_access_layer.dto.FreeSlot;
+import rockets.data_access_layer.dto.SlotSearchRequest;
+import rockets.data_access_layer.service.SchedulingService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/scheduling")
+public class SchedulingController {
+    private final SchedulingService schedulingService;
+
+    public SchedulingController(SchedulingService schedulingService) {
+        this.schedulingService = schedulingService;
+    }
+
+    @PostMapping(value = "/find-slots", consumes = "application/json")
+    public ResponseEntity<List<FreeSlot>> findSlots(@RequestBody @Valid SlotSearchRequest request) {
+        long window = request.getTo().getTime() - request.getFrom().getTime();
+        if (window <= 0 || window > TimeUnit.DAYS.toMillis(SchedulingService.MAX_DAYS)
+                || !request.getWorkdayStart().isBefore(request.getWorkdayEnd())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(schedulingService.findSlots(request));
+    }
+}
@@ -1,12 +1,18 @@
 package rockets.data_access_layer.controller;
 
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import rockets.data_access_layer.dto.MeetingConflict;
+import rockets.data_access_layer.service.MeetingConflictException;
+import rockets.data_access_layer.util.InvalidCursorException;
+import rockets.data_access_layer.util.InvalidRecurrenceException;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestControllerAdvice
@@ -20,4 +26,28 @@ public class ValidationExceptionHandler {
 
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, String>> handleConstraintViolations(ConstraintViolationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+
+        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursor(InvalidCursorException ex) {
+        return new ResponseEntity<>(Map.of("cursor", ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidRecurrenceException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRecurrence(InvalidRecurrenceException ex) {
+        return new ResponseEntity<>(Map.of(ex.getField(), ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(MeetingConflictException.class)
+    public ResponseEntity<List<MeetingConflict>> handleMeetingConflict(MeetingConflictException ex) {
+        return new ResponseEntity<>(ex.getConflicts(), HttpStatus.CONFLICT);
+    }
 }
@@ -0,0 +1,6 @@
+package rockets.data_access_layer.dto;
+
+import java.util.UUID;
+
+public record AttachmentUrl(UUID meetingId, String url) {
+}
@@ -0,0 +1,9 @@
+package rockets.data_access_layer.dto;
+
+import java.util.UUID;
+
+/**
+ * A participant of a meeting, with what an iCalendar ATTENDEE line needs.
+ */
+public record Attendee(UUID meetingId, UUID participantId, String name, String email) {
+}
@@ -0,0 +1,12 @@
+package rockets.data_access_layer.dto;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * A meeting one participant attends, reduced to what the free/busy index
+ * needs. For a series, {@code start} is its first occurrence.
+ */
+public record BusySlot(UUID participantId, UUID meetingId, Date start, int durationMinutes, String recurrenceRule,
+        String timeZone) {
+}
@@ -0,0 +1,5 @@
+package rockets.data_access_layer.dto;
+
+public record CacheRegionStatistics(String region, long size, long hits, long misses, long evictions,
+                                    double hitRate) {
+}
@@ -0,0 +1,34 @@
+package rockets.data_access_layer.dto;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A meeting as written to an iCalendar feed. Selected directly in JPQL and
+ * completed per chunk with its attendees, attachment URLs and, for a
+ * series, the starts of its cancelled occurrences.
+ */
+public record CalendarEvent(
+        UUID id,
+        long version,
+        String title,
+        Date dateTime,
+        int durationMinutes,
+        String location,
+        String details,
+        String recurrenceRule,
+        String timeZone,
+        UUID seriesId,
+        Date originalDateTime,
+        List<Attendee> attendees,
+        List<String> attachmentUrls,
+        List<Date> exceptionDates) {
+
+    public CalendarEvent(UUID id, long version, String title, Date dateTime, int durationMinutes, String location,
+            String details, String recurrenceRule, String timeZone, UUID seriesId, Date originalDateTime) {
+        this(id, version, title, dateTime, durationMinutes, location, details, recurrenceRule, timeZone, seriesId,
+                originalDateTime, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+}
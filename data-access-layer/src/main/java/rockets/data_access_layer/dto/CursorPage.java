@@ -0,0 +1,30 @@
+package rockets.data_access_layer.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing together with the opaque token
+ * that continues after its last item ({@code null} on the final page).
+ */
+public class CursorPage<T> {
+    private final List<T> items;
+
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return this.items;
+    }
+
+    public String getNextCursor() {
+        return this.nextCursor;
+    }
+
+    public boolean hasNext() {
+        return this.nextCursor != null;
+    }
+}
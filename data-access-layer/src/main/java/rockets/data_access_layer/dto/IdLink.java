@@ -0,0 +1,10 @@
+package rockets.data_access_layer.dto;
+
+import java.util.UUID;
+
+/**
+ * One row of a join table as selected by the read-side queries, e.g. a
+ * (meeting id, participant id) pair.
+ */
+public record IdLink(UUID ownerId, UUID linkedId) {
+}
@@ -0,0 +1,11 @@
+package rockets.data_access_layer.dto;
+
+import java.util.Map;
+
+/**
+ * Why an event of an iCalendar import was not created: the line its
+ * {@code BEGIN:VEVENT} was on, its UID if it had one, and the errors
+ * (field to message) that kept it out.
+ */
+public record ImportError(int line, String uid, Map<String, String> errors) {
+}
@@ -0,0 +1,11 @@
+package rockets.data_access_layer.dto;
+
+import java.util.List;
+
+/**
+ * Written after every committed chunk of an iCalendar import: running
+ * totals and the errors of that chunk. The last line of a finished import
+ * has {@code done} set.
+ */
+public record ImportProgress(int processed, int imported, int failed, List<ImportError> errors, boolean done) {
+}
@@ -0,0 +1,19 @@
+package rockets.data_access_layer.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outcome of one item of a batch create: the id of the created meeting, or
+ * the validation errors (field to message) that kept it from being created.
+ */
+public record MeetingBatchResult(int index, UUID id, Map<String, String> errors) {
+
+    public static MeetingBatchResult created(int index, UUID id) {
+        return new MeetingBatchResult(index, id, Map.of());
+    }
+
+    public static MeetingBatchResult rejected(int index, Map<String, String> errors) {
+        return new MeetingBatchResult(index, null, errors);
+    }
+}
@@ -0,0 +1,17 @@
+package rockets.data_access_layer.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * An existing meeting of {@code participantId} that overlaps the meeting
+ * being created or moved.
+ */
+public record MeetingConflict(
+        UUID participantId,
+        UUID meetingId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm") Date start,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm") Date end) {
+}
@@ -2,6 +2,8 @@ package rockets.data_access_layer.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
@@ -20,6 +22,15 @@ public class MeetingDTO {
     @FutureOrPresent(message = "dateTime should be in the future or present")
     Date dateTime;
 
+    @Min(value = 1, message = "durationMinutes should be at least 1")
+    @Max(value = 1440, message = "durationMinutes should not exceed 1440")
+    Integer durationMinutes;
+
+    @Size(max = 500, message = "recurrenceRule should not exceed 500 characters")
+    String recurrenceRule;
+
+    String timeZone;
+
     String location;
 
     @Size(max = 10000, message = "length of details should not exceed 10000 characters")
@@ -51,6 +62,30 @@ public class MeetingDTO {
         this.dateTime = dateTime;
     }
 
+    public Integer getDurationMinutes() {
+        return this.durationMinutes;
+    }
+
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public String getRecurrenceRule() {
+        return this.recurrenceRule;
+    }
+
+    public void setRecurrenceRule(String recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+    }
+
+    public String getTimeZone() {
+        return this.timeZone;
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
     public String getLocation() {
         return this.location;
     }
@@ -0,0 +1,21 @@
+package rockets.data_access_layer.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * One occurrence of a meeting in a listing window. {@code seriesId} is the
+ * series an occurrence or override belongs to and null for a one-off
+ * meeting; {@code meetingId} is the row to fetch or edit, the series itself
+ * for generated occurrences.
+ */
+public record MeetingOccurrence(
+        UUID meetingId,
+        UUID seriesId,
+        String title,
+        String location,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm") Date start,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm") Date end) {
+}
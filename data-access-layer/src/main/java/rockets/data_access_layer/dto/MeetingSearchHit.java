@@ -0,0 +1,18 @@
+package rockets.data_access_layer.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * A meeting matching a keyword search, with its relevance score; higher
+ * scores rank first.
+ */
+public record MeetingSearchHit(
+        UUID id,
+        String title,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm") Date dateTime,
+        String location,
+        double score) {
+}
@@ -0,0 +1,28 @@
+package rockets.data_access_layer.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Flat read model of a meeting. Selected directly in JPQL, so no managed
+ * entity or lazy collection is ever touched while rendering it; related
+ * entities are referenced by id only.
+ */
+public record MeetingView(
+        UUID id,
+        String title,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm") Date dateTime,
+        String location,
+        String details,
+        Set<UUID> participantIds,
+        Set<UUID> attachmentIds,
+        Set<UUID> calendarIds) {
+
+    public MeetingView(UUID id, String title, Date dateTime, String location, String details) {
+        this(id, title, dateTime, location, details, new HashSet<>(), new HashSet<>(), new HashSet<>());
+    }
+}
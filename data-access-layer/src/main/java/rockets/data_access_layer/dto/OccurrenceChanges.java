@@ -0,0 +1,71 @@
+package rockets.data_access_layer.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+import java.util.Date;
+
+/**
+ * What to change about one occurrence of a series. Every field is optional;
+ * the ones left out keep the value the occurrence has.
+ */
+public class OccurrenceChanges {
+    @Size(min = 1, max = 2000, message = "title should be between 1 and 2000 characters")
+    String title;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    @FutureOrPresent(message = "dateTime should be in the future or present")
+    Date dateTime;
+
+    @Min(value = 1, message = "durationMinutes should be at least 1")
+    @Max(value = 1440, message = "durationMinutes should not exceed 1440")
+    Integer durationMinutes;
+
+    String location;
+
+    @Size(max = 10000, message = "length of details should not exceed 10000 characters")
+    String details;
+
+    public String getTitle() {
+        return this.title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Date getDateTime() {
+        return this.dateTime;
+    }
+
+    public void setDateTime(Date dateTime) {
+        this.dateTime = dateTime;
+    }
+
+    public Integer getDurationMinutes() {
+        return this.durationMinutes;
+    }
+
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public String getLocation() {
+        return this.location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getDetails() {
+        return this.details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+}
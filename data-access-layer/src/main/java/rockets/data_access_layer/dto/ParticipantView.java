@@ -0,0 +1,9 @@
+package rockets.data_access_layer.dto;
+
+import java.util.UUID;
+
+/**
+ * Flat read model of a participant.
+ */
+public record ParticipantView(UUID id, String name, String email) {
+}
@@ -0,0 +1,10 @@
+package rockets.data_access_layer.dto;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * An occurrence of a series that was cancelled or replaced by an override.
+ */
+public record SeriesException(UUID seriesId, Date originalDateTime) {
+}
@@ -0,0 +1,113 @@
+package rockets.data_access_layer.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+
+public class SlotSearchRequest {
+    @NotEmpty(message = "participantIds can not be empty")
+    @Size(max = 500, message = "participantIds should not contain more than 500 participants")
+    Set<UUID> participantIds;
+
+    @NotNull(message = "durationMinutes can not be null")
+    @Min(value = 1, message = "durationMinutes should be at least 1")
+    @Max(value = 1440, message = "durationMinutes should not exceed 1440")
+    Integer durationMinutes;
+
+    @NotNull(message = "from can not be null")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    Date from;
+
+    @NotNull(message = "to can not be null")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    Date to;
+
+    @NotNull(message = "workdayStart can not be null")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    LocalTime workdayStart = LocalTime.of(9, 0);
+
+    @NotNull(message = "workdayEnd can not be null")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    LocalTime workdayEnd = LocalTime.of(17, 0);
+
+    @NotNull(message = "zone can not be null")
+    ZoneId zone = ZoneOffset.UTC;
+
+    @Min(value = 1, message = "limit should be at least 1")
+    @Max(value = 100, message = "limit should not exceed 100")
+    int limit = 10;
+
+    public Set<UUID> getParticipantIds() {
+        return this.participantIds;
+    }
+
+    public void setParticipantIds(Set<UUID> participantIds) {
+        this.participantIds = participantIds;
+    }
+
+    public Integer getDurationMinutes() {
+        return this.durationMinutes;
+    }
+
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public Date getFrom() {
+        return this.from;
+    }
+
+    public void setFrom(Date from) {
+        this.from = from;
+    }
+
+    public Date getTo() {
+        return this.to;
+    }
+
+    public void setTo(Date to) {
+        this.to = to;
+    }
+
+    public LocalTime getWorkdayStart() {
+        return this.workdayStart;
+    }
+
+    public void setWorkdayStart(LocalTime workdayStart) {
+        this.workdayStart = workdayStart;
+    }
+
+    public LocalTime getWorkdayEnd() {
+        return this.workdayEnd;
+    }
+
+    public void setWorkdayEnd(LocalTime workdayEnd) {
+        this.workdayEnd = workdayEnd;
+    }
+
+    public ZoneId getZone() {
+        return this.zone;
+    }
+
+    public void setZone(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    public int getLimit() {
+        return this.limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,10 @@
+package rockets.data_access_layer.dto;
+
+import java.util.UUID;
+
+/**
+ * The id and optimistic-lock version of one row that contributes to a
+ * rendered response, used to derive its ETag without loading the entity.
+ */
+public record VersionStamp(UUID id, long version) {
+}
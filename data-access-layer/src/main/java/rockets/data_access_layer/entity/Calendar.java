@@ -1,10 +1,13 @@
 package rockets.data_access_layer.entity;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.List;
@@ -12,12 +15,19 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@NamedEntityGraph(name = "Calendar.meetings", attributeNodes = @NamedAttributeNode("meetings"))
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 public class Calendar {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     UUID id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonIgnore
+    long version;
+
     @Size(min = 1, max = 2000, message = "title should be between 1 and 2000 characters")
     @Column(nullable = false)
     String title;
@@ -28,6 +38,7 @@ public class Calendar {
 
     @Size(min = 1, message = "At least one meeting is required")
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @BatchSize(size = 100)
     @JoinTable(
             name = "calendar_meeting",
             joinColumns = @JoinColumn(name = "calendar_id"),
@@ -44,6 +55,14 @@ public class Calendar {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public String getTitle() {
         return title;
     }
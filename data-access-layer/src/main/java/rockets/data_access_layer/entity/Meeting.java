@@ -2,21 +2,41 @@ package rockets.data_access_layer.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.util.*;
 
 @Entity
+@NamedEntityGraph(name = "Meeting.participants", attributeNodes = @NamedAttributeNode("participants"))
+@Table(indexes = {
+        @Index(name = "idx_meeting_date_time", columnList = "date_time"),
+        @Index(name = "idx_meeting_series", columnList = "series_id, original_date_time")
+})
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 public class Meeting {
+    public static final int DEFAULT_DURATION_MINUTES = 60;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     UUID id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonIgnore
+    long version;
+
     @Size(min = 1, max = 2000, message = "title should be between 1 and 2000 characters")
     @Column(nullable = false)
     String title;
@@ -24,25 +44,73 @@ public class Meeting {
     @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
     @FutureOrPresent(message = "dateTime should be in the future or present")
+    @Column(name = "date_time")
     Date dateTime;
+
+    @Min(value = 1, message = "durationMinutes should be at least 1")
+    @Max(value = 1440, message = "durationMinutes should not exceed 1440")
+    @ColumnDefault("60")
+    @Column(name = "duration_minutes", nullable = false)
+    int durationMinutes = DEFAULT_DURATION_MINUTES;
+
+    /**
+     * A {@link rockets.data_access_layer.util.RecurrenceRule} in canonical
+     * form, or null for a one-off meeting. A series is stored once and its
+     * occurrences are expanded on read.
+     */
+    @Size(max = 500, message = "recurrenceRule should not exceed 500 characters")
+    @Column(name = "recurrence_rule", length = 500)
+    String recurrenceRule;
+
+    /**
+     * Zone in which a series keeps its wall-clock time, UTC if null.
+     */
+    @Column(name = "time_zone")
+    String timeZone;
+
+    /**
+     * Start of the final occurrence of a bounded series, null for an
+     * unbounded one, so series can be filtered by window in SQL.
+     */
+    @JsonIgnore
+    @Column(name = "last_occurrence")
+    Date lastOccurrence;
+
+    /**
+     * For an override of a single occurrence, the series it replaces an
+     * occurrence of and that occurrence's original start.
+     */
+    @Column(name = "series_id")
+    UUID seriesId;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    @Column(name = "original_date_time")
+    Date originalDateTime;
+
     String location;
 
     @Size(max = 10000, message = "length of details should not exceed 10000 characters")
     String details;
 
     @ManyToMany(mappedBy = "meetings", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @BatchSize(size = 100)
     Set<Calendar> calendars = new HashSet<>();
 
     @Size(min = 1, message = "At least one participant is required")
     @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "meeting-participants")
     @JoinTable(
             name = "meeting_participant",
             joinColumns = @JoinColumn(name = "meeting_id"),
-            inverseJoinColumns = @JoinColumn(name = "participant_id")
+            inverseJoinColumns = @JoinColumn(name = "participant_id"),
+            indexes = @Index(name = "idx_meeting_participant_participant", columnList = "participant_id, meeting_id")
     )
     Set<Participant> participants = new HashSet<>();
 
     @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "meeting-attachments")
     @JoinTable(
             name = "meeting_attachment",
             joinColumns = @JoinColumn(name = "meeting_id"),
@@ -50,6 +118,17 @@ public class Meeting {
     )
     Set<Attachment> attachments = new HashSet<>();
 
+    /**
+     * Original starts of the occurrences that were cancelled or replaced
+     * by an override.
+     */
+    @ElementCollection
+    @BatchSize(size = 100)
+    @CollectionTable(name = "meeting_exception", joinColumns = @JoinColumn(name = "meeting_id"))
+    @Column(name = "original_date_time", nullable = false)
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    Set<Date> exceptionDates = new HashSet<>();
+
     public UUID getId() {
         return this.id;
     }
@@ -58,6 +137,14 @@ public class Meeting {
         this.id = id;
     }
 
+    public long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public String getTitle() {
         return this.title;
     }
@@ -74,6 +161,54 @@ public class Meeting {
         this.dateTime = dateTime;
     }
 
+    public int getDurationMinutes() {
+        return this.durationMinutes;
+    }
+
+    public void setDurationMinutes(int durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public String getRecurrenceRule() {
+        return this.recurrenceRule;
+    }
+
+    public void setRecurrenceRule(String recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+    }
+
+    public String getTimeZone() {
+        return this.timeZone;
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    public Date getLastOccurrence() {
+        return this.lastOccurrence;
+    }
+
+    public void setLastOccurrence(Date lastOccurrence) {
+        this.lastOccurrence = lastOccurrence;
+    }
+
+    public UUID getSeriesId() {
+        return this.seriesId;
+    }
+
+    public void setSeriesId(UUID seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public Date getOriginalDateTime() {
+        return this.originalDateTime;
+    }
+
+    public void setOriginalDateTime(Date originalDateTime) {
+        this.originalDateTime = originalDateTime;
+    }
+
     public String getLocation() {
         return this.location;
     }
@@ -122,6 +257,14 @@ public class Meeting {
         this.attachments = attachments;
     }
 
+    public Set<Date> getExceptionDates() {
+        return this.exceptionDates;
+    }
+
+    public void setExceptionDates(Set<Date> exceptionDates) {
+        this.exceptionDates = exceptionDates;
+    }
+
     public Set<Calendar> getCalendars() {
         return calendars;
     }
@@ -0,0 +1,22 @@
+package rockets.data_access_layer.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates the id of a new entity as a
+ * {@link rockets.data_access_layer.util.TimeOrderedUuid time-ordered UUID},
+ * so rows and join-table links are appended to their indexes in insertion
+ * order.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedId {
+}
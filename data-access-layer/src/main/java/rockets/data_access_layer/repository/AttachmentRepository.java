@@ -1,9 +1,14 @@
 package rockets.data_access_layer.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import rockets.data_access_layer.entity.Attachment;
 
+import java.util.List;
 import java.util.UUID;
 
-public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
+public interface AttachmentRepository extends JpaRepository<Attachment, UUID>, AttachmentRepositoryCustom {
+    List<Attachment> findAllByOrderByIdAsc(Limit limit);
+
+    List<Attachment> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
 }
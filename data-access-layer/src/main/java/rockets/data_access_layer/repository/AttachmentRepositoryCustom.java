@@ -0,0 +1,10 @@
+package rockets.data_access_layer.repository;
+
+import rockets.data_access_layer.entity.Attachment;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AttachmentRepositoryCustom {
+    List<Attachment> findAllById(Iterable<UUID> ids);
+}
@@ -0,0 +1,18 @@
+package rockets.data_access_layer.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import rockets.data_access_layer.entity.Attachment;
+
+import java.util.List;
+import java.util.UUID;
+
+class AttachmentRepositoryImpl implements AttachmentRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Attachment> findAllById(Iterable<UUID> ids) {
+        return CachedLookups.findAllById(entityManager, Attachment.class, ids);
+    }
+}
@@ -0,0 +1,36 @@
+package rockets.data_access_layer.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Id lookups that go through the persistence context and the second-level cache
+ * before touching the database. A derived {@code where id in (...)} query always
+ * hits the database, so only the ids missing from both caches are fetched here.
+ */
+abstract class CachedLookups {
+    private CachedLookups() {
+    }
+
+    static <T> List<T> findAllById(EntityManager entityManager, Class<T> type, Iterable<UUID> ids) {
+        List<UUID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        if (idList.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(type)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(idList)
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(ArrayList::new, List::add, List::addAll);
+    }
+}
@@ -1,10 +1,112 @@
 package rockets.data_access_layer.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import rockets.data_access_layer.dto.CalendarEvent;
+import rockets.data_access_layer.dto.CalendarView;
+import rockets.data_access_layer.dto.IdLink;
+import rockets.data_access_layer.dto.VersionStamp;
 import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.util.Export;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface CalendarRepository extends JpaRepository<Calendar, UUID> {
+    @Override
+    @EntityGraph("Calendar.meetings")
+    Optional<Calendar> findById(UUID id);
 
+    List<Calendar> findAllByOrderByIdAsc(Limit limit);
+
+    List<Calendar> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    @Query("select new rockets.data_access_layer.dto.CalendarView(c.id, c.title, c.details) from Calendar c order by c.id")
+    List<CalendarView> findViews(Limit limit);
+
+    @Query("select new rockets.data_access_layer.dto.CalendarView(c.id, c.title, c.details) from Calendar c " +
+            "where c.id > :after order by c.id")
+    List<CalendarView> findViewsAfter(@Param("after") UUID after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Export.CHUNK_SIZE))
+    @Query("select new rockets.data_access_layer.dto.CalendarView(c.id, c.title, c.details) from Calendar c order by c.id")
+    Stream<CalendarView> streamViews();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Export.CHUNK_SIZE))
+    @Query("select new rockets.data_access_layer.dto.CalendarEvent(m.id, m.version, m.title, m.dateTime, " +
+            "m.durationMinutes, m.location, m.details, m.recurrenceRule, m.timeZone, m.seriesId, m.originalDateTime) " +
+            "from Calendar c join c.meetings m where c.id = :calendarId and m.dateTime is not null order by m.id")
+    Stream<CalendarEvent> streamEvents(@Param("calendarId") UUID calendarId);
+
+    @Query("select new rockets.data_access_layer.dto.CalendarView(c.id, c.title, c.details) from Calendar c " +
+            "where c.id = :id")
+    Optional<CalendarView> findViewById(@Param("id") UUID id);
+
+    @Query("select new rockets.data_access_layer.dto.IdLink(c.id, m.id) from Calendar c join c.meetings m " +
+            "where c.id in :calendarIds")
+    List<IdLink> findMeetingLinks(@Param("calendarIds") Collection<UUID> calendarIds);
+
+    @Query("select distinct c.id from Calendar c join c.meetings m join m.participants p where p.id = :participantId")
+    List<UUID> findIdsByParticipantId(@Param("participantId") UUID participantId);
+
+    /**
+     * Adds the existing ones of {@code meetingIds} to a calendar with one
+     * statement, skipping those it already has, without loading the
+     * calendar's meetings collection.
+     * <p>
+     * Naming the join table as query space keeps Hibernate from evicting
+     * the whole second-level cache. Neither side of this link has a cached
+     * collection, so no region needs to be evicted.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "calendar_meeting"))
+    @Query(value = "insert into calendar_meeting (calendar_id, meeting_id) " +
+            "select :calendarId, m.id from meeting m where m.id in :meetingIds " +
+            "on conflict do nothing", nativeQuery = true)
+    int insertMeetingLinks(@Param("calendarId") UUID calendarId, @Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "calendar_meeting"))
+    @Query(value = "delete from calendar_meeting where calendar_id = :calendarId and meeting_id in :meetingIds",
+            nativeQuery = true)
+    int deleteMeetingLinks(@Param("calendarId") UUID calendarId, @Param("meetingIds") Collection<UUID> meetingIds);
+
+    /**
+     * Bumps the version of a calendar whose meetings were changed directly,
+     * so ETags change and concurrent changes to it are serialised.
+     */
+    @Modifying
+    @Query("update Calendar c set c.version = c.version + 1 where c.id = :id")
+    int incrementVersion(@Param("id") UUID id);
+
+    @Query("select count(m) from Calendar c join c.meetings m where c.id = :id")
+    long countMeetings(@Param("id") UUID id);
+
+    /**
+     * Deletes those of the given calendars that have no meetings left.
+     */
+    @Modifying
+    @Query("delete from Calendar c where c.id in :calendarIds and c.meetings is empty")
+    int deleteEmpty(@Param("calendarIds") Collection<UUID> calendarIds);
+
+    @Query("select distinct c.id from Calendar c join c.meetings m join m.attachments a where a.id = :attachmentId")
+    List<UUID> findIdsByAttachmentId(@Param("attachmentId") UUID attachmentId);
+
+    @Query("select new rockets.data_access_layer.dto.VersionStamp(c.id, c.version) from Calendar c " +
+            "where c.id in :calendarIds")
+    List<VersionStamp> findVersions(@Param("calendarIds") Collection<UUID> calendarIds);
+
+    @Query("select new rockets.data_access_layer.dto.VersionStamp(m.id, m.version) from Calendar c join c.meetings m " +
+            "where c.id in :calendarIds")
+    List<VersionStamp> findMeetingVersions(@Param("calendarIds") Collection<UUID> calendarIds);
 }
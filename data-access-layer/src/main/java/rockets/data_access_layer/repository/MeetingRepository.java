@@ -1,9 +1,186 @@
 package rockets.data_access_layer.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import rockets.data_access_layer.dto.AttachmentUrl;
+import rockets.data_access_layer.dto.Attendee;
+import rockets.data_access_layer.dto.BusySlot;
+import rockets.data_access_layer.dto.IdLink;
+import rockets.data_access_layer.dto.MeetingView;
+import rockets.data_access_layer.dto.SeriesException;
+import rockets.data_access_layer.dto.VersionStamp;
 import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.util.Export;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface MeetingRepository extends JpaRepository<Meeting, UUID> {
+public interface MeetingRepository extends JpaRepository<Meeting, UUID>, JpaSpecificationExecutor<Meeting> {
+    @Override
+    @EntityGraph("Meeting.participants")
+    Optional<Meeting> findById(UUID id);
+
+    List<Meeting> findAllByOrderByIdAsc(Limit limit);
+
+    List<Meeting> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    @Query("select new rockets.data_access_layer.dto.MeetingView(m.id, m.title, m.dateTime, m.location, m.details) " +
+            "from Meeting m order by m.id")
+    List<MeetingView> findViews(Limit limit);
+
+    @Query("select new rockets.data_access_layer.dto.MeetingView(m.id, m.title, m.dateTime, m.location, m.details) " +
+            "from Meeting m where m.id > :after order by m.id")
+    List<MeetingView> findViewsAfter(@Param("after") UUID after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Export.CHUNK_SIZE))
+    @Query("select new rockets.data_access_layer.dto.MeetingView(m.id, m.title, m.dateTime, m.location, m.details) " +
+            "from Meeting m order by m.id")
+    Stream<MeetingView> streamViews();
+
+    @Query("select new rockets.data_access_layer.dto.MeetingView(m.id, m.title, m.dateTime, m.location, m.details) " +
+            "from Meeting m where m.id = :id")
+    Optional<MeetingView> findViewById(@Param("id") UUID id);
+
+    @Query("select new rockets.data_access_layer.dto.MeetingView(m.id, m.title, m.dateTime, m.location, m.details) " +
+            "from Meeting m where m.id in :ids")
+    List<MeetingView> findViewsByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select new rockets.data_access_layer.dto.IdLink(m.id, p.id) from Meeting m join m.participants p " +
+            "where m.id in :meetingIds")
+    List<IdLink> findParticipantLinks(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Query("select new rockets.data_access_layer.dto.IdLink(m.id, a.id) from Meeting m join m.attachments a " +
+            "where m.id in :meetingIds")
+    List<IdLink> findAttachmentLinks(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Query("select new rockets.data_access_layer.dto.IdLink(m.id, c.id) from Meeting m join m.calendars c " +
+            "where m.id in :meetingIds")
+    List<IdLink> findCalendarLinks(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Query("select new rockets.data_access_layer.dto.Attendee(m.id, p.id, p.name, p.email) from Meeting m " +
+            "join m.participants p where m.id in :meetingIds")
+    List<Attendee> findAttendees(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Query("select new rockets.data_access_layer.dto.AttachmentUrl(m.id, a.url) from Meeting m " +
+            "join m.attachments a where m.id in :meetingIds")
+    List<AttachmentUrl> findAttachmentUrls(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Query("select new rockets.data_access_layer.dto.VersionStamp(m.id, m.version) from Meeting m " +
+            "where m.id in :meetingIds")
+    List<VersionStamp> findVersions(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Query("select distinct new rockets.data_access_layer.dto.VersionStamp(p.id, p.version) from Meeting m " +
+            "join m.participants p where m.id in :meetingIds")
+    List<VersionStamp> findParticipantVersions(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Query("select distinct new rockets.data_access_layer.dto.VersionStamp(a.id, a.version) from Meeting m " +
+            "join m.attachments a where m.id in :meetingIds")
+    List<VersionStamp> findAttachmentVersions(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Query("select new rockets.data_access_layer.dto.BusySlot(p.id, m.id, m.dateTime, m.durationMinutes, " +
+            "m.recurrenceRule, m.timeZone) from Meeting m " +
+            "join m.participants p where p.id in :participantIds and m.dateTime is not null")
+    List<BusySlot> findBusySlots(@Param("participantIds") Collection<UUID> participantIds);
+
+    @Query("select new rockets.data_access_layer.dto.SeriesException(m.id, e) from Meeting m " +
+            "join m.exceptionDates e where m.id in :seriesIds")
+    List<SeriesException> findSeriesExceptions(@Param("seriesIds") Collection<UUID> seriesIds);
+
+    @Query("select new rockets.data_access_layer.dto.SeriesException(m.id, e) from Meeting m " +
+            "join m.exceptionDates e where m.id in :seriesIds and not exists (" +
+            "select 1 from Meeting o where o.seriesId = m.id and o.originalDateTime = e)")
+    List<SeriesException> findCancelledOccurrences(@Param("seriesIds") Collection<UUID> seriesIds);
+
+    Optional<Meeting> findBySeriesIdAndOriginalDateTime(UUID seriesId, Date originalDateTime);
+
+    /**
+     * The given meetings that exist, together with the overrides of any
+     * series among them.
+     */
+    @Query("select m.id from Meeting m where m.id in :ids or m.seriesId in :ids")
+    List<UUID> findIdsWithOverrides(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Meetings the participant is the only participant of, which are left
+     * without any once the participant is gone.
+     */
+    @Query("select m.id from Meeting m join m.participants p " +
+            "where p.id = :participantId and size(m.participants) = 1")
+    List<UUID> findIdsAttendedOnlyBy(@Param("participantId") UUID participantId);
+
+    /**
+     * Bumps the version of a meeting whose links were changed directly, so
+     * ETags change and concurrent link changes to it are serialised.
+     */
+    @Modifying
+    @Query("update Meeting m set m.version = m.version + 1 where m.id = :id")
+    int incrementVersion(@Param("id") UUID id);
+
+    @Query("select count(p) from Meeting m join m.participants p where m.id = :id")
+    long countParticipants(@Param("id") UUID id);
+
+    /**
+     * Adds the existing ones of {@code participantIds} to a meeting with one
+     * statement, skipping those it already has, without loading the
+     * meeting's participants.
+     * <p>
+     * Hibernate schedules a second-level cache cleanup for every native
+     * update, and without query spaces it evicts every region. The link
+     * statements below therefore name their join table. The cleanup only
+     * evicts the regions of entities whose table is named, along with the
+     * collections of those entities. No entity maps a join table, so
+     * nothing is evicted, not even the meeting's cached collection. Callers
+     * evict that one entry themselves.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_participant"))
+    @Query(value = "insert into meeting_participant (meeting_id, participant_id) " +
+            "select :meetingId, p.id from participant p where p.id in :participantIds " +
+            "on conflict do nothing", nativeQuery = true)
+    int insertParticipantLinks(@Param("meetingId") UUID meetingId,
+            @Param("participantIds") Collection<UUID> participantIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_participant"))
+    @Query(value = "delete from meeting_participant " +
+            "where meeting_id = :meetingId and participant_id in :participantIds", nativeQuery = true)
+    int deleteParticipantLinks(@Param("meetingId") UUID meetingId,
+            @Param("participantIds") Collection<UUID> participantIds);
+
+    /**
+     * Removes every participant of a meeting but {@code participantIds}.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_participant"))
+    @Query(value = "delete from meeting_participant " +
+            "where meeting_id = :meetingId and participant_id not in :participantIds", nativeQuery = true)
+    int deleteParticipantLinksExcept(@Param("meetingId") UUID meetingId,
+            @Param("participantIds") Collection<UUID> participantIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_attachment"))
+    @Query(value = "insert into meeting_attachment (meeting_id, attachment_id) " +
+            "select :meetingId, a.id from attachment a where a.id in :attachmentIds " +
+            "on conflict do nothing", nativeQuery = true)
+    int insertAttachmentLinks(@Param("meetingId") UUID meetingId,
+            @Param("attachmentIds") Collection<UUID> attachmentIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_attachment"))
+    @Query(value = "delete from meeting_attachment " +
+            "where meeting_id = :meetingId and attachment_id in :attachmentIds", nativeQuery = true)
+    int deleteAttachmentLinks(@Param("meetingId") UUID meetingId,
+            @Param("attachmentIds") Collection<UUID> attachmentIds);
 }
@@ -0,0 +1,63 @@
+package rockets.data_access_layer.repository;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Composable filters for {@link MeetingRepository}. Membership filters are
+ * expressed as correlated EXISTS subqueries against the join tables so they
+ * never multiply rows and can use the (owner_id, meeting_id) indexes.
+ */
+public abstract class MeetingSpecifications {
+    public static Specification<Meeting> startsBetween(Date from, Date to) {
+        return (meeting, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(meeting.get("dateTime"), from),
+                cb.lessThan(meeting.get("dateTime"), to));
+    }
+
+    /**
+     * One-off meetings starting in {@code [from, to)} and series with an
+     * occurrence that may: started before {@code to} and, if bounded, not
+     * finished before {@code from}.
+     */
+    public static Specification<Meeting> occursBetween(Date from, Date to) {
+        return (meeting, query, cb) -> cb.or(
+                cb.and(cb.isNull(meeting.get("recurrenceRule")),
+                        cb.greaterThanOrEqualTo(meeting.get("dateTime"), from),
+                        cb.lessThan(meeting.get("dateTime"), to)),
+                cb.and(cb.isNotNull(meeting.get("recurrenceRule")),
+                        cb.lessThan(meeting.get("dateTime"), to),
+                        cb.or(cb.isNull(meeting.get("lastOccurrence")),
+                                cb.greaterThanOrEqualTo(meeting.get("lastOccurrence"), from))));
+    }
+
+    public static Specification<Meeting> inCalendar(UUID calendarId) {
+        return (meeting, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<Meeting> correlated = subquery.correlate(meeting);
+            Join<Meeting, Calendar> calendars = correlated.join("calendars");
+            subquery.select(cb.literal(1))
+                    .where(cb.equal(calendars.get("id"), calendarId));
+            return cb.exists(subquery);
+        };
+    }
+
+    public static Specification<Meeting> withParticipant(UUID participantId) {
+        return (meeting, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<Meeting> correlated = subquery.correlate(meeting);
+            Join<Meeting, Participant> participants = correlated.join("participants");
+            subquery.select(cb.literal(1))
+                    .where(cb.equal(participants.get("id"), participantId));
+            return cb.exists(subquery);
+        };
+    }
+}
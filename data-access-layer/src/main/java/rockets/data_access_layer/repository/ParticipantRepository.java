@@ -1,9 +1,41 @@
 package rockets.data_access_layer.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import rockets.data_access_layer.dto.ParticipantView;
 import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.util.Export;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ParticipantRepository extends JpaRepository<Participant, UUID> {
+public interface ParticipantRepository extends JpaRepository<Participant, UUID>, ParticipantRepositoryCustom {
+    List<Participant> findAllByOrderByIdAsc(Limit limit);
+
+    List<Participant> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    @Query("select new rockets.data_access_layer.dto.ParticipantView(p.id, p.name, p.email) from Participant p order by p.id")
+    List<ParticipantView> findViews(Limit limit);
+
+    @Query("select new rockets.data_access_layer.dto.ParticipantView(p.id, p.name, p.email) from Participant p " +
+            "where p.id > :after order by p.id")
+    List<ParticipantView> findViewsAfter(@Param("after") UUID after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Export.CHUNK_SIZE))
+    @Query("select new rockets.data_access_layer.dto.ParticipantView(p.id, p.name, p.email) from Participant p order by p.id")
+    Stream<ParticipantView> streamViews();
+
+    @Query("select new rockets.data_access_layer.dto.ParticipantView(p.id, p.name, p.email) from Participant p " +
+            "where p.id in :ids")
+    List<ParticipantView> findViewsByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select p from Participant p where lower(p.email) in :emails")
+    List<Participant> findAllByEmailIgnoreCaseIn(@Param("emails") Collection<String> emails);
 }
@@ -0,0 +1,10 @@
+package rockets.data_access_layer.repository;
+
+import rockets.data_access_layer.entity.Participant;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ParticipantRepositoryCustom {
+    List<Participant> findAllById(Iterable<UUID> ids);
+}
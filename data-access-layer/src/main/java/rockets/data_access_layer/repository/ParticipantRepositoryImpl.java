@@ -0,0 +1,18 @@
+package rockets.data_access_layer.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import rockets.data_access_layer.entity.Participant;
+
+import java.util.List;
+import java.util.UUID;
+
+class ParticipantRepositoryImpl implements ParticipantRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Participant> findAllById(Iterable<UUID> ids) {
+        return CachedLookups.findAllById(entityManager, Participant.class, ids);
+    }
+}
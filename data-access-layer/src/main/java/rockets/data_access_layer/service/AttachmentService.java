@@ -1,25 +1,44 @@
 package rockets.data_access_layer.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
+import rockets.data_access_layer.dto.CursorPage;
 import rockets.data_access_layer.entity.Attachment;
-import rockets.data_access_layer.entity.Meeting;
 import rockets.data_access_layer.repository.AttachmentRepository;
+import rockets.data_access_layer.repository.CalendarRepository;
+import rockets.data_access_layer.util.Pagination;
 
 import java.util.*;
 
+@Timed(value = "service.invocations", histogram = true)
 @Service
 public class AttachmentService {
     private final AttachmentRepository attachmentRepository;
 
-    public AttachmentService(AttachmentRepository attachmentRepository) {
+    private final CalendarRepository calendarRepository;
+
+    private final CalendarViewCache calendarViewCache;
+
+    public AttachmentService(AttachmentRepository attachmentRepository, CalendarRepository calendarRepository,
+            CalendarViewCache calendarViewCache) {
         this.attachmentRepository = attachmentRepository;
+        this.calendarRepository = calendarRepository;
+        this.calendarViewCache = calendarViewCache;
     }
 
     public List<Attachment> getAllAttachments() {
         return attachmentRepository.findAll();
     }
 
+    public CursorPage<Attachment> getAttachmentsPage(String cursor, int limit) {
+        List<Attachment> rows = Pagination.decodeCursor(cursor)
+                .map(after -> attachmentRepository.findAllByIdGreaterThanOrderByIdAsc(after, Pagination.probeLimit(limit)))
+                .orElseGet(() -> attachmentRepository.findAllByOrderByIdAsc(Pagination.probeLimit(limit)));
+        return Pagination.toPage(rows, limit, Attachment::getId);
+    }
+
     public Optional<Attachment> getAttachmentById(UUID id) {
         return attachmentRepository.findById(id);
     }
@@ -31,21 +50,24 @@ public class AttachmentService {
     public Optional<Attachment> updateAttachment(UUID id, Attachment updatedAttachment) {
         return attachmentRepository.findById(id).map(attachment -> {
             attachment.setUrl(updatedAttachment.getUrl());
-            return attachmentRepository.save(attachment);
+            Attachment saved = attachmentRepository.save(attachment);
+            calendarViewCache.evict(calendarRepository.findIdsByAttachmentId(id));
+            return saved;
         });
     }
 
+    /**
+     * Deletes the attachment and removes it from its meetings without
+     * loading them.
+     */
+    @Transactional
     public void deleteAttachment(UUID id) {
-        Attachment attachment = attachmentRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Attachment not found"));
-
-        Set<Meeting> meetings = new HashSet<>(attachment.getMeetings());
-
-        for (Meeting meeting : meetings) {
-            meeting.getAttachments().remove(attachment);
-            attachment.getMeetings().remove(meeting);
+        if (!attachmentRepository.existsById(id)) {
+            throw new EntityNotFoundException("Attachment not found");
         }
+        List<UUID> calendarIds = calendarRepository.findIdsByAttachmentId(id);
 
-        attachmentRepository.deleteById(id);
+        attachmentRepository.deleteAllByIdInBatch(List.of(id));
+        calendarViewCache.evict(calendarIds);
     }
 }
@@ -0,0 +1,55 @@
+package rockets.data_access_layer.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Service;
+import rockets.data_access_layer.dto.CacheRegionStatistics;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class CacheStatisticsService {
+    private final EntityManagerFactory entityManagerFactory;
+    private final CalendarViewCache calendarViewCache;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory, CalendarViewCache calendarViewCache) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.calendarViewCache = calendarViewCache;
+    }
+
+    public List<CacheRegionStatistics> getRegionStatistics() {
+        List<CacheRegionStatistics> statistics = new ArrayList<>(getEntityRegionStatistics());
+        statistics.add(calendarViewCache.statistics());
+        return statistics;
+    }
+
+    private List<CacheRegionStatistics> getEntityRegionStatistics() {
+        CacheImplementor cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        if (!(cache.getRegionFactory() instanceof JCacheRegionFactory regionFactory)) {
+            return List.of();
+        }
+        CacheManager cacheManager = regionFactory.getCacheManager();
+        return cache.getCacheRegionNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .map(CacheStatisticsService::toStatistics)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CacheRegionStatistics toStatistics(Cache<Object, Object> region) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine =
+                region.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+        CacheStats stats = caffeine.stats();
+        return new CacheRegionStatistics(region.getName(), caffeine.estimatedSize(), stats.hitCount(),
+                stats.missCount(), stats.evictionCount(), stats.hitRate());
+    }
+}
@@ -0,0 +1,280 @@
+package rockets.data_access_layer.service;
+
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import rockets.data_access_layer.dto.ImportError;
+import rockets.data_access_layer.dto.ImportProgress;
+import rockets.data_access_layer.dto.MeetingBatchResult;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.util.Export;
+import rockets.data_access_layer.util.ICalendarReader;
+import rockets.data_access_layer.util.ICalendarReader.Event;
+import rockets.data_access_layer.util.ICalendarReader.Property;
+import rockets.data_access_layer.util.InvalidRecurrenceException;
+import rockets.data_access_layer.util.RecurrenceRule;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Imports iCalendar uploads into a calendar. The upload is parsed one event
+ * at a time and imported in chunks of {@link Export#CHUNK_SIZE} events, each
+ * in its own transaction: attendees are upserted by email with one lookup
+ * per chunk, meetings are inserted in JDBC batches and linked to the
+ * calendar with a single statement. A chunk that has been reported as
+ * imported stays imported if a later one fails.
+ * <p>
+ * Events map onto meetings as they would be created through the API, so an
+ * event that the API would reject, e.g. one in the past or without
+ * attendees, is reported back with its line number instead. Changes to
+ * single occurrences of a series ({@code RECURRENCE-ID}) are not imported.
+ */
+@Service
+public class CalendarImportService {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final Pattern WEEKS = Pattern.compile("P(\\d+)W");
+
+    private static final int MAX_NAME_LENGTH = 600;
+
+    private final CalendarService calendarService;
+
+    private final MeetingService meetingService;
+
+    private final ParticipantService participantService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Validator validator;
+
+    public CalendarImportService(CalendarService calendarService, MeetingService meetingService,
+            ParticipantService participantService, TransactionTemplate transactionTemplate, Validator validator) {
+        this.calendarService = calendarService;
+        this.meetingService = meetingService;
+        this.participantService = participantService;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+    }
+
+    /**
+     * Imports every event {@code reader} yields into calendar
+     * {@code calendarId}, handing {@code progressConsumer} the running
+     * totals after each committed chunk and once more when done.
+     */
+    public void importCalendar(UUID calendarId, Reader reader, Consumer<ImportProgress> progressConsumer)
+            throws IOException {
+        ICalendarReader events = new ICalendarReader(reader);
+        ImportProgress progress = new ImportProgress(0, 0, 0, List.of(), false);
+        List<Event> chunk = new ArrayList<>(Export.CHUNK_SIZE);
+        for (Event event; (event = events.nextEvent()) != null; ) {
+            chunk.add(event);
+            if (chunk.size() == Export.CHUNK_SIZE) {
+                progress = importChunk(calendarId, chunk, progress);
+                progressConsumer.accept(progress);
+                chunk = new ArrayList<>(Export.CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            progress = importChunk(calendarId, chunk, progress);
+            progressConsumer.accept(progress);
+        }
+        progressConsumer.accept(
+                new ImportProgress(progress.processed(), progress.imported(), progress.failed(), List.of(), true));
+    }
+
+    private record Candidate(Event event, Meeting meeting, Map<String, String> attendees) {
+    }
+
+    private ImportProgress importChunk(UUID calendarId, List<Event> events, ImportProgress progress) {
+        List<ImportError> errors = new ArrayList<>();
+        List<Candidate> candidates = new ArrayList<>(events.size());
+        for (Event event : events) {
+            Map<String, String> eventErrors = new HashMap<>();
+            Map<String, String> attendees = new HashMap<>();
+            Meeting meeting = toMeeting(event, attendees, eventErrors);
+            if (eventErrors.isEmpty()) {
+                candidates.add(new Candidate(event, meeting, attendees));
+            } else {
+                errors.add(new ImportError(event.line(), uidOf(event), eventErrors));
+            }
+        }
+
+        int imported = candidates.isEmpty() ? 0 : transactionTemplate.execute(status -> {
+            Map<String, String> namesByEmail = new HashMap<>();
+            candidates.forEach(candidate -> candidate.attendees().forEach(namesByEmail::putIfAbsent));
+            Map<String, Participant> participantsByEmail = participantService.upsertByEmail(namesByEmail);
+
+            List<Meeting> meetings = new ArrayList<>(candidates.size());
+            for (Candidate candidate : candidates) {
+                candidate.attendees().keySet().forEach(email ->
+                        candidate.meeting().getParticipants().add(participantsByEmail.get(email)));
+                meetings.add(candidate.meeting());
+            }
+
+            List<UUID> meetingIds = new ArrayList<>(meetings.size());
+            for (MeetingBatchResult result : meetingService.importMeetings(meetings)) {
+                if (result.id() != null) {
+                    meetingIds.add(result.id());
+                } else {
+                    Event event = candidates.get(result.index()).event();
+                    errors.add(new ImportError(event.line(), uidOf(event), result.errors()));
+                }
+            }
+            calendarService.addNewMeetingsToCalendar(calendarId, meetingIds);
+            return meetingIds.size();
+        });
+
+        errors.sort(Comparator.comparingInt(ImportError::line));
+        return new ImportProgress(progress.processed() + events.size(), progress.imported() + imported,
+                progress.failed() + events.size() - imported, errors, false);
+    }
+
+    private Meeting toMeeting(Event event, Map<String, String> attendees, Map<String, String> errors) {
+        Meeting meeting = new Meeting();
+        if (event.first("RECURRENCE-ID").isPresent()) {
+            errors.put("recurrenceId", "changes to single occurrences are not imported");
+            return meeting;
+        }
+
+        event.value("SUMMARY").map(ICalendarReader::unescape).ifPresentOrElse(meeting::setTitle,
+                () -> errors.put("title", "SUMMARY is required"));
+        event.value("DESCRIPTION").map(ICalendarReader::unescape).ifPresent(meeting::setDetails);
+        event.value("LOCATION").map(ICalendarReader::unescape).ifPresent(meeting::setLocation);
+
+        Optional<Property> start = event.first("DTSTART");
+        if (start.isEmpty()) {
+            errors.put("dateTime", "DTSTART is required");
+            return meeting;
+        }
+        try {
+            String timeZone = start.get().parameter("TZID");
+            ZoneId zone = zoneOf(timeZone);
+            Instant startsAt = instantOf(start.get().value(), isDate(start.get()), zone);
+            meeting.setDateTime(Date.from(startsAt));
+            if (timeZone != null) {
+                meeting.setTimeZone(zone.getId());
+            }
+            durationOf(event, startsAt, isDate(start.get())).ifPresent(meeting::setDurationMinutes);
+            for (Property exdate : event.all("EXDATE")) {
+                ZoneId exdateZone = zoneOf(exdate.parameter("TZID"));
+                for (String value : exdate.value().split(",")) {
+                    meeting.getExceptionDates().add(Date.from(instantOf(value, isDate(exdate), exdateZone)));
+                }
+            }
+        } catch (InvalidRecurrenceException e) {
+            errors.put(e.getField(), e.getMessage());
+        } catch (DateTimeParseException e) {
+            errors.put("dateTime", "'" + e.getParsedString() + "' is not a valid date-time or duration");
+        } catch (ArithmeticException e) {
+            errors.put("durationMinutes", "durationMinutes should not exceed 1440");
+        }
+        event.value("RRULE").map(CalendarImportService::withoutMondayWeekStart).ifPresent(meeting::setRecurrenceRule);
+
+        for (Property attendee : event.all("ORGANIZER")) {
+            addAttendee(attendee, attendees, errors);
+        }
+        for (Property attendee : event.all("ATTENDEE")) {
+            addAttendee(attendee, attendees, errors);
+        }
+        return meeting;
+    }
+
+    private void addAttendee(Property attendee, Map<String, String> attendees, Map<String, String> errors) {
+        String address = attendee.value().trim();
+        if (!address.regionMatches(true, 0, "mailto:", 0, 7)) {
+            return;
+        }
+        String email = address.substring(7).trim().toLowerCase();
+        if (email.isEmpty() || !validator.validateValue(Participant.class, "email", email).isEmpty()) {
+            errors.put("participants", "'" + email + "' is not a valid email");
+            return;
+        }
+        String name = attendee.parameter("CN") != null && !attendee.parameter("CN").isBlank()
+                ? attendee.parameter("CN").trim()
+                : email;
+        attendees.putIfAbsent(email, name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH) : name);
+    }
+
+    private static String uidOf(Event event) {
+        return event.value("UID").orElse(null);
+    }
+
+    private static ZoneId zoneOf(String timeZone) {
+        // some producers write TZIDs as globally unique "/Europe/Amsterdam"
+        return RecurrenceRule.zoneOf(timeZone != null && timeZone.startsWith("/") ? timeZone.substring(1) : timeZone);
+    }
+
+    private static boolean isDate(Property property) {
+        return "DATE".equalsIgnoreCase(property.parameter("VALUE")) || property.value().trim().length() == 8;
+    }
+
+    /**
+     * A {@code DATE} or {@code DATE-TIME} value: UTC with a trailing
+     * {@code Z}, otherwise local to {@code zone}, which is UTC for floating
+     * times. A date stands for the start of that day.
+     */
+    private static Instant instantOf(String value, boolean date, ZoneId zone) {
+        String trimmed = value.trim();
+        if (date) {
+            return LocalDate.parse(trimmed, DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay(zone).toInstant();
+        }
+        if (trimmed.endsWith("Z") || trimmed.endsWith("z")) {
+            return LocalDateTime.parse(trimmed.substring(0, trimmed.length() - 1), DATE_TIME_FORMAT)
+                    .toInstant(ZoneOffset.UTC);
+        }
+        return LocalDateTime.parse(trimmed, DATE_TIME_FORMAT).atZone(zone).toInstant();
+    }
+
+    /**
+     * Minutes from {@code DTEND} or {@code DURATION}; a whole day for an
+     * all-day event without either, and the meeting default otherwise.
+     */
+    private static Optional<Integer> durationOf(Event event, Instant start, boolean allDay) {
+        Optional<Property> end = event.first("DTEND");
+        if (end.isPresent()) {
+            Instant endsAt = instantOf(end.get().value(), isDate(end.get()), zoneOf(end.get().parameter("TZID")));
+            return Optional.of(minutes(Duration.between(start, endsAt)));
+        }
+        Optional<String> duration = event.value("DURATION").map(String::trim);
+        if (duration.isPresent()) {
+            Matcher weeks = WEEKS.matcher(duration.get());
+            return Optional.of(minutes(weeks.matches()
+                    ? Duration.ofDays(7 * Long.parseLong(weeks.group(1)))
+                    : Duration.parse(duration.get())));
+        }
+        return allDay ? Optional.of((int) TimeUnit.DAYS.toMinutes(1)) : Optional.empty();
+    }
+
+    private static int minutes(Duration duration) {
+        return Math.toIntExact(duration.toMinutes());
+    }
+
+    /**
+     * {@link RecurrenceRule} weeks always start on Monday, so the
+     * {@code WKST=MO} most producers write is dropped rather than rejected.
+     */
+    private static String withoutMondayWeekStart(String rule) {
+        StringJoiner parts = new StringJoiner(";");
+        for (String part : rule.split(";")) {
+            if (!part.trim().equalsIgnoreCase("WKST=MO")) {
+                parts.add(part);
+            }
+        }
+        return parts.toString();
+    }
+}
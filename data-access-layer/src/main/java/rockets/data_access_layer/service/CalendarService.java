@@ -1,33 +1,200 @@
 package rockets.data_access_layer.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import org.springframework.stereotype.Service;
+import rockets.data_access_layer.dto.CalendarEvent;
+import rockets.data_access_layer.dto.CalendarView;
+import rockets.data_access_layer.dto.CursorPage;
+import rockets.data_access_layer.dto.VersionStamp;
 import rockets.data_access_layer.entity.Calendar;
-import rockets.data_access_layer.entity.Meeting;
 import rockets.data_access_layer.repository.CalendarRepository;
 import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.util.ETags;
+import rockets.data_access_layer.util.Export;
+import rockets.data_access_layer.util.Pagination;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+@Timed(value = "service.invocations", histogram = true)
 @Service
 public class CalendarService {
     private final CalendarRepository calendarRepository;
     private final MeetingRepository meetingRepository;
+    private final CalendarViewCache calendarViewCache;
+    private final ObjectWriter calendarWriter;
+    private final Validator validator;
 
-    public CalendarService(CalendarRepository calendarRepository, MeetingRepository meetingRepository) {
+    public CalendarService(CalendarRepository calendarRepository, MeetingRepository meetingRepository,
+            CalendarViewCache calendarViewCache, ObjectMapper objectMapper, Validator validator) {
         this.calendarRepository = calendarRepository;
         this.meetingRepository = meetingRepository;
+        this.calendarViewCache = calendarViewCache;
+        this.calendarWriter = objectMapper.writerFor(Calendar.class);
+        this.validator = validator;
     }
 
     public List<Calendar> getAllCalendars() {
         return calendarRepository.findAll();
     }
 
+    public CursorPage<Calendar> getCalendarsPage(String cursor, int limit) {
+        List<Calendar> rows = Pagination.decodeCursor(cursor)
+                .map(after -> calendarRepository.findAllByIdGreaterThanOrderByIdAsc(after, Pagination.probeLimit(limit)))
+                .orElseGet(() -> calendarRepository.findAllByOrderByIdAsc(Pagination.probeLimit(limit)));
+        return Pagination.toPage(rows, limit, Calendar::getId);
+    }
+
+    public CursorPage<CalendarView> getCalendarViewsPage(String cursor, int limit) {
+        List<CalendarView> rows = Pagination.decodeCursor(cursor)
+                .map(after -> calendarRepository.findViewsAfter(after, Pagination.probeLimit(limit)))
+                .orElseGet(() -> calendarRepository.findViews(Pagination.probeLimit(limit)));
+        CursorPage<CalendarView> page = Pagination.toPage(rows, limit, CalendarView::id);
+        fillLinks(page.getItems());
+        return page;
+    }
+
+    public Optional<CalendarView> getCalendarViewById(UUID id) {
+        return calendarRepository.findViewById(id).map(view -> {
+            fillLinks(List.of(view));
+            return view;
+        });
+    }
+
+    @Transactional
+    public void exportCalendarViews(Consumer<List<CalendarView>> chunkConsumer) {
+        try (Stream<CalendarView> views = calendarRepository.streamViews()) {
+            Export.forEachChunk(views, chunk -> {
+                fillLinks(chunk);
+                chunkConsumer.accept(chunk);
+            });
+        }
+    }
+
+    private void fillLinks(List<CalendarView> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+        Map<UUID, CalendarView> viewsById = new HashMap<>();
+        views.forEach(view -> viewsById.put(view.id(), view));
+
+        calendarRepository.findMeetingLinks(viewsById.keySet())
+                .forEach(link -> viewsById.get(link.ownerId()).meetingIds().add(link.linkedId()));
+    }
+
+    /**
+     * Streams the meetings of calendar {@code id} for its iCalendar feed in
+     * chunks of {@link Export#CHUNK_SIZE}, with three queries per chunk for
+     * attendees, attachment URLs and cancelled occurrences. No entity is
+     * loaded.
+     */
+    @Transactional
+    public void exportCalendarEvents(UUID id, Consumer<List<CalendarEvent>> chunkConsumer) {
+        try (Stream<CalendarEvent> events = calendarRepository.streamEvents(id)) {
+            Export.forEachChunk(events, chunk -> {
+                fillEvents(chunk);
+                chunkConsumer.accept(chunk);
+            });
+        }
+    }
+
+    private void fillEvents(List<CalendarEvent> events) {
+        Map<UUID, CalendarEvent> eventsById = new HashMap<>();
+        List<UUID> seriesIds = new ArrayList<>();
+        events.forEach(event -> {
+            eventsById.put(event.id(), event);
+            if (event.recurrenceRule() != null) {
+                seriesIds.add(event.id());
+            }
+        });
+
+        meetingRepository.findAttendees(eventsById.keySet())
+                .forEach(attendee -> eventsById.get(attendee.meetingId()).attendees().add(attendee));
+        meetingRepository.findAttachmentUrls(eventsById.keySet())
+                .forEach(attachment -> eventsById.get(attachment.meetingId()).attachmentUrls().add(attachment.url()));
+        if (!seriesIds.isEmpty()) {
+            meetingRepository.findCancelledOccurrences(seriesIds).forEach(exception ->
+                    eventsById.get(exception.seriesId()).exceptionDates().add(exception.originalDateTime()));
+        }
+    }
+
     public Optional<Calendar> getCalendarById(UUID id) {
         return calendarRepository.findById(id);
     }
 
+    /**
+     * ETag of {@link #getRenderedCalendar}, computed from the versions of the
+     * calendar, its meetings and their participants and attachments and kept
+     * in {@link CalendarViewCache} until one of them changes.
+     */
+    @Transactional
+    public Optional<String> getCalendarETag(UUID id) {
+        return calendarViewCache.getETag(id, () -> computeCalendarETag(id));
+    }
+
+    private Optional<String> computeCalendarETag(UUID id) {
+        List<VersionStamp> stamps = new ArrayList<>(calendarRepository.findVersions(List.of(id)));
+        if (stamps.isEmpty()) {
+            return Optional.empty();
+        }
+        List<VersionStamp> meetings = calendarRepository.findMeetingVersions(List.of(id));
+        stamps.addAll(meetings);
+        if (!meetings.isEmpty()) {
+            List<UUID> meetingIds = meetings.stream().map(VersionStamp::id).toList();
+            stamps.addAll(meetingRepository.findParticipantVersions(meetingIds));
+            stamps.addAll(meetingRepository.findAttachmentVersions(meetingIds));
+        }
+        return Optional.of(ETags.of(stamps));
+    }
+
+    /**
+     * The calendar with its meetings serialized as JSON, served from
+     * {@link CalendarViewCache} when it hasn't changed since it was last rendered.
+     */
+    @Transactional
+    public Optional<byte[]> getRenderedCalendar(UUID id) {
+        return calendarViewCache.get(id, () -> calendarRepository.findById(id).map(this::render));
+    }
+
+    private byte[] render(Calendar calendar) {
+        try {
+            return calendarWriter.writeValueAsBytes(calendar);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean calendarExists(UUID id) {
+        return calendarRepository.existsById(id);
+    }
+
+    /**
+     * Links freshly created meetings to calendar {@code id} in one insert.
+     */
+    @Transactional
+    public void addNewMeetingsToCalendar(UUID id, Collection<UUID> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return;
+        }
+        calendarRepository.insertMeetingLinks(id, meetingIds);
+        calendarViewCache.evict(id);
+    }
+
     public Calendar createCalendar(Calendar calendar) {
         return calendarRepository.save(calendar);
     }
@@ -37,27 +204,51 @@ public class CalendarService {
             calendar.setTitle(updatedCalendar.getTitle());
             calendar.setDetails(updatedCalendar.getDetails());
 
-            return calendarRepository.save(calendar);
+            Calendar saved = calendarRepository.save(calendar);
+            calendarViewCache.evict(id);
+            return saved;
         });
     }
 
-    public Optional<Calendar> addMeetingsToCalendar(UUID id, List<UUID> calendarIds) {
-        return calendarRepository.findById(id).map(calendar -> {
-            List<Meeting> meetings = meetingRepository.findAllById(calendarIds);
-            calendar.addMeetings(meetings);
-            return calendarRepository.save(calendar);
-        });
+    /**
+     * Adds the existing ones of {@code meetingIds} to calendar {@code id}
+     * with one insert, leaving concurrent changes to its other meetings in
+     * place. Empty if there is no such calendar.
+     */
+    @Transactional
+    public Optional<Calendar> addMeetingsToCalendar(UUID id, List<UUID> meetingIds) {
+        if (!calendarRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        if (!meetingIds.isEmpty() && calendarRepository.insertMeetingLinks(id, meetingIds) > 0) {
+            calendarRepository.incrementVersion(id);
+            calendarViewCache.evict(id);
+        }
+        return calendarRepository.findById(id);
     }
 
-    public Optional<Calendar> removeMeetingsFromCalendar(UUID id, List<UUID> calendarIds) {
-        return calendarRepository.findById(id).map(calendar -> {
-            List<Meeting> meetings = meetingRepository.findAllById(calendarIds);
-            calendar.removeMeetings(meetings);
-            return calendarRepository.save(calendar);
-        });
+    /**
+     * Removes {@code meetingIds} from calendar {@code id} with one delete.
+     * Fails if that would leave it without meetings.
+     */
+    @Transactional
+    public Optional<Calendar> removeMeetingsFromCalendar(UUID id, List<UUID> meetingIds) {
+        if (!calendarRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        if (!meetingIds.isEmpty() && calendarRepository.deleteMeetingLinks(id, meetingIds) > 0) {
+            // the version bump locks the calendar, so concurrent removals see each other
+            calendarRepository.incrementVersion(id);
+            if (calendarRepository.countMeetings(id) == 0) {
+                throw new ConstraintViolationException(validator.validateValue(Calendar.class, "meetings", Set.of()));
+            }
+            calendarViewCache.evict(id);
+        }
+        return calendarRepository.findById(id);
     }
 
     public void deleteCalendar(UUID id) {
         calendarRepository.deleteById(id);
+        calendarViewCache.evict(id);
     }
 }
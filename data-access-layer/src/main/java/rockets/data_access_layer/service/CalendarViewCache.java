@@ -0,0 +1,94 @@
+package rockets.data_access_layer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+import rockets.data_access_layer.dto.CacheRegionStatistics;
+import rockets.data_access_layer.util.Transactions;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Rendered {@code GET /calendars/{id}} responses and calendar ETags keyed by
+ * calendar id. Caching the tag lets a poller that already has the current
+ * version be answered without touching the database.
+ * <p>
+ * Every path that changes what a calendar renders to must call {@link #evict}.
+ * Inside a transaction the entries are dropped again after completion, and a
+ * render that overlapped an eviction is never kept, so a reader can't put back
+ * a body built from data that was about to change.
+ */
+@Component
+public class CalendarViewCache {
+    public static final String REGION = "calendar-views";
+
+    static final int MAX_CALENDARS = 10_000;
+
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final Cache<UUID, byte[]> views = Caffeine.newBuilder()
+            .maximumSize(MAX_CALENDARS)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    private final Cache<UUID, String> etags = Caffeine.newBuilder()
+            .maximumSize(MAX_CALENDARS)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .build();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    public Optional<byte[]> get(UUID calendarId, Supplier<Optional<byte[]>> renderer) {
+        return getOrLoad(views, calendarId, renderer);
+    }
+
+    public Optional<String> getETag(UUID calendarId, Supplier<Optional<String>> loader) {
+        return getOrLoad(etags, calendarId, loader);
+    }
+
+    private <V> Optional<V> getOrLoad(Cache<UUID, V> cache, UUID calendarId, Supplier<Optional<V>> loader) {
+        V cached = cache.getIfPresent(calendarId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long seen = evictions.get();
+        Optional<V> loaded = loader.get();
+        loaded.ifPresent(value -> {
+            cache.put(calendarId, value);
+            if (evictions.get() != seen) {
+                cache.invalidate(calendarId);
+            }
+        });
+        return loaded;
+    }
+
+    public void evict(UUID calendarId) {
+        evict(List.of(calendarId));
+    }
+
+    public void evict(Collection<UUID> calendarIds) {
+        if (calendarIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(calendarIds);
+        Transactions.runNowAndAfterCompletion(() -> {
+            evictions.incrementAndGet();
+            views.invalidateAll(ids);
+            etags.invalidateAll(ids);
+        });
+    }
+
+    public CacheRegionStatistics statistics() {
+        CacheStats stats = views.stats();
+        return new CacheRegionStatistics(REGION, views.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.evictionCount(), stats.hitRate());
+    }
+}
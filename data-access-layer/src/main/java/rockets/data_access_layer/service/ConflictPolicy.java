@@ -0,0 +1,13 @@
+package rockets.data_access_layer.service;
+
+/**
+ * What a meeting write does when a participant is already booked at that time.
+ */
+public enum ConflictPolicy {
+    /** Write without looking for conflicts. */
+    IGNORE,
+    /** Write and report the conflicting meetings. */
+    WARN,
+    /** Refuse the write with {@link MeetingConflictException}. */
+    REJECT
+}
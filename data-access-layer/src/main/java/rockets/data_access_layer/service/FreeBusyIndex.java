@@ -0,0 +1,254 @@
+package rockets.data_access_layer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import rockets.data_access_layer.dto.BusyInterval;
+import rockets.data_access_layer.dto.BusySlot;
+import rockets.data_access_layer.dto.MeetingConflict;
+import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.util.RecurrenceRule;
+import rockets.data_access_layer.util.Transactions;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Busy intervals per participant, kept as start-sorted arrays so a window
+ * query is a binary search plus a scan over the meetings that overlap it.
+ * Recurring meetings are kept as their rule and expanded over the window.
+ * <p>
+ * Schedules are loaded on first use with one query for all missing
+ * participants and dropped by {@link #evict} whenever a meeting they attend
+ * is created, moved, deleted or changes participants. As in
+ * {@link CalendarViewCache}, a load that overlapped an eviction isn't kept.
+ */
+@Component
+public class FreeBusyIndex {
+    static final int MAX_PARTICIPANTS = 100_000;
+
+    private final MeetingRepository meetingRepository;
+
+    private final Cache<UUID, Schedule> schedules = Caffeine.newBuilder()
+            .maximumSize(MAX_PARTICIPANTS)
+            .build();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    public FreeBusyIndex(MeetingRepository meetingRepository) {
+        this.meetingRepository = meetingRepository;
+    }
+
+    /**
+     * The union of the busy time of {@code participantIds} within
+     * {@code [from, to)}, as non-overlapping intervals clipped to the window.
+     */
+    public List<BusyInterval> getBusyIntervals(Collection<UUID> participantIds, Date from, Date to) {
+        long start = from.getTime();
+        long end = to.getTime();
+        List<long[]> intervals = new ArrayList<>();
+        getSchedules(participantIds).values().forEach(schedule -> schedule.clip(start, end, intervals));
+        return merge(intervals);
+    }
+
+    /**
+     * Like {@link #getBusyIntervals}, but keeping each participant's busy
+     * time separate. Participants without meetings map to an empty list.
+     */
+    public Map<UUID, List<BusyInterval>> getBusyIntervalsByParticipant(Collection<UUID> participantIds, Date from,
+            Date to) {
+        long start = from.getTime();
+        long end = to.getTime();
+        Map<UUID, List<BusyInterval>> busy = new HashMap<>();
+        getSchedules(participantIds).forEach((participantId, schedule) -> {
+            List<long[]> intervals = new ArrayList<>();
+            schedule.clip(start, end, intervals);
+            busy.put(participantId, merge(intervals));
+        });
+        return busy;
+    }
+
+    /**
+     * Meetings of {@code participantIds} overlapping {@code [from, to)}, other
+     * than {@code excludedMeetingId} (the meeting being moved, if any).
+     */
+    public List<MeetingConflict> findConflicts(Collection<UUID> participantIds, Date from, Date to,
+            UUID excludedMeetingId) {
+        long start = from.getTime();
+        long end = to.getTime();
+        List<MeetingConflict> conflicts = new ArrayList<>();
+        getSchedules(participantIds).forEach((participantId, schedule) -> schedule.forEachOverlap(start, end,
+                (meetingId, meetingStart, meetingEnd) -> {
+                    if (!meetingId.equals(excludedMeetingId)) {
+                        conflicts.add(new MeetingConflict(participantId, meetingId,
+                                new Date(meetingStart), new Date(meetingEnd)));
+                    }
+                }));
+        return conflicts;
+    }
+
+    public void evict(UUID participantId) {
+        evict(List.of(participantId));
+    }
+
+    public void evict(Collection<UUID> participantIds) {
+        if (participantIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(participantIds);
+        Transactions.runNowAndAfterCompletion(() -> {
+            evictions.incrementAndGet();
+            schedules.invalidateAll(ids);
+        });
+    }
+
+    private Map<UUID, Schedule> getSchedules(Collection<UUID> participantIds) {
+        Set<UUID> ids = new HashSet<>(participantIds);
+        Map<UUID, Schedule> found = new HashMap<>(schedules.getAllPresent(ids));
+        ids.removeAll(found.keySet());
+        if (ids.isEmpty()) {
+            return found;
+        }
+
+        long seen = evictions.get();
+        Map<UUID, List<BusySlot>> slotsByParticipant = new HashMap<>();
+        ids.forEach(id -> slotsByParticipant.put(id, new ArrayList<>()));
+        Set<UUID> seriesIds = new HashSet<>();
+        meetingRepository.findBusySlots(ids).forEach(slot -> {
+            slotsByParticipant.get(slot.participantId()).add(slot);
+            if (slot.recurrenceRule() != null) {
+                seriesIds.add(slot.meetingId());
+            }
+        });
+        Map<UUID, Set<Long>> exceptions = new HashMap<>();
+        if (!seriesIds.isEmpty()) {
+            meetingRepository.findSeriesExceptions(seriesIds).forEach(exception -> exceptions
+                    .computeIfAbsent(exception.seriesId(), id -> new HashSet<>())
+                    .add(exception.originalDateTime().getTime()));
+        }
+
+        Map<UUID, Schedule> loaded = new HashMap<>();
+        slotsByParticipant.forEach((id, slots) -> loaded.put(id, Schedule.of(slots, exceptions)));
+        schedules.putAll(loaded);
+        if (evictions.get() != seen) {
+            schedules.invalidateAll(loaded.keySet());
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    private static List<BusyInterval> merge(List<long[]> intervals) {
+        intervals.sort(Comparator.comparingLong(interval -> interval[0]));
+        List<BusyInterval> merged = new ArrayList<>();
+        long currentStart = 0;
+        long currentEnd = Long.MIN_VALUE;
+        for (long[] interval : intervals) {
+            if (interval[0] > currentEnd) {
+                if (currentEnd != Long.MIN_VALUE) {
+                    merged.add(new BusyInterval(new Date(currentStart), new Date(currentEnd)));
+                }
+                currentStart = interval[0];
+                currentEnd = interval[1];
+            } else {
+                currentEnd = Math.max(currentEnd, interval[1]);
+            }
+        }
+        if (currentEnd != Long.MIN_VALUE) {
+            merged.add(new BusyInterval(new Date(currentStart), new Date(currentEnd)));
+        }
+        return merged;
+    }
+
+    @FunctionalInterface
+    private interface OverlapConsumer {
+        void accept(UUID meetingId, long start, long end);
+    }
+
+    /**
+     * One participant's one-off meetings as parallel arrays sorted by start,
+     * plus the series they attend, which are expanded per query over the
+     * window only. Since no one-off meeting is longer than {@code maxLength},
+     * nothing starting before {@code from - maxLength} can overlap a window
+     * beginning at {@code from}.
+     */
+    private record Schedule(long[] starts, long[] ends, UUID[] meetingIds, long maxLength, List<Series> series) {
+        static Schedule of(List<BusySlot> slots, Map<UUID, Set<Long>> exceptions) {
+            List<BusySlot> sorted = new ArrayList<>();
+            List<Series> series = new ArrayList<>();
+            for (BusySlot slot : slots) {
+                if (slot.recurrenceRule() == null) {
+                    sorted.add(slot);
+                } else {
+                    series.add(Series.of(slot, exceptions.getOrDefault(slot.meetingId(), Set.of())));
+                }
+            }
+            sorted.sort(Comparator.comparingLong(slot -> slot.start().getTime()));
+            long[] starts = new long[sorted.size()];
+            long[] ends = new long[sorted.size()];
+            UUID[] meetingIds = new UUID[sorted.size()];
+            long maxLength = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                BusySlot slot = sorted.get(i);
+                starts[i] = slot.start().getTime();
+                ends[i] = starts[i] + TimeUnit.MINUTES.toMillis(slot.durationMinutes());
+                meetingIds[i] = slot.meetingId();
+                maxLength = Math.max(maxLength, ends[i] - starts[i]);
+            }
+            return new Schedule(starts, ends, meetingIds, maxLength, series);
+        }
+
+        void clip(long from, long to, List<long[]> intervals) {
+            forEachOverlap(from, to, (meetingId, start, end) ->
+                    intervals.add(new long[]{Math.max(start, from), Math.min(end, to)}));
+        }
+
+        void forEachOverlap(long from, long to, OverlapConsumer action) {
+            int i = Arrays.binarySearch(starts, from - maxLength);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            while (i > 0 && starts[i - 1] == from - maxLength) {
+                i--;
+            }
+            for (; i < starts.length && starts[i] < to; i++) {
+                if (ends[i] > from) {
+                    action.accept(meetingIds[i], starts[i], ends[i]);
+                }
+            }
+            series.forEach(series -> series.forEachOverlap(from, to, action));
+        }
+    }
+
+    private record Series(UUID meetingId, ZonedDateTime first, long length, RecurrenceRule rule,
+            Set<Long> exceptions) {
+        static Series of(BusySlot slot, Set<Long> exceptions) {
+            return new Series(slot.meetingId(),
+                    slot.start().toInstant().atZone(RecurrenceRule.zoneOf(slot.timeZone())),
+                    TimeUnit.MINUTES.toMillis(slot.durationMinutes()),
+                    RecurrenceRule.parse(slot.recurrenceRule()),
+                    exceptions);
+        }
+
+        void forEachOverlap(long from, long to, OverlapConsumer action) {
+            rule.forEachStart(first, Instant.ofEpochMilli(from - length + 1), Instant.ofEpochMilli(to), start -> {
+                long startMillis = start.toEpochMilli();
+                if (!exceptions.contains(startMillis)) {
+                    action.accept(meetingId, startMillis, startMillis + length);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package rockets.data_access_layer.service;
+
+import rockets.data_access_layer.dto.MeetingConflict;
+
+import java.util.List;
+
+public class MeetingConflictException extends RuntimeException {
+    private final List<MeetingConflict> conflicts;
+
+    public MeetingConflictException(List<MeetingConflict> conflicts) {
+        super("Participants are already booked at this time");
+        this.conflicts = conflicts;
+    }
+
+    public List<MeetingConflict> getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,282 @@
+package rockets.data_access_layer.service;
+
+import jakarta.transaction.Transactional;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import rockets.data_access_layer.dto.MeetingSearchHit;
+import rockets.data_access_layer.dto.MeetingView;
+import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.util.Text;
+import rockets.data_access_layer.util.Transactions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory inverted index over meeting titles, locations and details,
+ * ranked with BM25. Titles weigh more than locations, which weigh more than
+ * details. A search returns the meetings containing every term of the
+ * query, so it costs one pass over the postings of the query's rarest term
+ * instead of a {@code LIKE} scan of the meeting table.
+ * <p>
+ * The index is rebuilt from a database cursor when the application starts,
+ * and {@link #reindex} re-reads meetings after the transaction that changed
+ * them commits. Meetings reindexed while a rebuild runs are re-read once it
+ * is done, so the rebuild can't put back text that was changed under it.
+ */
+@Component
+public class MeetingSearchIndex {
+    public static final int MAX_RESULTS = 100;
+
+    static final int MAX_QUERY_TERMS = 20;
+
+    static final int TITLE_WEIGHT = 3;
+
+    static final int LOCATION_WEIGHT = 2;
+
+    static final int DETAILS_WEIGHT = 1;
+
+    // longer "words" are hashes, URLs and the like, which nobody searches for
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final MeetingRepository meetingRepository;
+
+    // guards the postings; held only to read or swap them, never across a query
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // serializes reloads, so a meeting is never put back from an older read
+    private final Lock loadLock = new ReentrantLock();
+
+    private Index index = new Index();
+
+    private Set<UUID> reindexedDuringRebuild;
+
+    public MeetingSearchIndex(MeetingRepository meetingRepository) {
+        this.meetingRepository = meetingRepository;
+    }
+
+    /**
+     * Up to {@code limit} meetings containing every term of {@code query},
+     * best match first.
+     */
+    public List<MeetingSearchHit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        lock.readLock().lock();
+        try {
+            return index.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void reindex(UUID meetingId) {
+        reindex(List.of(meetingId));
+    }
+
+    /**
+     * Re-reads {@code meetingIds} once the current transaction commits,
+     * dropping the ones that no longer exist.
+     */
+    public void reindex(Collection<UUID> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(meetingIds);
+        Transactions.runAfterCommit(() -> load(ids));
+    }
+
+    private void load(Collection<UUID> ids) {
+        loadLock.lock();
+        try {
+            List<MeetingView> views = meetingRepository.findViewsByIds(ids);
+            lock.writeLock().lock();
+            try {
+                if (reindexedDuringRebuild != null) {
+                    reindexedDuringRebuild.addAll(ids);
+                }
+                ids.forEach(index::remove);
+                views.forEach(index::add);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            reindexedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = new Index();
+        try (Stream<MeetingView> views = meetingRepository.streamViews()) {
+            views.forEach(rebuilt::add);
+        }
+
+        Set<UUID> stale;
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+            stale = reindexedDuringRebuild;
+            reindexedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!stale.isEmpty()) {
+            load(stale);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String term : SEPARATORS.split(Text.fold(text))) {
+            if (!term.isEmpty() && term.length() <= MAX_TERM_LENGTH) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * What a search returns about a meeting, and the terms to remove from the
+     * postings when it changes.
+     */
+    private record Document(String title, Date dateTime, String location, String[] terms, int length) {
+    }
+
+    private record Hit(UUID id, double score) {
+    }
+
+    /**
+     * The postings are weighted term frequencies per meeting, so a term in a
+     * title counts as {@link #TITLE_WEIGHT} occurrences.
+     */
+    private static final class Index {
+        private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+
+        private final Map<UUID, Document> documents = new HashMap<>();
+
+        private long totalLength;
+
+        void add(MeetingView view) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = count(view.title(), TITLE_WEIGHT, frequencies)
+                    + count(view.location(), LOCATION_WEIGHT, frequencies)
+                    + count(view.details(), DETAILS_WEIGHT, frequencies);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, ignored -> new HashMap<>()).put(view.id(), frequency));
+            documents.put(view.id(), new Document(view.title(), view.dateTime(), view.location(),
+                    frequencies.keySet().toArray(String[]::new), length));
+            totalLength += length;
+        }
+
+        void remove(UUID id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            for (String term : document.terms()) {
+                Map<UUID, Integer> meetings = postings.get(term);
+                meetings.remove(id);
+                if (meetings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= document.length();
+        }
+
+        private static int count(String text, int weight, Map<String, Integer> frequencies) {
+            List<String> terms = tokenize(text);
+            terms.forEach(term -> frequencies.merge(term, weight, Integer::sum));
+            return terms.size() * weight;
+        }
+
+        List<MeetingSearchHit> search(List<String> terms, int limit) {
+            List<Map<UUID, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<UUID, Integer> meetings = postings.get(term);
+                if (meetings == null) {
+                    return List.of();
+                }
+                termPostings.add(meetings);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            double[] idfs = new double[termPostings.size()];
+            for (int t = 0; t < idfs.length; t++) {
+                int frequency = termPostings.get(t).size();
+                idfs[t] = Math.log(1 + (documentCount - frequency + 0.5) / (frequency + 0.5));
+            }
+
+            PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            candidates:
+            for (UUID id : termPostings.get(0).keySet()) {
+                double lengthNorm = K1 * (1 - B + B * documents.get(id).length() / averageLength);
+                double score = 0;
+                for (int t = 0; t < idfs.length; t++) {
+                    Integer frequency = termPostings.get(t).get(id);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    score += idfs[t] * frequency * (K1 + 1) / (frequency + lengthNorm);
+                }
+                if (best.size() < limit) {
+                    best.add(new Hit(id, score));
+                } else if (score > best.peek().score()) {
+                    best.poll();
+                    best.add(new Hit(id, score));
+                }
+            }
+
+            List<MeetingSearchHit> hits = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                Hit hit = best.poll();
+                Document document = documents.get(hit.id());
+                hits.add(new MeetingSearchHit(hit.id(), document.title(), document.dateTime(), document.location(),
+                        hit.score()));
+            }
+            return hits.reversed();
+        }
+    }
+}
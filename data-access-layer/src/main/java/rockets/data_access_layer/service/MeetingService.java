@@ -1,8 +1,25 @@
 package rockets.data_access_layer.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.hibernate.Cache;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import rockets.data_access_layer.dto.CursorPage;
+import rockets.data_access_layer.dto.IdLink;
+import rockets.data_access_layer.dto.MeetingBatchResult;
+import rockets.data_access_layer.dto.MeetingConflict;
+import rockets.data_access_layer.dto.MeetingDTO;
+import rockets.data_access_layer.dto.MeetingOccurrence;
+import rockets.data_access_layer.dto.MeetingSearchHit;
+import rockets.data_access_layer.dto.MeetingView;
+import rockets.data_access_layer.dto.OccurrenceChanges;
+import rockets.data_access_layer.dto.VersionStamp;
 import rockets.data_access_layer.entity.Attachment;
 import rockets.data_access_layer.entity.Calendar;
 import rockets.data_access_layer.entity.Meeting;
@@ -10,29 +27,269 @@ import rockets.data_access_layer.entity.Participant;
 import rockets.data_access_layer.repository.AttachmentRepository;
 import rockets.data_access_layer.repository.CalendarRepository;
 import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.repository.MeetingSpecifications;
 import rockets.data_access_layer.repository.ParticipantRepository;
+import rockets.data_access_layer.util.ETags;
+import rockets.data_access_layer.util.Export;
+import rockets.data_access_layer.util.InvalidRecurrenceException;
+import rockets.data_access_layer.util.Pagination;
+import rockets.data_access_layer.util.RecurrenceRule;
+import rockets.data_access_layer.util.Transactions;
 
+import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+@Timed(value = "service.invocations", histogram = true)
 @Service
 public class MeetingService {
+    static final int BATCH_SIZE = 50;
+
+    /**
+     * The most meetings one {@link #createMeetings} call may create.
+     */
+    public static final int MAX_BATCH_MEETINGS = 1000;
+
     private final MeetingRepository meetingRepository;
     private final ParticipantRepository participantRepository;
     private final AttachmentRepository attachmentRepository;
 
     private final CalendarRepository calendarRepository;
 
-    public MeetingService(MeetingRepository meetingRepository, ParticipantRepository participantRepository, AttachmentRepository attachmentRepository, CalendarRepository calendarRepository) {
+    private final CalendarViewCache calendarViewCache;
+    private final FreeBusyIndex freeBusyIndex;
+    private final MeetingSearchIndex meetingSearchIndex;
+
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    public MeetingService(MeetingRepository meetingRepository, ParticipantRepository participantRepository, AttachmentRepository attachmentRepository, CalendarRepository calendarRepository, CalendarViewCache calendarViewCache, FreeBusyIndex freeBusyIndex, MeetingSearchIndex meetingSearchIndex, Validator validator, EntityManager entityManager) {
         this.meetingRepository = meetingRepository;
         this.participantRepository = participantRepository;
         this.attachmentRepository = attachmentRepository;
         this.calendarRepository = calendarRepository;
+        this.calendarViewCache = calendarViewCache;
+        this.freeBusyIndex = freeBusyIndex;
+        this.meetingSearchIndex = meetingSearchIndex;
+        this.validator = validator;
+        this.entityManager = entityManager;
     }
 
     public List<Meeting> getAllMeetings() {
         return meetingRepository.findAll();
     }
 
+    public CursorPage<Meeting> getMeetingsPage(String cursor, int limit) {
+        List<Meeting> rows = Pagination.decodeCursor(cursor)
+                .map(after -> meetingRepository.findAllByIdGreaterThanOrderByIdAsc(after, Pagination.probeLimit(limit)))
+                .orElseGet(() -> meetingRepository.findAllByOrderByIdAsc(Pagination.probeLimit(limit)));
+        return Pagination.toPage(rows, limit, Meeting::getId);
+    }
+
+    public CursorPage<MeetingView> getMeetingViewsPage(String cursor, int limit) {
+        List<MeetingView> rows = Pagination.decodeCursor(cursor)
+                .map(after -> meetingRepository.findViewsAfter(after, Pagination.probeLimit(limit)))
+                .orElseGet(() -> meetingRepository.findViews(Pagination.probeLimit(limit)));
+        CursorPage<MeetingView> page = Pagination.toPage(rows, limit, MeetingView::id);
+        fillLinks(page.getItems());
+        return page;
+    }
+
+    public Optional<MeetingView> getMeetingViewById(UUID id) {
+        return meetingRepository.findViewById(id).map(view -> {
+            fillLinks(List.of(view));
+            return view;
+        });
+    }
+
+    public List<MeetingSearchHit> searchMeetings(String query, int limit) {
+        return meetingSearchIndex.search(query, limit);
+    }
+
+    @Transactional
+    public void exportMeetingViews(Consumer<List<MeetingView>> chunkConsumer) {
+        try (Stream<MeetingView> views = meetingRepository.streamViews()) {
+            Export.forEachChunk(views, chunk -> {
+                fillLinks(chunk);
+                chunkConsumer.accept(chunk);
+            });
+        }
+    }
+
+    private void fillLinks(List<MeetingView> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+        Map<UUID, MeetingView> viewsById = new HashMap<>();
+        views.forEach(view -> viewsById.put(view.id(), view));
+
+        meetingRepository.findParticipantLinks(viewsById.keySet())
+                .forEach(link -> viewsById.get(link.ownerId()).participantIds().add(link.linkedId()));
+        meetingRepository.findAttachmentLinks(viewsById.keySet())
+                .forEach(link -> viewsById.get(link.ownerId()).attachmentIds().add(link.linkedId()));
+        meetingRepository.findCalendarLinks(viewsById.keySet())
+                .forEach(link -> viewsById.get(link.ownerId()).calendarIds().add(link.linkedId()));
+    }
+
+    public List<Meeting> getMeetingsInRange(Date from, Date to, UUID calendarId, UUID participantId) {
+        Specification<Meeting> specification = MeetingSpecifications.startsBetween(from, to);
+        if (calendarId != null) {
+            specification = specification.and(MeetingSpecifications.inCalendar(calendarId));
+        }
+        if (participantId != null) {
+            specification = specification.and(MeetingSpecifications.withParticipant(participantId));
+        }
+        return meetingRepository.findAll(specification, Sort.by("dateTime", "id"));
+    }
+
+    /**
+     * Meetings starting in {@code [from, to)}, with every series expanded
+     * into its occurrences within the window only. Cancelled and overridden
+     * occurrences are left out; overrides are listed as meetings of their own.
+     */
+    @Transactional
+    public List<MeetingOccurrence> getOccurrences(Date from, Date to, UUID calendarId, UUID participantId) {
+        Specification<Meeting> specification = MeetingSpecifications.occursBetween(from, to);
+        if (calendarId != null) {
+            specification = specification.and(MeetingSpecifications.inCalendar(calendarId));
+        }
+        if (participantId != null) {
+            specification = specification.and(MeetingSpecifications.withParticipant(participantId));
+        }
+
+        List<MeetingOccurrence> occurrences = new ArrayList<>();
+        for (Meeting meeting : meetingRepository.findAll(specification)) {
+            if (meeting.getRecurrenceRule() == null) {
+                occurrences.add(occurrenceOf(meeting, meeting.getSeriesId(), meeting.getDateTime()));
+                continue;
+            }
+            Set<Long> exceptions = new HashSet<>();
+            meeting.getExceptionDates().forEach(date -> exceptions.add(date.getTime()));
+            RecurrenceRule.parse(meeting.getRecurrenceRule()).forEachStart(firstOccurrenceOf(meeting),
+                    from.toInstant(), to.toInstant(), start -> {
+                        if (!exceptions.contains(start.toEpochMilli())) {
+                            occurrences.add(occurrenceOf(meeting, meeting.getId(), Date.from(start)));
+                        }
+                    });
+        }
+        occurrences.sort(Comparator.comparing(MeetingOccurrence::start).thenComparing(MeetingOccurrence::meetingId));
+        return occurrences;
+    }
+
+    private static MeetingOccurrence occurrenceOf(Meeting meeting, UUID seriesId, Date start) {
+        Date end = new Date(start.getTime() + TimeUnit.MINUTES.toMillis(meeting.getDurationMinutes()));
+        return new MeetingOccurrence(meeting.getId(), seriesId, meeting.getTitle(), meeting.getLocation(), start, end);
+    }
+
+    /**
+     * Replaces the occurrence of series {@code id} originally starting at
+     * {@code start} with a meeting of its own, or updates the override made
+     * earlier. A new override copies the series, including its participants,
+     * attachments and calendars; fields left out of {@code changes} keep
+     * their current values. Empty if there is no such occurrence.
+     */
+    @Transactional
+    public Optional<Meeting> overrideOccurrence(UUID id, Date start, OccurrenceChanges changes) {
+        return meetingRepository.findById(id)
+                .filter(series -> isOccurrence(series, start))
+                .map(series -> {
+                    Meeting override = meetingRepository.findBySeriesIdAndOriginalDateTime(id, start)
+                            .orElseGet(() -> newOverride(series, start));
+                    if (changes.getTitle() != null) {
+                        override.setTitle(changes.getTitle());
+                    }
+                    if (changes.getDetails() != null) {
+                        override.setDetails(changes.getDetails());
+                    }
+                    if (changes.getLocation() != null) {
+                        override.setLocation(changes.getLocation());
+                    }
+                    if (changes.getDateTime() != null) {
+                        override.setDateTime(changes.getDateTime());
+                    }
+                    if (changes.getDurationMinutes() != null) {
+                        override.setDurationMinutes(changes.getDurationMinutes());
+                    }
+                    series.getExceptionDates().add(start);
+                    saveAndEvictCalendars(series);
+                    meetingSearchIndex.reindex(override.getId());
+                    return saveAndEvict(override);
+                });
+    }
+
+    /**
+     * Cancels the occurrence of series {@code id} originally starting at
+     * {@code start}, deleting its override if there is one. Empty if there is
+     * no such occurrence.
+     */
+    @Transactional
+    public Optional<Meeting> cancelOccurrence(UUID id, Date start) {
+        return meetingRepository.findById(id)
+                .filter(series -> isOccurrence(series, start))
+                .map(series -> {
+                    meetingRepository.findBySeriesIdAndOriginalDateTime(id, start)
+                            .ifPresent(override -> deleteMeeting(override.getId()));
+                    series.getExceptionDates().add(start);
+                    return saveAndEvict(series);
+                });
+    }
+
+    private Meeting newOverride(Meeting series, Date start) {
+        Meeting override = new Meeting();
+        override.setTitle(series.getTitle());
+        override.setDetails(series.getDetails());
+        override.setLocation(series.getLocation());
+        override.setDateTime(start);
+        override.setDurationMinutes(series.getDurationMinutes());
+        override.setTimeZone(series.getTimeZone());
+        override.setSeriesId(series.getId());
+        override.setOriginalDateTime(start);
+        override.getParticipants().addAll(series.getParticipants());
+        override.getAttachments().addAll(series.getAttachments());
+        Meeting saved = meetingRepository.save(override);
+        for (Calendar calendar : series.getCalendars()) {
+            calendar.getMeetings().add(saved);
+            saved.getCalendars().add(calendar);
+        }
+        return saved;
+    }
+
+    private static boolean isOccurrence(Meeting series, Date start) {
+        return series.getRecurrenceRule() != null
+                && RecurrenceRule.parse(series.getRecurrenceRule()).isStart(firstOccurrenceOf(series), start.toInstant());
+    }
+
+    private static ZonedDateTime firstOccurrenceOf(Meeting series) {
+        return series.getDateTime().toInstant().atZone(RecurrenceRule.zoneOf(series.getTimeZone()));
+    }
+
+    /**
+     * Normalises the recurrence rule of {@code meeting} and records the
+     * start of its final occurrence, so that window queries can skip series
+     * that are over.
+     */
+    private static void applyRecurrence(Meeting meeting) {
+        RecurrenceRule.zoneOf(meeting.getTimeZone());
+        if (meeting.getRecurrenceRule() == null || meeting.getRecurrenceRule().isBlank()) {
+            meeting.setRecurrenceRule(null);
+            meeting.setLastOccurrence(null);
+            return;
+        }
+        if (meeting.getSeriesId() != null) {
+            throw new InvalidRecurrenceException("recurrenceRule", "an override of an occurrence can not recur");
+        }
+        if (meeting.getDateTime() == null) {
+            throw new InvalidRecurrenceException("recurrenceRule", "a recurring meeting needs a dateTime");
+        }
+        RecurrenceRule rule = RecurrenceRule.parse(meeting.getRecurrenceRule());
+        meeting.setRecurrenceRule(rule.toString());
+        meeting.setLastOccurrence(rule.lastStart(firstOccurrenceOf(meeting))
+                .map(Date::from)
+                .orElse(rule.isBounded() ? meeting.getDateTime() : null));
+    }
+
     public List<Meeting> getAllMeetingsByIds(Set<UUID> meetingIds) {
         return meetingRepository.findAllById(meetingIds);
     }
@@ -41,69 +298,407 @@ public class MeetingService {
         return meetingRepository.findById(id);
     }
 
+    /**
+     * ETag of {@code GET /meetings/{id}}. The meeting renders with its
+     * calendars and their meetings, so the versions of all of those and of
+     * their participants and attachments go into the tag.
+     */
+    @Transactional
+    public Optional<String> getMeetingETag(UUID id) {
+        List<VersionStamp> stamps = new ArrayList<>(meetingRepository.findVersions(List.of(id)));
+        if (stamps.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<UUID> meetingIds = new HashSet<>();
+        meetingIds.add(id);
+        List<UUID> calendarIds = meetingRepository.findCalendarLinks(List.of(id)).stream()
+                .map(IdLink::linkedId)
+                .toList();
+        if (!calendarIds.isEmpty()) {
+            stamps.addAll(calendarRepository.findVersions(calendarIds));
+            List<VersionStamp> calendarMeetings = calendarRepository.findMeetingVersions(calendarIds);
+            stamps.addAll(calendarMeetings);
+            calendarMeetings.forEach(meeting -> meetingIds.add(meeting.id()));
+        }
+        stamps.addAll(meetingRepository.findParticipantVersions(meetingIds));
+        stamps.addAll(meetingRepository.findAttachmentVersions(meetingIds));
+        return Optional.of(ETags.of(stamps));
+    }
+
     public Meeting createMeeting(Meeting meeting) {
-        return meetingRepository.save(meeting);
+        return createMeeting(meeting, ConflictPolicy.IGNORE);
+    }
+
+    public Meeting createMeeting(Meeting meeting, ConflictPolicy conflictPolicy) {
+        applyRecurrence(meeting);
+        if (conflictPolicy == ConflictPolicy.REJECT) {
+            rejectConflicts(findConflicts(meeting));
+        }
+        Meeting saved = meetingRepository.save(meeting);
+        freeBusyIndex.evict(participantIdsOf(meeting));
+        meetingSearchIndex.reindex(saved.getId());
+        return saved;
+    }
+
+    /**
+     * Other meetings any participant of {@code meeting} attends during its
+     * time slot. Answered from {@link FreeBusyIndex}, so at most one query
+     * is made, for participants whose schedules aren't loaded yet.
+     */
+    public List<MeetingConflict> findConflicts(Meeting meeting) {
+        return findConflicts(meeting.getId(), participantIdsOf(meeting), meeting.getDateTime(),
+                meeting.getDurationMinutes());
+    }
+
+    private List<MeetingConflict> findConflicts(UUID meetingId, List<UUID> participantIds, Date start,
+            int durationMinutes) {
+        if (start == null || participantIds.isEmpty()) {
+            return List.of();
+        }
+        Date end = new Date(start.getTime() + TimeUnit.MINUTES.toMillis(durationMinutes));
+        return freeBusyIndex.findConflicts(participantIds, start, end, meetingId);
+    }
+
+    private static void rejectConflicts(List<MeetingConflict> conflicts) {
+        if (!conflicts.isEmpty()) {
+            throw new MeetingConflictException(conflicts);
+        }
+    }
+
+    /**
+     * Creates every valid item of {@code meetingDTOs} in one transaction.
+     * Participants for the whole batch are resolved up front, {@link #BATCH_SIZE}
+     * ids per query so no IN list outgrows the driver's bind parameter limit,
+     * and the inserts are flushed in chunks of {@link #BATCH_SIZE} so Hibernate
+     * can send them as JDBC batches; the persistence context is cleared after
+     * each chunk to keep dirty checking cheap. Invalid items are reported
+     * back instead of failing the batch.
+     */
+    @Transactional
+    public List<MeetingBatchResult> createMeetings(List<MeetingDTO> meetingDTOs) {
+        Set<UUID> participantIds = new HashSet<>();
+        meetingDTOs.forEach(meetingDTO -> {
+            if (meetingDTO.getParticipantIds() != null) {
+                participantIds.addAll(meetingDTO.getParticipantIds());
+            }
+        });
+        List<UUID> ids = new ArrayList<>(participantIds);
+        Map<UUID, Participant> participantsById = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            participantRepository.findAllById(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())))
+                    .forEach(participant -> participantsById.put(participant.getId(), participant));
+        }
+
+        List<MeetingBatchResult> results = new ArrayList<>(meetingDTOs.size());
+        List<Meeting> chunk = new ArrayList<>(BATCH_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(BATCH_SIZE);
+        for (int index = 0; index < meetingDTOs.size(); index++) {
+            MeetingDTO meetingDTO = meetingDTOs.get(index);
+            Map<String, String> errors = validate(meetingDTO, participantsById);
+            if (!errors.isEmpty()) {
+                results.add(MeetingBatchResult.rejected(index, errors));
+                continue;
+            }
+
+            Meeting meeting = new Meeting();
+            meeting.setTitle(meetingDTO.getTitle());
+            meeting.setDetails(meetingDTO.getDetails());
+            meeting.setDateTime(meetingDTO.getDateTime());
+            if (meetingDTO.getDurationMinutes() != null) {
+                meeting.setDurationMinutes(meetingDTO.getDurationMinutes());
+            }
+            meeting.setLocation(meetingDTO.getLocation());
+            meeting.setRecurrenceRule(meetingDTO.getRecurrenceRule());
+            meeting.setTimeZone(meetingDTO.getTimeZone());
+            try {
+                applyRecurrence(meeting);
+            } catch (InvalidRecurrenceException e) {
+                results.add(MeetingBatchResult.rejected(index, Map.of(e.getField(), e.getMessage())));
+                continue;
+            }
+            meetingDTO.getParticipantIds().forEach(id -> meeting.getParticipants().add(participantsById.get(id)));
+            chunk.add(meeting);
+            chunkIndexes.add(index);
+
+            if (chunk.size() == BATCH_SIZE) {
+                saveChunk(chunk, chunkIndexes, results);
+                chunk = new ArrayList<>(BATCH_SIZE);
+                chunkIndexes = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        saveChunk(chunk, chunkIndexes, results);
+
+        freeBusyIndex.evict(participantsById.keySet());
+
+        results.sort(Comparator.comparingInt(MeetingBatchResult::index));
+        return results;
+    }
+
+    /**
+     * Creates every valid meeting of {@code meetings}, which already carry
+     * their participants, batched and flushed like {@link #createMeetings}.
+     * Results are indexed by position in {@code meetings}; invalid meetings
+     * are reported back instead of failing the rest.
+     */
+    @Transactional
+    public List<MeetingBatchResult> importMeetings(List<Meeting> meetings) {
+        Set<UUID> participantIds = new HashSet<>();
+        List<MeetingBatchResult> results = new ArrayList<>(meetings.size());
+        List<Meeting> chunk = new ArrayList<>(BATCH_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(BATCH_SIZE);
+        for (int index = 0; index < meetings.size(); index++) {
+            Meeting meeting = meetings.get(index);
+            Map<String, String> errors = new HashMap<>();
+            validator.validate(meeting).forEach(violation ->
+                    errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            if (errors.isEmpty()) {
+                try {
+                    applyRecurrence(meeting);
+                } catch (InvalidRecurrenceException e) {
+                    errors.put(e.getField(), e.getMessage());
+                }
+            }
+            if (!errors.isEmpty()) {
+                results.add(MeetingBatchResult.rejected(index, errors));
+                continue;
+            }
+
+            meeting.getParticipants().forEach(participant -> participantIds.add(participant.getId()));
+            chunk.add(meeting);
+            chunkIndexes.add(index);
+
+            if (chunk.size() == BATCH_SIZE) {
+                saveChunk(chunk, chunkIndexes, results);
+                chunk = new ArrayList<>(BATCH_SIZE);
+                chunkIndexes = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        saveChunk(chunk, chunkIndexes, results);
+
+        freeBusyIndex.evict(participantIds);
+
+        results.sort(Comparator.comparingInt(MeetingBatchResult::index));
+        return results;
+    }
+
+    private Map<String, String> validate(MeetingDTO meetingDTO, Map<UUID, Participant> participantsById) {
+        Map<String, String> errors = new HashMap<>();
+        validator.validate(meetingDTO).forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+
+        if (meetingDTO.getParticipantIds() == null || meetingDTO.getParticipantIds().isEmpty()) {
+            errors.put("participantIds", "At least one participant is required");
+        } else if (!participantsById.keySet().containsAll(meetingDTO.getParticipantIds())) {
+            errors.put("participantIds", "participant not found");
+        }
+        return errors;
+    }
+
+    private void saveChunk(List<Meeting> chunk, List<Integer> chunkIndexes, List<MeetingBatchResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        meetingRepository.saveAll(chunk);
+        meetingRepository.flush();
+        for (int i = 0; i < chunk.size(); i++) {
+            results.add(MeetingBatchResult.created(chunkIndexes.get(i), chunk.get(i).getId()));
+        }
+        meetingSearchIndex.reindex(chunk.stream().map(Meeting::getId).toList());
+        entityManager.clear();
     }
 
     public Optional<Meeting> updateMeeting(UUID id, Meeting updatedMeeting) {
+        return updateMeeting(id, updatedMeeting, ConflictPolicy.IGNORE);
+    }
+
+    public Optional<Meeting> updateMeeting(UUID id, Meeting updatedMeeting, ConflictPolicy conflictPolicy) {
         return meetingRepository.findById(id).map(meeting -> {
+            if (conflictPolicy == ConflictPolicy.REJECT) {
+                rejectConflicts(findConflicts(id, participantIdsOf(meeting), updatedMeeting.getDateTime(),
+                        updatedMeeting.getDurationMinutes()));
+            }
             meeting.setTitle(updatedMeeting.getTitle());
             meeting.setDetails(updatedMeeting.getDetails());
             meeting.setDateTime(updatedMeeting.getDateTime());
+            meeting.setDurationMinutes(updatedMeeting.getDurationMinutes());
             meeting.setLocation(updatedMeeting.getLocation());
+            meeting.setRecurrenceRule(updatedMeeting.getRecurrenceRule());
+            meeting.setTimeZone(updatedMeeting.getTimeZone());
+            applyRecurrence(meeting);
 
-            return meetingRepository.save(meeting);
+            Meeting saved = saveAndEvict(meeting);
+            meetingSearchIndex.reindex(id);
+            return saved;
         });
     }
 
     @Transactional
     public void deleteMeeting(UUID id) {
-        Meeting meeting = meetingRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Meeting not found"));
-
-        Set<Calendar> calendars = new HashSet<>(meeting.getCalendars());
+        if (!meetingRepository.existsById(id)) {
+            throw new EntityNotFoundException("Meeting not found");
+        }
+        deleteMeetings(List.of(id));
+    }
 
-        for (Calendar calendar : calendars) {
-            calendar.getMeetings().remove(meeting);
-            meeting.getCalendars().remove(calendar);
+    /**
+     * Deletes the given meetings, the overrides of any series among them and
+     * the calendars left without meetings, with the same handful of
+     * statements however many there are. Nothing is loaded into the
+     * persistence context: a bulk delete also deletes the entity's rows in
+     * every join table, on both sides of the association.
+     */
+    @Transactional
+    public void deleteMeetings(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<UUID> meetingIds = meetingRepository.findIdsWithOverrides(ids);
+        if (meetingIds.isEmpty()) {
+            return;
+        }
+        List<UUID> calendarIds = meetingRepository.findCalendarLinks(meetingIds).stream()
+                .map(IdLink::linkedId).distinct().toList();
+        List<UUID> participantIds = meetingRepository.findParticipantLinks(meetingIds).stream()
+                .map(IdLink::linkedId).distinct().toList();
 
-            if (calendar.getMeetings().isEmpty()) {
-                calendarRepository.delete(calendar);
-            }
+        meetingRepository.deleteAllByIdInBatch(meetingIds);
+        if (!calendarIds.isEmpty()) {
+            calendarRepository.deleteEmpty(calendarIds);
         }
 
-        meetingRepository.deleteById(id);
+        calendarViewCache.evict(calendarIds);
+        freeBusyIndex.evict(participantIds);
+        meetingSearchIndex.reindex(meetingIds);
     }
 
+    /**
+     * Adds the existing ones of {@code participantIds} to meeting {@code id}
+     * with one insert, leaving concurrent changes to its other participants
+     * in place. Empty if there is no such meeting.
+     */
+    @Transactional
     public Optional<Meeting> addParticipantsToMeeting(UUID id, List<UUID> participantIds) {
-        return meetingRepository.findById(id).map(meeting -> {
-            List<Participant> participants = participantRepository.findAllById(participantIds);
-            meeting.addParticipants(participants);
-            return meetingRepository.save(meeting);
-        });
+        if (!meetingRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        if (!participantIds.isEmpty() && meetingRepository.insertParticipantLinks(id, participantIds) > 0) {
+            linksChanged(id, "participants");
+            freeBusyIndex.evict(participantIds);
+        }
+        return reloadAndEvictCalendars(id);
     }
 
+    /**
+     * Removes {@code participantIds} from meeting {@code id} with one
+     * delete. Fails if that would leave it without participants.
+     */
+    @Transactional
     public Optional<Meeting> removeParticipantsFromMeeting(UUID id, List<UUID> participantIds) {
-        return meetingRepository.findById(id).map(meeting -> {
-            List<Participant> participants = participantRepository.findAllById(participantIds);
-            meeting.removeParticipants(participants);
-            return meetingRepository.save(meeting);
-        });
+        if (!meetingRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        if (!participantIds.isEmpty() && meetingRepository.deleteParticipantLinks(id, participantIds) > 0) {
+            linksChanged(id, "participants");
+            requireParticipants(id);
+            freeBusyIndex.evict(participantIds);
+        }
+        return reloadAndEvictCalendars(id);
     }
 
+    /**
+     * Makes the existing ones of {@code participantIds} the participants of
+     * meeting {@code id}: one delete drops the others and one insert adds
+     * the missing ones, so the database works out the difference.
+     */
+    @Transactional
+    public Optional<Meeting> replaceParticipantsOfMeeting(UUID id, Collection<UUID> participantIds) {
+        if (!meetingRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        if (participantIds.isEmpty()) {
+            throw new ConstraintViolationException(validator.validateValue(Meeting.class, "participants", Set.of()));
+        }
+        Set<UUID> affected = new HashSet<>(participantIds);
+        meetingRepository.findParticipantLinks(List.of(id)).forEach(link -> affected.add(link.linkedId()));
+
+        int changed = meetingRepository.deleteParticipantLinksExcept(id, participantIds)
+                + meetingRepository.insertParticipantLinks(id, participantIds);
+        if (changed > 0) {
+            linksChanged(id, "participants");
+            requireParticipants(id);
+            freeBusyIndex.evict(affected);
+        }
+        return reloadAndEvictCalendars(id);
+    }
+
+    @Transactional
     public Optional<Meeting> addAttachmentToMeeting(UUID id, List<UUID> attachmentIds) {
-        return meetingRepository.findById(id).map(meeting -> {
-            List<Attachment> attachments = attachmentRepository.findAllById(attachmentIds);
-            meeting.addAttachments(attachments);
-            return meetingRepository.save(meeting);
-        });
+        if (!meetingRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        if (!attachmentIds.isEmpty() && meetingRepository.insertAttachmentLinks(id, attachmentIds) > 0) {
+            linksChanged(id, "attachments");
+        }
+        return reloadAndEvictCalendars(id);
     }
 
+    @Transactional
     public Optional<Meeting> removeAttachmentsFromMeeting(UUID id, List<UUID> attachmentIds) {
+        if (!meetingRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        if (!attachmentIds.isEmpty() && meetingRepository.deleteAttachmentLinks(id, attachmentIds) > 0) {
+            linksChanged(id, "attachments");
+        }
+        return reloadAndEvictCalendars(id);
+    }
+
+    /**
+     * Bumps the version of a meeting whose {@code collection} was changed
+     * by a link statement. Also evicts that meeting's entry for the
+     * collection from the second-level cache. The cleanup Hibernate runs
+     * after the statement evicts nothing, because the statement names its
+     * join table (see {@link MeetingRepository#insertParticipantLinks}). A
+     * link edit therefore costs the cache one entry, and other meetings'
+     * cached collections stay in place.
+     */
+    private void linksChanged(UUID id, String collection) {
+        meetingRepository.incrementVersion(id);
+        Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        String role = Meeting.class.getName() + "." + collection;
+        Transactions.runNowAndAfterCompletion(() -> cache.evictCollectionData(role, id));
+    }
+
+    /**
+     * Runs after the version of the meeting was bumped, which locks its row,
+     * so two concurrent removals can't both see the other's participant.
+     */
+    private void requireParticipants(UUID id) {
+        if (meetingRepository.countParticipants(id) == 0) {
+            throw new ConstraintViolationException(validator.validateValue(Meeting.class, "participants", Set.of()));
+        }
+    }
+
+    private Optional<Meeting> reloadAndEvictCalendars(UUID id) {
         return meetingRepository.findById(id).map(meeting -> {
-            List<Attachment> attachments = attachmentRepository.findAllById(attachmentIds);
-            meeting.removeAttachments(attachments);
-            return meetingRepository.save(meeting);
+            calendarViewCache.evict(meeting.getCalendars().stream().map(Calendar::getId).toList());
+            return meeting;
         });
     }
+
+    private Meeting saveAndEvict(Meeting meeting) {
+        Meeting saved = saveAndEvictCalendars(meeting);
+        freeBusyIndex.evict(participantIdsOf(meeting));
+        return saved;
+    }
+
+    private Meeting saveAndEvictCalendars(Meeting meeting) {
+        Meeting saved = meetingRepository.save(meeting);
+        calendarViewCache.evict(meeting.getCalendars().stream().map(Calendar::getId).toList());
+        return saved;
+    }
+
+    private static List<UUID> participantIdsOf(Meeting meeting) {
+        return meeting.getParticipants().stream().map(Participant::getId).toList();
+    }
 }
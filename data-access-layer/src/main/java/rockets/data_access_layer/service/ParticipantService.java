@@ -1,29 +1,67 @@
 package rockets.data_access_layer.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
-import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.dto.BusyInterval;
+import rockets.data_access_layer.dto.CursorPage;
+import rockets.data_access_layer.dto.ParticipantView;
 import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.CalendarRepository;
 import rockets.data_access_layer.repository.MeetingRepository;
 import rockets.data_access_layer.repository.ParticipantRepository;
+import rockets.data_access_layer.util.Pagination;
 
 import java.util.*;
 
+@Timed(value = "service.invocations", histogram = true)
 @Service
 public class ParticipantService {
     private final ParticipantRepository participantRepository;
 
     private final MeetingRepository meetingRepository;
 
-    public ParticipantService(ParticipantRepository participantRepository, MeetingRepository meetingRepository) {
+    private final CalendarRepository calendarRepository;
+
+    private final MeetingService meetingService;
+
+    private final CalendarViewCache calendarViewCache;
+
+    private final FreeBusyIndex freeBusyIndex;
+
+    private final ParticipantSuggestIndex participantSuggestIndex;
+
+    public ParticipantService(ParticipantRepository participantRepository, MeetingRepository meetingRepository,
+            CalendarRepository calendarRepository, MeetingService meetingService, CalendarViewCache calendarViewCache,
+            FreeBusyIndex freeBusyIndex, ParticipantSuggestIndex participantSuggestIndex) {
         this.participantRepository = participantRepository;
         this.meetingRepository = meetingRepository;
+        this.calendarRepository = calendarRepository;
+        this.meetingService = meetingService;
+        this.calendarViewCache = calendarViewCache;
+        this.freeBusyIndex = freeBusyIndex;
+        this.participantSuggestIndex = participantSuggestIndex;
     }
 
     public List<Participant> getAllParticipants() {
         return this.participantRepository.findAll();
     }
 
+    public CursorPage<Participant> getParticipantsPage(String cursor, int limit) {
+        List<Participant> rows = Pagination.decodeCursor(cursor)
+                .map(after -> participantRepository.findAllByIdGreaterThanOrderByIdAsc(after, Pagination.probeLimit(limit)))
+                .orElseGet(() -> participantRepository.findAllByOrderByIdAsc(Pagination.probeLimit(limit)));
+        return Pagination.toPage(rows, limit, Participant::getId);
+    }
+
+    public CursorPage<ParticipantView> getParticipantViewsPage(String cursor, int limit) {
+        List<ParticipantView> rows = Pagination.decodeCursor(cursor)
+                .map(after -> participantRepository.findViewsAfter(after, Pagination.probeLimit(limit)))
+                .orElseGet(() -> participantRepository.findViews(Pagination.probeLimit(limit)));
+        return Pagination.toPage(rows, limit, ParticipantView::id);
+    }
+
     public List<Participant> getAllParticipantsByIds(Set<UUID> participantIds) {
         return participantRepository.findAllById(participantIds);
     }
@@ -32,33 +70,77 @@ public class ParticipantService {
         return participantRepository.findById(id);
     }
 
+    public List<ParticipantView> suggestParticipants(String prefix, int limit) {
+        return participantSuggestIndex.suggest(prefix, limit);
+    }
+
+    public List<BusyInterval> getBusyIntervals(Collection<UUID> participantIds, Date from, Date to) {
+        return freeBusyIndex.getBusyIntervals(participantIds, from, to);
+    }
+
+    /**
+     * The participants with the given emails, matched case-insensitively
+     * and keyed by lower-cased email. Emails nobody has yet get a new
+     * participant with the given name, inserted as one batch. Runs in the
+     * caller's transaction so the result can be attached to new meetings.
+     */
+    @Transactional
+    public Map<String, Participant> upsertByEmail(Map<String, String> namesByEmail) {
+        Map<String, Participant> participantsByEmail = new HashMap<>();
+        if (namesByEmail.isEmpty()) {
+            return participantsByEmail;
+        }
+        participantRepository.findAllByEmailIgnoreCaseIn(namesByEmail.keySet())
+                .forEach(participant -> participantsByEmail.putIfAbsent(participant.getEmail().toLowerCase(), participant));
+
+        List<Participant> created = new ArrayList<>();
+        namesByEmail.forEach((email, name) -> {
+            if (!participantsByEmail.containsKey(email)) {
+                Participant participant = new Participant();
+                participant.setEmail(email);
+                participant.setName(name);
+                participantsByEmail.put(email, participant);
+                created.add(participant);
+            }
+        });
+        participantRepository.saveAll(created);
+        participantSuggestIndex.reindex(created.stream().map(Participant::getId).toList());
+        return participantsByEmail;
+    }
+
     public Participant createParticipant(Participant participant) {
-        return participantRepository.save(participant);
+        Participant saved = participantRepository.save(participant);
+        participantSuggestIndex.reindex(saved.getId());
+        return saved;
     }
 
     public Optional<Participant> updateParticipant(UUID id, Participant updatedParticipant) {
         return participantRepository.findById(id).map(participant -> {
             participant.setName(updatedParticipant.getName());
             participant.setEmail(updatedParticipant.getEmail());
-            return participantRepository.save(participant);
+            Participant saved = participantRepository.save(participant);
+            calendarViewCache.evict(calendarRepository.findIdsByParticipantId(id));
+            participantSuggestIndex.reindex(id);
+            return saved;
         });
     }
 
+    /**
+     * Deletes the participant, and with it the meetings it was the only
+     * participant of, with a fixed number of statements.
+     */
+    @Transactional
     public void deleteParticipant(UUID id) {
-        Participant participant = participantRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Participant not found"));
-
-        Set<Meeting> meetings = new HashSet<>(participant.getMeetings());
-
-        for (Meeting meeting : meetings) {
-            meeting.getParticipants().remove(participant);
-            participant.getMeetings().remove(meeting);
-
-            if (meeting.getParticipants().isEmpty()) {
-                meetingRepository.delete(meeting);
-            }
+        if (!participantRepository.existsById(id)) {
+            throw new EntityNotFoundException("Participant not found");
         }
+        List<UUID> calendarIds = calendarRepository.findIdsByParticipantId(id);
+
+        meetingService.deleteMeetings(meetingRepository.findIdsAttendedOnlyBy(id));
+        participantRepository.deleteAllByIdInBatch(List.of(id));
 
-        participantRepository.deleteById(id);
+        calendarViewCache.evict(calendarIds);
+        freeBusyIndex.evict(id);
+        participantSuggestIndex.reindex(id);
     }
 }
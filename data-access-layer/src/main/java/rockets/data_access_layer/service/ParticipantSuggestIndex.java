@@ -0,0 +1,220 @@
+package rockets.data_access_layer.service;
+
+import jakarta.transaction.Transactional;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import rockets.data_access_layer.dto.ParticipantView;
+import rockets.data_access_layer.repository.ParticipantRepository;
+import rockets.data_access_layer.util.Text;
+import rockets.data_access_layer.util.Transactions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory prefix index over participant names and emails for
+ * autocomplete. Every participant is filed under its email and under its
+ * name from the start of each word, so "smi" finds "Jane Smith", in a
+ * sorted map: a suggestion is one {@code O(log n)} seek to the prefix and a
+ * walk over the next few keys, however many participants there are.
+ * <p>
+ * Lookups don't lock. The index is rebuilt from a database cursor when the
+ * application starts, and {@link #reindex} re-reads participants after the
+ * transaction that changed them commits, filing them under their new keys
+ * before dropping the old ones so they never go missing from suggestions.
+ */
+@Component
+public class ParticipantSuggestIndex {
+    public static final int MAX_SUGGESTIONS = 50;
+
+    // words past this in a name are too far in for anyone to type
+    static final int MAX_NAME_KEYS = 8;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ParticipantRepository participantRepository;
+
+    // serializes reloads, so a participant is never put back from an older read
+    private final Lock lock = new ReentrantLock();
+
+    private volatile Index index = new Index();
+
+    private Set<UUID> reindexedDuringRebuild;
+
+    public ParticipantSuggestIndex(ParticipantRepository participantRepository) {
+        this.participantRepository = participantRepository;
+    }
+
+    /**
+     * Up to {@code limit} participants whose email or a word of whose name
+     * starts with {@code prefix}, ignoring case and accents, in the order of
+     * the text they matched on.
+     */
+    public List<ParticipantView> suggest(String prefix, int limit) {
+        String folded = normalize(prefix).stripLeading();
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+        return index.suggest(folded, limit);
+    }
+
+    public void reindex(UUID participantId) {
+        reindex(List.of(participantId));
+    }
+
+    /**
+     * Re-reads {@code participantIds} once the current transaction commits,
+     * dropping the ones that no longer exist.
+     */
+    public void reindex(Collection<UUID> participantIds) {
+        if (participantIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(participantIds);
+        Transactions.runAfterCommit(() -> load(ids));
+    }
+
+    private void load(Collection<UUID> ids) {
+        lock.lock();
+        try {
+            Map<UUID, ParticipantView> views = new LinkedHashMap<>();
+            participantRepository.findViewsByIds(ids).forEach(view -> views.put(view.id(), view));
+            if (reindexedDuringRebuild != null) {
+                reindexedDuringRebuild.addAll(ids);
+            }
+            for (UUID id : ids) {
+                index.replace(id, views.get(id));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        lock.lock();
+        try {
+            reindexedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+
+        List<Map.Entry<Key, ParticipantView>> entries = new ArrayList<>();
+        try (Stream<ParticipantView> views = participantRepository.streamViews()) {
+            views.forEach(view -> keysOf(view).forEach(term ->
+                    entries.add(Map.entry(new Key(term, view.id()), view))));
+        }
+        // a skip list fills up about twice as fast in key order
+        entries.sort(Map.Entry.comparingByKey());
+        Index rebuilt = new Index();
+        entries.forEach(entry -> rebuilt.put(entry.getKey(), entry.getValue()));
+
+        Set<UUID> stale;
+        lock.lock();
+        try {
+            index = rebuilt;
+            stale = reindexedDuringRebuild;
+            reindexedDuringRebuild = null;
+        } finally {
+            lock.unlock();
+        }
+        if (!stale.isEmpty()) {
+            load(stale);
+        }
+    }
+
+    /**
+     * The texts {@code participant} is filed under: the email, and the name
+     * from the start of each of its first {@link #MAX_NAME_KEYS} words.
+     */
+    static Set<String> keysOf(ParticipantView participant) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (participant.email() != null && !participant.email().isBlank()) {
+            keys.add(normalize(participant.email()).strip());
+        }
+        if (participant.name() != null) {
+            String name = normalize(participant.name()).strip();
+            int words = 0;
+            for (int i = 0; i < name.length() && words < MAX_NAME_KEYS; i++) {
+                if (Character.isLetterOrDigit(name.charAt(i))
+                        && (i == 0 || !Character.isLetterOrDigit(name.charAt(i - 1)))) {
+                    keys.add(name.substring(i));
+                    words++;
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(Text.fold(text)).replaceAll(" ");
+    }
+
+    /**
+     * A participant's id breaks ties between equal texts; a null id sorts
+     * before all of them, so it marks where a prefix starts.
+     */
+    private record Key(String term, UUID participantId) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int order = term.compareTo(other.term);
+            if (order != 0 || participantId == other.participantId) {
+                return order;
+            }
+            if (participantId == null || other.participantId == null) {
+                return participantId == null ? -1 : 1;
+            }
+            return participantId.compareTo(other.participantId);
+        }
+    }
+
+    private static final class Index {
+        private final ConcurrentSkipListMap<Key, ParticipantView> keys = new ConcurrentSkipListMap<>();
+
+        private final Map<UUID, ParticipantView> participants = new ConcurrentHashMap<>();
+
+        void put(Key key, ParticipantView view) {
+            keys.put(key, view);
+            participants.put(key.participantId(), view);
+        }
+
+        void replace(UUID id, ParticipantView view) {
+            Set<String> added = view == null ? Set.of() : keysOf(view);
+            added.forEach(term -> keys.put(new Key(term, id), view));
+            ParticipantView previous = view == null ? participants.remove(id) : participants.put(id, view);
+            if (previous != null) {
+                for (String term : keysOf(previous)) {
+                    if (!added.contains(term)) {
+                        keys.remove(new Key(term, id));
+                    }
+                }
+            }
+        }
+
+        List<ParticipantView> suggest(String prefix, int limit) {
+            Map<UUID, ParticipantView> found = new LinkedHashMap<>();
+            for (Map.Entry<Key, ParticipantView> entry : keys.tailMap(new Key(prefix, null)).entrySet()) {
+                if (found.size() == limit || !entry.getKey().term().startsWith(prefix)) {
+                    break;
+                }
+                found.putIfAbsent(entry.getKey().participantId(), entry.getValue());
+            }
+            return List.copyOf(found.values());
+        }
+    }
+}
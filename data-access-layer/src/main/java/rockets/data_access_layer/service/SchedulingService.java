@@ -0,0 +1,199 @@
+package rockets.data_access_layer.service;
+
+import org.springframework.stereotype.Service;
+import rockets.data_access_layer.dto.BusyInterval;
+import rockets.data_access_layer.dto.FreeSlot;
+import rockets.data_access_layer.dto.SlotSearchRequest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the earliest slots in which a whole group of participants is free.
+ * <p>
+ * Each participant's busy time from {@link FreeBusyIndex} is rasterised into a
+ * bitmap with one bit per {@link #SLOT_MINUTES} minutes of every working day
+ * and a fixed number of words per day, so the group's busy time for a day is
+ * the OR of a couple of words per participant. Days are searched in parallel
+ * on the fork-join pool; later days are skipped once earlier ones have
+ * produced enough slots.
+ */
+@Service
+public class SchedulingService {
+    public static final int MAX_DAYS = 366;
+
+    static final int SLOT_MINUTES = 15;
+
+    static final int DAYS_PER_TASK = 7;
+
+    private static final long SLOT_MILLIS = TimeUnit.MINUTES.toMillis(SLOT_MINUTES);
+
+    // a working day is at most 25 hours long, on the day the clocks go back
+    private static final int WORDS_PER_DAY = (25 * 60 / SLOT_MINUTES + Long.SIZE - 1) / Long.SIZE;
+
+    private static final int BITS_PER_DAY = WORDS_PER_DAY * Long.SIZE;
+
+    private final FreeBusyIndex freeBusyIndex;
+
+    public SchedulingService(FreeBusyIndex freeBusyIndex) {
+        this.freeBusyIndex = freeBusyIndex;
+    }
+
+    /**
+     * Up to {@code limit} slots of {@code durationMinutes}, earliest first,
+     * starting on the {@link #SLOT_MINUTES}-minute grid of each working day
+     * and lying entirely within both the working hours and the search window.
+     */
+    public List<FreeSlot> findSlots(SlotSearchRequest request) {
+        Workdays workdays = Workdays.of(request);
+        List<long[]> bitmaps = freeBusyIndex.getBusyIntervalsByParticipant(request.getParticipantIds(),
+                        request.getFrom(), request.getTo())
+                .values().parallelStream()
+                .map(workdays::rasterise)
+                .toList();
+        int slotsNeeded = Math.ceilDiv(request.getDurationMinutes(), SLOT_MINUTES);
+        long duration = TimeUnit.MINUTES.toMillis(request.getDurationMinutes());
+        return ForkJoinPool.commonPool().invoke(
+                new DaySearch(workdays, bitmaps, slotsNeeded, duration, request.getLimit(), 0, workdays.count()));
+    }
+
+    /**
+     * The working hours of every day touched by the search window. Day
+     * {@code d} starts at {@code starts[d]}, and only its slots in
+     * {@code [firstSlots[d], endSlots[d])} lie within both the working hours
+     * and the window.
+     */
+    private record Workdays(LocalDate firstDay, ZoneId zone, long[] starts, int[] firstSlots, int[] endSlots) {
+        static Workdays of(SlotSearchRequest request) {
+            ZoneId zone = request.getZone();
+            long from = request.getFrom().getTime();
+            long to = request.getTo().getTime();
+            LocalDate firstDay = LocalDate.ofInstant(request.getFrom().toInstant(), zone);
+            LocalDate lastDay = LocalDate.ofInstant(Instant.ofEpochMilli(to - 1), zone);
+            int count = (int) ChronoUnit.DAYS.between(firstDay, lastDay) + 1;
+
+            long[] starts = new long[count];
+            int[] firstSlots = new int[count];
+            int[] endSlots = new int[count];
+            for (int d = 0; d < count; d++) {
+                LocalDate day = firstDay.plusDays(d);
+                long start = day.atTime(request.getWorkdayStart()).atZone(zone).toInstant().toEpochMilli();
+                long end = day.atTime(request.getWorkdayEnd()).atZone(zone).toInstant().toEpochMilli();
+                starts[d] = start;
+                firstSlots[d] = (int) Math.max(0, Math.ceilDiv(from - start, SLOT_MILLIS));
+                endSlots[d] = (int) Math.max(0, Math.floorDiv(Math.min(end, to) - start, SLOT_MILLIS));
+            }
+            return new Workdays(firstDay, zone, starts, firstSlots, endSlots);
+        }
+
+        int count() {
+            return starts.length;
+        }
+
+        long[] rasterise(List<BusyInterval> intervals) {
+            BitSet busy = new BitSet(count() * BITS_PER_DAY);
+            for (BusyInterval interval : intervals) {
+                long start = interval.start().getTime();
+                long end = interval.end().getTime();
+                int d = (int) Math.max(0,
+                        ChronoUnit.DAYS.between(firstDay, LocalDate.ofInstant(interval.start().toInstant(), zone)));
+                for (; d < count() && starts[d] < end; d++) {
+                    int fromSlot = (int) Math.max(0, Math.floorDiv(start - starts[d], SLOT_MILLIS));
+                    int toSlot = (int) Math.min(endSlots[d], Math.ceilDiv(end - starts[d], SLOT_MILLIS));
+                    if (fromSlot < toSlot) {
+                        busy.set(d * BITS_PER_DAY + fromSlot, d * BITS_PER_DAY + toSlot);
+                    }
+                }
+            }
+            return busy.toLongArray();
+        }
+    }
+
+    private static final class DaySearch extends RecursiveTask<List<FreeSlot>> {
+        private final Workdays workdays;
+
+        private final List<long[]> bitmaps;
+
+        private final int slotsNeeded;
+
+        private final long duration;
+
+        private final int limit;
+
+        private final int firstDay;
+
+        private final int endDay;
+
+        DaySearch(Workdays workdays, List<long[]> bitmaps, int slotsNeeded, long duration, int limit, int firstDay,
+                int endDay) {
+            this.workdays = workdays;
+            this.bitmaps = bitmaps;
+            this.slotsNeeded = slotsNeeded;
+            this.duration = duration;
+            this.limit = limit;
+            this.firstDay = firstDay;
+            this.endDay = endDay;
+        }
+
+        @Override
+        protected List<FreeSlot> compute() {
+            if (endDay - firstDay > DAYS_PER_TASK) {
+                int middle = (firstDay + endDay) >>> 1;
+                DaySearch later = new DaySearch(workdays, bitmaps, slotsNeeded, duration, limit, middle, endDay);
+                later.fork();
+                List<FreeSlot> slots = new DaySearch(workdays, bitmaps, slotsNeeded, duration, limit, firstDay,
+                        middle).compute();
+                if (slots.size() >= limit) {
+                    later.cancel(false);
+                    return slots;
+                }
+                List<FreeSlot> merged = new ArrayList<>(slots);
+                merged.addAll(later.join());
+                return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+            }
+
+            List<FreeSlot> slots = new ArrayList<>();
+            long[] words = new long[WORDS_PER_DAY];
+            for (int d = firstDay; d < endDay && slots.size() < limit; d++) {
+                Arrays.fill(words, 0);
+                int offset = d * WORDS_PER_DAY;
+                for (long[] bitmap : bitmaps) {
+                    for (int w = 0; w < WORDS_PER_DAY && offset + w < bitmap.length; w++) {
+                        words[w] |= bitmap[offset + w];
+                    }
+                }
+                addFreeSlots(d, BitSet.valueOf(words), slots);
+            }
+            return slots;
+        }
+
+        private void addFreeSlots(int day, BitSet busy, List<FreeSlot> slots) {
+            int end = workdays.endSlots[day];
+            int free = busy.nextClearBit(workdays.firstSlots[day]);
+            while (free + slotsNeeded <= end) {
+                int next = busy.nextSetBit(free);
+                if (next < 0 || next > end) {
+                    next = end;
+                }
+                for (int i = free; i + slotsNeeded <= next; i++) {
+                    if (slots.size() == limit) {
+                        return;
+                    }
+                    long start = workdays.starts[day] + i * SLOT_MILLIS;
+                    slots.add(new FreeSlot(new Date(start), new Date(start + duration)));
+                }
+                free = busy.nextClearBit(next);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package rockets.data_access_layer.util;
+
+import rockets.data_access_layer.dto.VersionStamp;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Strong ETags derived from entity versions. Versions only grow and a
+ * membership change bumps the owning side's version, so a digest over the
+ * (id, version) pairs of every row a response is rendered from changes
+ * whenever the response does. The tag is known before anything is loaded
+ * or serialized, which lets pollers be answered with 304 cheaply.
+ */
+public abstract class ETags {
+    private static final int TAG_BYTES = 16;
+
+    public static String of(Collection<VersionStamp> stamps) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES);
+        stamps.stream()
+                .distinct()
+                .sorted(Comparator.comparing(VersionStamp::id))
+                .forEach(stamp -> {
+                    buffer.clear();
+                    buffer.putLong(stamp.id().getMostSignificantBits())
+                            .putLong(stamp.id().getLeastSignificantBits())
+                            .putLong(stamp.version());
+                    digest.update(buffer.array());
+                });
+        byte[] tag = new byte[TAG_BYTES];
+        System.arraycopy(digest.digest(), 0, tag, 0, TAG_BYTES);
+        return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(tag) + '"';
+    }
+
+    /**
+     * A weak tag for another representation of the rows {@code etag} was
+     * computed from, for responses that are equivalent but not byte-identical
+     * between renders.
+     */
+    public static String weakVariant(String etag, String variant) {
+        return "W/" + etag.substring(0, etag.length() - 1) + '-' + variant + '"';
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches {@code etag}. Uses the
+     * weak comparison RFC 9110 prescribes for this header.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaqueTag = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
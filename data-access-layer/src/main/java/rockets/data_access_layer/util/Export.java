@@ -0,0 +1,71 @@
+package rockets.data_access_layer.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Helpers for the newline-delimited JSON export endpoints. Rows are pulled
+ * from a database cursor in chunks of {@link #CHUNK_SIZE}, each chunk is
+ * written and flushed to the response, and nothing but the current chunk
+ * is held in memory.
+ */
+public abstract class Export {
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    public static final int CHUNK_SIZE = 500;
+
+    public static <T> void forEachChunk(Stream<T> rows, Consumer<List<T>> chunkConsumer) {
+        Iterator<T> iterator = rows.iterator();
+        List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == CHUNK_SIZE) {
+                chunkConsumer.accept(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+        }
+    }
+
+    /**
+     * Streams whatever {@code export} hands to its chunk consumer as one JSON
+     * document per line. The export runs on the async request thread, after
+     * the controller method has returned.
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> toResponse(ObjectMapper objectMapper,
+                                                                       Consumer<Consumer<List<T>>> export) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                export.accept(chunk -> {
+                    try {
+                        for (T row : chunk) {
+                            writer.writeValue(generator, row);
+                            generator.writeRaw('\n');
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
@@ -0,0 +1,178 @@
+package rockets.data_access_layer.util;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import rockets.data_access_layer.dto.Attendee;
+import rockets.data_access_layer.dto.CalendarEvent;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * Writes calendars as RFC 5545 iCalendar feeds. Like {@link Export}, events
+ * arrive in chunks from a database cursor and each chunk is flushed to the
+ * response once written, so a feed of any size is served in constant memory.
+ * <p>
+ * A series is written once with its {@code RRULE} and the occurrences it
+ * cancelled as {@code EXDATE}; an overridden occurrence is a separate
+ * {@code VEVENT} with the series' {@code UID} and a {@code RECURRENCE-ID}.
+ */
+public abstract class ICalendar {
+    public static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private static final String PRODUCT_ID = "-//rockets//data-access-layer//EN";
+
+    // content lines are folded at 75 octets, not counting the CRLF
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private static final DateTimeFormatter UTC_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private static final DateTimeFormatter LOCAL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    /**
+     * Streams the events {@code export} hands to its chunk consumer as the
+     * calendar {@code name}, tagged with {@code etag}. The export runs on the
+     * async request thread, after the controller method has returned.
+     */
+    public static ResponseEntity<StreamingResponseBody> toResponse(String etag, String name,
+                                                                   Consumer<Consumer<List<CalendarEvent>>> export) {
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            String stamp = UTC_FORMAT.format(Instant.now());
+            writeLine(writer, "BEGIN:VCALENDAR");
+            writeLine(writer, "VERSION:2.0");
+            writeLine(writer, "PRODID:" + PRODUCT_ID);
+            writeLine(writer, "CALSCALE:GREGORIAN");
+            writeLine(writer, "X-WR-CALNAME:" + escape(name));
+            export.accept(chunk -> {
+                try {
+                    for (CalendarEvent event : chunk) {
+                        writeEvent(writer, event, stamp);
+                    }
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writeLine(writer, "END:VCALENDAR");
+            writer.flush();
+        };
+        return ResponseEntity.ok().eTag(etag).contentType(TEXT_CALENDAR).body(body);
+    }
+
+    static void writeEvent(Writer writer, CalendarEvent event, String stamp) throws IOException {
+        ZoneId zone = RecurrenceRule.zoneOf(event.timeZone());
+        boolean override = event.seriesId() != null && event.originalDateTime() != null;
+
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:" + (override ? event.seriesId() : event.id()));
+        writeLine(writer, "DTSTAMP:" + stamp);
+        writeLine(writer, "DTSTART" + dateTime(zone, event.dateTime()));
+        writeLine(writer, "DURATION:PT" + event.durationMinutes() + "M");
+        if (override) {
+            writeLine(writer, "RECURRENCE-ID" + dateTime(zone, event.originalDateTime()));
+        }
+        if (event.recurrenceRule() != null) {
+            writeLine(writer, "RRULE:" + event.recurrenceRule());
+        }
+        if (!event.exceptionDates().isEmpty()) {
+            writeLine(writer, "EXDATE" + dateTimes(zone, event.exceptionDates()));
+        }
+        writeLine(writer, "SEQUENCE:" + event.version());
+        writeLine(writer, "SUMMARY:" + escape(event.title()));
+        if (event.location() != null) {
+            writeLine(writer, "LOCATION:" + escape(event.location()));
+        }
+        if (event.details() != null) {
+            writeLine(writer, "DESCRIPTION:" + escape(event.details()));
+        }
+        for (Attendee attendee : event.attendees()) {
+            writeLine(writer, attendee(attendee));
+        }
+        for (String url : event.attachmentUrls()) {
+            writeLine(writer, "ATTACH:" + url);
+        }
+        writeLine(writer, "END:VEVENT");
+    }
+
+    private static String attendee(Attendee attendee) {
+        StringBuilder line = new StringBuilder("ATTENDEE");
+        if (attendee.name() != null) {
+            // parameter values can be quoted but can't contain a quote
+            line.append(";CN=\"").append(attendee.name().replace("\"", "")).append('"');
+        }
+        line.append(':').append(attendee.email() != null
+                ? "mailto:" + attendee.email()
+                : "urn:uuid:" + attendee.participantId());
+        return line.toString();
+    }
+
+    /**
+     * A {@code DATE-TIME} value with its separator: local time with a
+     * {@code TZID} for series kept in a named zone, so clients repeat them
+     * at the same wall-clock time across DST changes, and UTC otherwise.
+     */
+    private static String dateTime(ZoneId zone, Date dateTime) {
+        return dateTimes(zone, List.of(dateTime));
+    }
+
+    private static String dateTimes(ZoneId zone, List<Date> dateTimes) {
+        boolean utc = zone.normalized().equals(ZoneOffset.UTC);
+        StringJoiner values = new StringJoiner(",", utc ? ":" : ";TZID=" + zone.getId() + ":", "");
+        for (Date dateTime : dateTimes) {
+            values.add(utc
+                    ? UTC_FORMAT.format(dateTime.toInstant())
+                    : LOCAL_FORMAT.format(dateTime.toInstant().atZone(zone)));
+        }
+        return values.toString();
+    }
+
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Writes a content line, folding it so no physical line is longer than
+     * {@link #MAX_LINE_OCTETS} octets of UTF-8, without splitting a character.
+     */
+    static void writeLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int length = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + length > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(line, i, Character.charCount(codePoint));
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        writer.write("\r\n");
+    }
+}
@@ -0,0 +1,184 @@
+package rockets.data_access_layer.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the {@code VEVENT}s of an RFC 5545 iCalendar stream one at a time.
+ * Lines are unfolded as they are read and only the current event is held in
+ * memory, so uploads of any size are parsed in constant memory. Components
+ * nested in an event, such as alarms, are skipped, as is everything outside
+ * events.
+ */
+public final class ICalendarReader {
+    // an unfolded line this long is not a calendar
+    static final int MAX_LINE_LENGTH = 1 << 20;
+
+    public record Property(String name, Map<String, String> parameters, String value) {
+        public String parameter(String name) {
+            return parameters.get(name);
+        }
+    }
+
+    /**
+     * An event's properties in the order they appeared, and the line its
+     * {@code BEGIN:VEVENT} was on for error reports.
+     */
+    public record Event(int line, List<Property> properties) {
+        public Optional<Property> first(String name) {
+            return properties.stream().filter(property -> property.name().equals(name)).findFirst();
+        }
+
+        public Optional<String> value(String name) {
+            return first(name).map(Property::value);
+        }
+
+        public List<Property> all(String name) {
+            return properties.stream().filter(property -> property.name().equals(name)).toList();
+        }
+    }
+
+    private final BufferedReader reader;
+
+    private String next;
+
+    private int lineNumber;
+
+    private int contentLineNumber;
+
+    public ICalendarReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    /**
+     * The next event, or null at the end of the stream. An event the stream
+     * ends in the middle of is dropped.
+     */
+    public Event nextEvent() throws IOException {
+        List<Property> properties = null;
+        int start = 0;
+        int depth = 0;
+        for (String line; (line = readContentLine()) != null; ) {
+            Property property = parse(line);
+            if (property == null) {
+                continue;
+            }
+            boolean begin = property.name().equals("BEGIN");
+            boolean end = property.name().equals("END");
+            if (properties == null) {
+                if (begin && property.value().equalsIgnoreCase("VEVENT")) {
+                    properties = new ArrayList<>();
+                    start = contentLineNumber;
+                }
+            } else if (begin) {
+                depth++;
+            } else if (end && depth > 0) {
+                depth--;
+            } else if (end) {
+                return new Event(start, properties);
+            } else if (depth == 0) {
+                properties.add(property);
+            }
+        }
+        return null;
+    }
+
+    private String readContentLine() throws IOException {
+        String line = next != null ? next : readPhysicalLine();
+        if (line == null) {
+            return null;
+        }
+        contentLineNumber = lineNumber;
+        StringBuilder unfolded = null;
+        while ((next = readPhysicalLine()) != null && !next.isEmpty()
+                && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (unfolded == null) {
+                unfolded = new StringBuilder(line);
+            }
+            unfolded.append(next, 1, next.length());
+            if (unfolded.length() > MAX_LINE_LENGTH) {
+                throw new IOException("line " + contentLineNumber + " is longer than " + MAX_LINE_LENGTH + " characters");
+            }
+        }
+        return unfolded == null ? line : unfolded.toString();
+    }
+
+    private String readPhysicalLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    /**
+     * Splits {@code NAME;PARAM=VALUE;PARAM="QUOTED":VALUE}, or returns null
+     * for a line that isn't a content line. Names are upper-cased.
+     */
+    static Property parse(String line) {
+        int i = 0;
+        while (i < line.length() && line.charAt(i) != ';' && line.charAt(i) != ':') {
+            i++;
+        }
+        if (i == 0 || i == line.length()) {
+            return null;
+        }
+        String name = line.substring(0, i).toUpperCase();
+        Map<String, String> parameters = new HashMap<>();
+        while (line.charAt(i) == ';') {
+            int equals = line.indexOf('=', i);
+            if (equals < 0) {
+                return null;
+            }
+            String parameter = line.substring(i + 1, equals).toUpperCase();
+            int valueEnd;
+            String value;
+            if (equals + 1 < line.length() && line.charAt(equals + 1) == '"') {
+                int quote = line.indexOf('"', equals + 2);
+                if (quote < 0) {
+                    return null;
+                }
+                value = line.substring(equals + 2, quote);
+                valueEnd = quote + 1;
+            } else {
+                valueEnd = equals + 1;
+                while (valueEnd < line.length() && line.charAt(valueEnd) != ';' && line.charAt(valueEnd) != ':') {
+                    valueEnd++;
+                }
+                value = line.substring(equals + 1, valueEnd);
+            }
+            if (valueEnd == line.length()) {
+                return null;
+            }
+            parameters.put(parameter, value);
+            i = valueEnd;
+        }
+        return new Property(name, parameters, line.substring(i + 1));
+    }
+
+    /**
+     * Undoes the escaping of a {@code TEXT} value.
+     */
+    public static String unescape(String text) {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder unescaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char escaped = text.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+}
@@ -0,0 +1,14 @@
+package rockets.data_access_layer.util;
+
+public class InvalidRecurrenceException extends RuntimeException {
+    private final String field;
+
+    public InvalidRecurrenceException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+
+    public String getField() {
+        return this.field;
+    }
+}
@@ -0,0 +1,297 @@
+package rockets.data_access_layer.util;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * The subset of RFC 5545 recurrence rules we store on a meeting series:
+ * {@code FREQ=DAILY|WEEKLY|MONTHLY} with optional {@code INTERVAL},
+ * {@code COUNT} or {@code UNTIL} (UTC, {@code yyyyMMdd'T'HHmmss'Z'}) and,
+ * for weekly rules, {@code BYDAY}. Weeks start on Monday; a monthly rule
+ * repeats on the day of month of the first occurrence and skips months
+ * that don't have it.
+ * <p>
+ * Occurrences are never stored. {@link #forEachStart} computes the first
+ * period that can reach the requested window arithmetically and generates
+ * starts from there, so expanding a window costs the same for a series in
+ * its first week as in its tenth year.
+ */
+public final class RecurrenceRule {
+    public static final int MAX_INTERVAL = 1000;
+
+    public static final int MAX_COUNT = 10_000;
+
+    private static final String FIELD = "recurrenceRule";
+
+    private static final DateTimeFormatter UNTIL_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private static final Map<String, DayOfWeek> DAYS = Map.of(
+            "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY, "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY);
+
+    public enum Frequency {DAILY, WEEKLY, MONTHLY}
+
+    private final Frequency frequency;
+
+    private final int interval;
+
+    private final Integer count;
+
+    private final Instant until;
+
+    private final Set<DayOfWeek> byDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, Instant until, Set<DayOfWeek> byDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+    }
+
+    public static RecurrenceRule parse(String rule) {
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        Instant until = null;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        for (String part : rule.trim().split(";")) {
+            String[] keyValue = part.split("=", 2);
+            if (keyValue.length != 2) {
+                throw invalid("'" + part + "' is not a KEY=VALUE pair");
+            }
+            String value = keyValue[1].trim();
+            switch (keyValue[0].trim().toUpperCase()) {
+                case "FREQ" -> {
+                    try {
+                        frequency = Frequency.valueOf(value.toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        throw invalid("FREQ should be DAILY, WEEKLY or MONTHLY");
+                    }
+                }
+                case "INTERVAL" -> interval = parseNumber("INTERVAL", value, MAX_INTERVAL);
+                case "COUNT" -> count = parseNumber("COUNT", value, MAX_COUNT);
+                case "UNTIL" -> {
+                    try {
+                        until = Instant.from(UNTIL_FORMAT.parse(value.toUpperCase()));
+                    } catch (DateTimeParseException e) {
+                        throw invalid("UNTIL should be a UTC date-time like 20250131T235959Z");
+                    }
+                }
+                case "BYDAY" -> {
+                    for (String day : value.toUpperCase().split(",")) {
+                        DayOfWeek dayOfWeek = DAYS.get(day.trim());
+                        if (dayOfWeek == null) {
+                            throw invalid("BYDAY should list days as MO,TU,WE,TH,FR,SA,SU");
+                        }
+                        byDay.add(dayOfWeek);
+                    }
+                }
+                default -> throw invalid(keyValue[0].trim() + " is not supported");
+            }
+        }
+        if (frequency == null) {
+            throw invalid("FREQ is required");
+        }
+        if (count != null && until != null) {
+            throw invalid("COUNT and UNTIL can not be combined");
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw invalid("BYDAY is only supported for weekly rules");
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byDay);
+    }
+
+    private static int parseNumber(String key, String value, int max) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= 1 && number <= max) {
+                return number;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw invalid(key + " should be a number between 1 and " + max);
+    }
+
+    private static InvalidRecurrenceException invalid(String message) {
+        return new InvalidRecurrenceException(FIELD, message);
+    }
+
+    /**
+     * The zone a series keeps its wall-clock time in; UTC when not given.
+     */
+    public static ZoneId zoneOf(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneOffset.UTC;
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            throw new InvalidRecurrenceException("timeZone", "'" + timeZone + "' is not a known time zone");
+        }
+    }
+
+    public boolean isBounded() {
+        return count != null || until != null;
+    }
+
+    /**
+     * Calls {@code action} with every start in {@code [from, to)} of the
+     * series whose first occurrence is {@code first}, in order. Wall-clock
+     * times are kept in {@code first}'s zone across DST changes.
+     */
+    public void forEachStart(ZonedDateTime first, Instant from, Instant to, Consumer<Instant> action) {
+        ZoneId zone = first.getZone();
+        LocalDate firstDate = first.toLocalDate();
+        LocalTime time = first.toLocalTime();
+        // nothing in a period that starts before the window's first day can be in the window
+        LocalDate fromDate = from.isAfter(first.toInstant()) ? LocalDate.ofInstant(from, zone) : firstDate;
+        long period = periodsBetween(firstDate, fromDate) / interval;
+        long index = count == null ? 0 : countBefore(firstDate, period);
+
+        for (; ; period++) {
+            LocalDate periodStart = periodStart(firstDate, period);
+            Instant earliest = periodStart.atStartOfDay(zone).toInstant();
+            if (!earliest.isBefore(to) || (until != null && earliest.isAfter(until))) {
+                return;
+            }
+            for (LocalDate date : datesIn(periodStart, firstDate)) {
+                if (date.isBefore(firstDate)) {
+                    continue;
+                }
+                Instant start = ZonedDateTime.of(LocalDateTime.of(date, time), zone).toInstant();
+                if ((count != null && ++index > count) || (until != null && start.isAfter(until))
+                        || !start.isBefore(to)) {
+                    return;
+                }
+                if (!start.isBefore(from)) {
+                    action.accept(start);
+                }
+            }
+        }
+    }
+
+    public boolean isStart(ZonedDateTime first, Instant start) {
+        boolean[] found = {false};
+        forEachStart(first, start, start.plusMillis(1), ignored -> found[0] = true);
+        return found[0];
+    }
+
+    /**
+     * The start of the final occurrence, or empty for a rule without
+     * {@code COUNT} or {@code UNTIL} or one that never occurs.
+     */
+    public Optional<Instant> lastStart(ZonedDateTime first) {
+        if (!isBounded()) {
+            return Optional.empty();
+        }
+        Instant[] last = {null};
+        forEachStart(first, first.toInstant(), until == null ? Instant.MAX : until.plusMillis(1),
+                start -> last[0] = start);
+        return Optional.ofNullable(last[0]);
+    }
+
+    private long periodsBetween(LocalDate firstDate, LocalDate date) {
+        return switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(firstDate, date);
+            case WEEKLY -> ChronoUnit.WEEKS.between(monday(firstDate), monday(date));
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(firstDate), YearMonth.from(date));
+        };
+    }
+
+    private LocalDate periodStart(LocalDate firstDate, long period) {
+        return switch (frequency) {
+            case DAILY -> firstDate.plusDays(period * interval);
+            case WEEKLY -> monday(firstDate).plusWeeks(period * interval);
+            case MONTHLY -> firstDate.withDayOfMonth(1).plusMonths(period * interval);
+        };
+    }
+
+    private List<LocalDate> datesIn(LocalDate periodStart, LocalDate firstDate) {
+        return switch (frequency) {
+            case DAILY -> List.of(periodStart);
+            case WEEKLY -> weekdays(firstDate).stream().map(day -> periodStart.plusDays(day.ordinal())).toList();
+            case MONTHLY -> YearMonth.from(periodStart).isValidDay(firstDate.getDayOfMonth())
+                    ? List.of(periodStart.withDayOfMonth(firstDate.getDayOfMonth()))
+                    : List.of();
+        };
+    }
+
+    /**
+     * How many occurrences fall in the periods before {@code period}, which
+     * is what {@code COUNT} has used up when expansion starts there.
+     */
+    private long countBefore(LocalDate firstDate, long period) {
+        if (period == 0) {
+            return 0;
+        }
+        return switch (frequency) {
+            case DAILY -> period;
+            case WEEKLY -> period * weekdays(firstDate).size() - weekdays(firstDate).stream()
+                    .filter(day -> day.compareTo(firstDate.getDayOfWeek()) < 0)
+                    .count();
+            case MONTHLY -> {
+                long months = 0;
+                for (long p = 0; p < period; p++) {
+                    if (YearMonth.from(periodStart(firstDate, p)).isValidDay(firstDate.getDayOfMonth())) {
+                        months++;
+                    }
+                }
+                yield months;
+            }
+        };
+    }
+
+    private Set<DayOfWeek> weekdays(LocalDate firstDate) {
+        return byDay.isEmpty() ? EnumSet.of(firstDate.getDayOfWeek()) : byDay;
+    }
+
+    private static LocalDate monday(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * The canonical form stored on the meeting, e.g.
+     * {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH;COUNT=10}.
+     */
+    @Override
+    public String toString() {
+        StringJoiner rule = new StringJoiner(";");
+        rule.add("FREQ=" + frequency);
+        if (interval != 1) {
+            rule.add("INTERVAL=" + interval);
+        }
+        if (!byDay.isEmpty()) {
+            StringJoiner days = new StringJoiner(",");
+            byDay.forEach(day -> days.add(day.name().substring(0, 2)));
+            rule.add("BYDAY=" + days);
+        }
+        if (count != null) {
+            rule.add("COUNT=" + count);
+        }
+        if (until != null) {
+            rule.add("UNTIL=" + UNTIL_FORMAT.format(until));
+        }
+        return rule.toString();
+    }
+}
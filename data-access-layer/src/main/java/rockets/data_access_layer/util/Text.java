@@ -0,0 +1,19 @@
+package rockets.data_access_layer.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public abstract class Text {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * {@code text} lower-cased and without accents, so "Zürich" and "zurich"
+     * compare equal. Compatibility characters such as ligatures are
+     * decomposed as well.
+     */
+    public static String fold(String text) {
+        return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+}
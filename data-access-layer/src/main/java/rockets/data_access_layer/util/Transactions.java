@@ -0,0 +1,40 @@
+package rockets.data_access_layer.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public abstract class Transactions {
+    /**
+     * Runs {@code action} now and, when called inside a transaction, once more
+     * after it completes. Used to drop cached state for a write: a reader that
+     * repopulates the cache before the commit is undone by the second run.
+     */
+    public static void runNowAndAfterCompletion(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs {@code action} once the current transaction commits, or now when
+     * there is none. Used to update derived state from committed rows only.
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
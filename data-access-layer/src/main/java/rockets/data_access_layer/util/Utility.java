@@ -3,9 +3,12 @@ package rockets.data_access_layer.util;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 public abstract class Utility {
+    // a mapper is costly to build and caches its serializers, so share one
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     public static String asJsonString(final Object obj) {
         try {
-            return new ObjectMapper().writeValueAsString(obj);
+            return OBJECT_MAPPER.writeValueAsString(obj);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,185 @@
+package rockets.data_access_layer.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import rockets.data_access_layer.util.TimeOrderedUuid;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inserts the same rows into a table and a join table keyed like
+ * {@code meeting} and {@code meeting_participant}, once with random version
+ * 4 UUIDs and once with {@link TimeOrderedUuid time-ordered ones}, and
+ * prints insert throughput for the whole run and for its last tenth, the
+ * share of ids that went to the right edge of the primary key index and,
+ * on Postgres, the size of both primary key indexes and their leaf density
+ * and fragmentation when the {@code pgstattuple} extension can be created.
+ * <p>
+ * Rows are written in JDBC batches of {@value #BATCH_SIZE}, like Hibernate's,
+ * and committed every {@value #CHUNK_SIZE}. By default this runs on an
+ * in-memory H2 database; pass {@code -Dbenchmark.url=jdbc:postgresql://...}
+ * with {@code benchmark.username} and {@code benchmark.password} to measure
+ * Postgres, where the difference shows. Run with
+ * {@code mvn test -Pbenchmark -Dtest=IdLocalityBenchmark}.
+ */
+@Tag("benchmark")
+public class IdLocalityBenchmark {
+    private static final String URL = System.getProperty("benchmark.url",
+            "jdbc:h2:mem:ids;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE");
+
+    private static final String USERNAME = System.getProperty("benchmark.username", "sa");
+
+    private static final String PASSWORD = System.getProperty("benchmark.password", "");
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+
+    private static final int LINKS_PER_ROW = Integer.getInteger("benchmark.links-per-row", 3);
+
+    private static final int PARTICIPANTS = 1_000;
+
+    private static final int BATCH_SIZE = 50;
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private record Strategy(String name, Supplier<UUID> ids) {
+    }
+
+    private record Result(String strategy, double rowsPerSecond, double lastTenthRowsPerSecond, double rightEdge,
+                          String ownerIndex, String linkIndex, String leafDensity, String fragmentation) {
+    }
+
+    @Test
+    void compareIdStrategies() throws SQLException {
+        List<Strategy> strategies = List.of(new Strategy("random v4", UUID::randomUUID),
+                new Strategy("time-ordered v7", TimeOrderedUuid::next));
+
+        List<Result> results = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD)) {
+            boolean postgres = connection.getMetaData().getDatabaseProductName().equals("PostgreSQL");
+            for (Strategy strategy : strategies) {
+                run(connection, strategy, ROWS / 10);
+            }
+            for (Strategy strategy : strategies) {
+                Result result = run(connection, strategy, ROWS);
+                results.add(postgres ? withIndexStatistics(connection, result) : result);
+            }
+            drop(connection);
+        }
+
+        System.out.printf("%n%d rows with %d links each on %s%n", ROWS, LINKS_PER_ROW, URL);
+        System.out.printf("%-16s %10s %16s %11s %12s %12s %13s %14s%n", "ids", "rows/s", "last 10% rows/s",
+                "right edge", "owner index", "link index", "leaf density", "fragmentation");
+        for (Result result : results) {
+            System.out.printf("%-16s %10.0f %16.0f %10.1f%% %12s %12s %13s %14s%n", result.strategy(),
+                    result.rowsPerSecond(), result.lastTenthRowsPerSecond(), 100 * result.rightEdge(),
+                    result.ownerIndex(), result.linkIndex(), result.leafDensity(), result.fragmentation());
+        }
+
+        assertTrue(results.get(1).rightEdge() > results.get(0).rightEdge(), "time-ordered ids were not appended");
+    }
+
+    private static Result run(Connection connection, Strategy strategy, int rows) throws SQLException {
+        drop(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table id_benchmark_owner (id uuid primary key, title varchar(255) not null)");
+            statement.execute("create table id_benchmark_link (owner_id uuid not null, participant_id uuid not null, "
+                    + "primary key (owner_id, participant_id))");
+        }
+        connection.setAutoCommit(false);
+
+        List<UUID> participants = new ArrayList<>(PARTICIPANTS);
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            participants.add(strategy.ids().get());
+        }
+        Random random = new Random(42);
+        UUID highest = null;
+        long appended = 0;
+        long started = System.nanoTime();
+        long lastTenthStarted = started;
+        try (PreparedStatement owners = connection.prepareStatement(
+                "insert into id_benchmark_owner (id, title) values (?, ?)");
+             PreparedStatement links = connection.prepareStatement(
+                     "insert into id_benchmark_link (owner_id, participant_id) values (?, ?)")) {
+            for (int row = 0; row < rows; row++) {
+                if (row == rows - rows / 10) {
+                    lastTenthStarted = System.nanoTime();
+                }
+                UUID id = strategy.ids().get();
+                if (highest == null || id.compareTo(highest) > 0) {
+                    highest = id;
+                    appended++;
+                }
+                owners.setObject(1, id);
+                owners.setString(2, "Meeting " + row);
+                owners.addBatch();
+                int first = random.nextInt(PARTICIPANTS - LINKS_PER_ROW);
+                for (int link = 0; link < LINKS_PER_ROW; link++) {
+                    links.setObject(1, id);
+                    links.setObject(2, participants.get(first + link));
+                    links.addBatch();
+                }
+                if ((row + 1) % BATCH_SIZE == 0 || row == rows - 1) {
+                    owners.executeBatch();
+                    links.executeBatch();
+                }
+                if ((row + 1) % CHUNK_SIZE == 0 || row == rows - 1) {
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        long finished = System.nanoTime();
+
+        return new Result(strategy.name(), rows / ((finished - started) / 1e9),
+                (rows / 10) / ((finished - lastTenthStarted) / 1e9), (double) appended / rows,
+                "n/a", "n/a", "n/a", "n/a");
+    }
+
+    private static Result withIndexStatistics(Connection connection, Result result) throws SQLException {
+        String ownerIndex = megabytes(connection, "select pg_relation_size('id_benchmark_owner_pkey')");
+        String linkIndex = megabytes(connection, "select pg_relation_size('id_benchmark_link_pkey')");
+        String leafDensity = "n/a";
+        String fragmentation = "n/a";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create extension if not exists pgstattuple");
+            try (ResultSet resultSet = statement.executeQuery(
+                    "select avg_leaf_density, leaf_fragmentation from pgstatindex('id_benchmark_owner_pkey')")) {
+                resultSet.next();
+                leafDensity = "%.1f%%".formatted(resultSet.getDouble(1));
+                fragmentation = "%.1f%%".formatted(resultSet.getDouble(2));
+            }
+        } catch (SQLException e) {
+            // pgstattuple is a contrib module the role may not be allowed to create
+        }
+        return new Result(result.strategy(), result.rowsPerSecond(), result.lastTenthRowsPerSecond(),
+                result.rightEdge(), ownerIndex, linkIndex, leafDensity, fragmentation);
+    }
+
+    private static String megabytes(Connection connection, String query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            return "%.1f MB".formatted(resultSet.getLong(1) / 1_048_576.0);
+        }
+    }
+
+    private static void drop(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists id_benchmark_link");
+            statement.execute("drop table if exists id_benchmark_owner");
+        }
+    }
+}
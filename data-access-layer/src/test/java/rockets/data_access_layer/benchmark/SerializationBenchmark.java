@@ -0,0 +1,278 @@
+package rockets.data_access_layer.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import rockets.data_access_layer.JacksonConfig;
+import rockets.data_access_layer.dto.CalendarDTO;
+import rockets.data_access_layer.dto.MeetingDTO;
+import rockets.data_access_layer.entity.Attachment;
+import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of writing and reading meetings and calendars the way the
+ * controllers do, under three serializer setups:
+ * <ul>
+ * <li>{@code per-call}: a new {@code ObjectMapper} for every value, as
+ * {@code Utility.asJsonString} used to build;</li>
+ * <li>{@code shared}: one mapper configured like Spring Boot's, without
+ * {@link JacksonConfig};</li>
+ * <li>{@code tuned}: the same mapper with {@link JacksonConfig}'s modules
+ * and writers and readers resolved once per type.</li>
+ * </ul>
+ * A meeting has {@value #PARTICIPANTS} participants, {@value #ATTACHMENTS}
+ * attachments and sits in {@value #CALENDARS_PER_MEETING} calendars; a
+ * calendar holds {@value #MEETINGS_PER_CALENDAR} such meetings. Run with
+ * {@code mvn test -Pbenchmark -Dtest=SerializationBenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    static final int PARTICIPANTS = 10;
+
+    static final int ATTACHMENTS = 3;
+
+    static final int CALENDARS_PER_MEETING = 2;
+
+    static final int MEETINGS_PER_CALENDAR = 100;
+
+    @Param({"per-call", "shared", "tuned"})
+    public String serializer;
+
+    private Serializer<Meeting> meetings;
+
+    private Serializer<Calendar> calendars;
+
+    private Serializer<MeetingDTO> meetingDTOs;
+
+    private Serializer<CalendarDTO> calendarDTOs;
+
+    private Meeting meeting;
+
+    private Calendar calendar;
+
+    private MeetingDTO meetingDTO;
+
+    private CalendarDTO calendarDTO;
+
+    private byte[] meetingJson;
+
+    private byte[] calendarJson;
+
+    private byte[] meetingDTOJson;
+
+    private byte[] calendarDTOJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        meetings = serializer(Meeting.class);
+        calendars = serializer(Calendar.class);
+        meetingDTOs = serializer(MeetingDTO.class);
+        calendarDTOs = serializer(CalendarDTO.class);
+
+        Random random = new Random(42);
+        calendar = calendar(random, "Team");
+        for (int i = 0; i < MEETINGS_PER_CALENDAR; i++) {
+            calendar.getMeetings().add(meeting(random, i));
+        }
+        meeting = calendar.getMeetings().iterator().next();
+        for (int i = 1; i < CALENDARS_PER_MEETING; i++) {
+            Calendar other = calendar(random, "Other " + i);
+            other.getMeetings().add(meeting);
+            meeting.getCalendars().add(other);
+        }
+        meeting.getCalendars().add(calendar);
+
+        meetingDTO = new MeetingDTO();
+        meetingDTO.setTitle(meeting.getTitle());
+        meetingDTO.setDateTime(meeting.getDateTime());
+        meetingDTO.setLocation(meeting.getLocation());
+        meetingDTO.setDetails(meeting.getDetails());
+        Set<UUID> participantIds = new HashSet<>();
+        meeting.getParticipants().forEach(participant -> participantIds.add(participant.getId()));
+        meetingDTO.setParticipantIds(participantIds);
+
+        calendarDTO = new CalendarDTO();
+        calendarDTO.setTitle(calendar.getTitle());
+        calendarDTO.setDetails(calendar.getDetails());
+        Set<UUID> meetingIds = new HashSet<>();
+        calendar.getMeetings().forEach(each -> meetingIds.add(each.getId()));
+        calendarDTO.setMeetings(meetingIds);
+
+        // Jackson can't read a meeting back through its own calendars, so
+        // read one that is in none
+        meetingJson = meetings.write(meeting(random, MEETINGS_PER_CALENDAR));
+        calendarJson = calendars.write(calendar);
+        meetingDTOJson = meetingDTOs.write(meetingDTO);
+        calendarDTOJson = calendarDTOs.write(calendarDTO);
+    }
+
+    @Benchmark
+    public byte[] writeMeeting() throws IOException {
+        return meetings.write(meeting);
+    }
+
+    @Benchmark
+    public byte[] writeCalendar() throws IOException {
+        return calendars.write(calendar);
+    }
+
+    @Benchmark
+    public byte[] writeMeetingDTO() throws IOException {
+        return meetingDTOs.write(meetingDTO);
+    }
+
+    @Benchmark
+    public byte[] writeCalendarDTO() throws IOException {
+        return calendarDTOs.write(calendarDTO);
+    }
+
+    @Benchmark
+    public Meeting readMeeting() throws IOException {
+        return meetings.read(meetingJson);
+    }
+
+    @Benchmark
+    public Calendar readCalendar() throws IOException {
+        return calendars.read(calendarJson);
+    }
+
+    @Benchmark
+    public MeetingDTO readMeetingDTO() throws IOException {
+        return meetingDTOs.read(meetingDTOJson);
+    }
+
+    @Benchmark
+    public CalendarDTO readCalendarDTO() throws IOException {
+        return calendarDTOs.read(calendarDTOJson);
+    }
+
+    @Test
+    void run() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(SerializationBenchmark.class.getName())
+                .warmupTime(TimeValue.seconds(Long.getLong("benchmark.warmup-seconds", 2)))
+                .measurementTime(TimeValue.seconds(Long.getLong("benchmark.seconds", 2)))
+                .build())
+                .run();
+    }
+
+    private <T> Serializer<T> serializer(Class<T> type) {
+        return switch (serializer) {
+            case "per-call" -> new Serializer<>() {
+                public byte[] write(T value) throws IOException {
+                    return new ObjectMapper().writeValueAsBytes(value);
+                }
+
+                public T read(byte[] json) throws IOException {
+                    return new ObjectMapper().readValue(json, type);
+                }
+            };
+            case "shared" -> {
+                ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+                yield new Serializer<>() {
+                    public byte[] write(T value) throws IOException {
+                        return objectMapper.writeValueAsBytes(value);
+                    }
+
+                    public T read(byte[] json) throws IOException {
+                        return objectMapper.readValue(json, type);
+                    }
+                };
+            }
+            case "tuned" -> {
+                JacksonConfig jacksonConfig = new JacksonConfig();
+                ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                        .modulesToInstall(jacksonConfig.blackbirdModule(), jacksonConfig.uuidModule())
+                        .build();
+                ObjectWriter writer = objectMapper.writerFor(type);
+                ObjectReader reader = objectMapper.readerFor(type);
+                yield new Serializer<>() {
+                    public byte[] write(T value) throws IOException {
+                        return writer.writeValueAsBytes(value);
+                    }
+
+                    public T read(byte[] json) throws IOException {
+                        return reader.readValue(json);
+                    }
+                };
+            }
+            default -> throw new IllegalArgumentException(serializer);
+        };
+    }
+
+    private static Calendar calendar(Random random, String title) {
+        Calendar calendar = new Calendar();
+        calendar.setId(new UUID(random.nextLong(), random.nextLong()));
+        calendar.setTitle(title);
+        calendar.setDetails("Shared calendar of the " + title + " group");
+        return calendar;
+    }
+
+    private static Meeting meeting(Random random, int index) {
+        Meeting meeting = new Meeting();
+        meeting.setId(new UUID(random.nextLong(), random.nextLong()));
+        meeting.setTitle("Planning session " + index);
+        meeting.setDateTime(new Date(1_900_000_000_000L + index * 3_600_000L));
+        meeting.setLocation("Room " + random.nextInt(20));
+        meeting.setDetails("Agenda: review the roadmap, assign owners and agree on the next milestones.");
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            Participant participant = new Participant();
+            participant.setId(new UUID(random.nextLong(), random.nextLong()));
+            participant.setName("Participant " + random.nextInt(1000));
+            participant.setEmail("participant" + random.nextInt(1000) + "@example.com");
+            participants.add(participant);
+        }
+        meeting.addParticipants(participants);
+        List<Attachment> attachments = new ArrayList<>();
+        for (int i = 0; i < ATTACHMENTS; i++) {
+            Attachment attachment = new Attachment();
+            attachment.setId(new UUID(random.nextLong(), random.nextLong()));
+            attachment.setUrl("https://files.example.com/" + random.nextInt(100_000) + ".pdf");
+            attachments.add(attachment);
+        }
+        meeting.addAttachments(attachments);
+        return meeting;
+    }
+
+    private interface Serializer<T> {
+        byte[] write(T value) throws IOException;
+
+        T read(byte[] json) throws IOException;
+    }
+}
@@ -0,0 +1,280 @@
+package rockets.data_access_layer.benchmark;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import rockets.data_access_layer.DataAccessLayerApplication;
+import rockets.data_access_layer.dto.MeetingBatchResult;
+import rockets.data_access_layer.dto.MeetingDTO;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.ParticipantRepository;
+import rockets.data_access_layer.service.MeetingService;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives the same read workload against the application on Tomcat's
+ * platform-thread pool and on virtual threads, and prints throughput and
+ * latency percentiles for both. Every JDBC statement is delayed by
+ * {@code benchmark.statement-latency-ms} to stand in for the round trip to
+ * Postgres, so request threads block on the database the way they do in
+ * production while H2 keeps the run self-contained.
+ * <p>
+ * The virtual-thread run also records JFR pinning events and fails if a
+ * request pinned its carrier thread. Run with
+ * {@code mvn test -Pbenchmark -Dtest=ThreadModeBenchmark}; the
+ * {@code benchmark.*} system properties below tune the load.
+ */
+@Tag("benchmark")
+public class ThreadModeBenchmark {
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 50);
+
+    private static final long STATEMENT_LATENCY_MILLIS = Long.getLong("benchmark.statement-latency-ms", 5);
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 10));
+
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("benchmark.seconds", 30));
+
+    private static final String CLIENT_THREAD = "benchmark-client-";
+
+    private static final int PARTICIPANTS = 500;
+
+    private static final int MEETINGS = 2_000;
+
+    @Test
+    void compareThreadModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n%d clients, %d connections, %d ms per statement, %d s measured%n",
+                CLIENTS, POOL_SIZE, STATEMENT_LATENCY_MILLIS, MEASUREMENT.toSeconds());
+        System.out.printf("%-10s %10s %9s %9s %9s %9s %7s%n", "mode", "req/s", "p50 ms", "p99 ms", "p99.9 ms",
+                "max ms", "errors");
+        platform.print("platform");
+        virtual.print("virtual");
+
+        assertEquals(Map.of(), virtual.pinnedAt(), "requests pinned their carrier thread");
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DataAccessLayerApplication.class,
+                StatementLatency.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + mode
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<String> paths = seed(context);
+
+            Map<String, AtomicLong> pinnedAt = new ConcurrentHashMap<>();
+            try (RecordingStream pinning = new RecordingStream()) {
+                pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+                pinning.onEvent("jdk.VirtualThreadPinned", event -> {
+                    if (!event.getThread("eventThread").getJavaName().startsWith(CLIENT_THREAD)) {
+                        pinnedAt.computeIfAbsent(topApplicationFrame(event), frame -> new AtomicLong())
+                                .incrementAndGet();
+                    }
+                });
+                pinning.startAsync();
+
+                drive(port, paths, WARMUP);
+                pinnedAt.clear();
+                Result result = drive(port, paths, MEASUREMENT);
+                return new Result(result.requests(), result.errors(), result.latencies(), Map.copyOf(pinnedAt));
+            }
+        }
+    }
+
+    /**
+     * Participants, meetings with one to four of them, and the request paths
+     * the clients cycle through.
+     */
+    private static List<String> seed(ConfigurableApplicationContext context) {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            Participant participant = new Participant();
+            participant.setName("Participant " + i);
+            participant.setEmail("participant" + i + "@example.com");
+            participants.add(participant);
+        }
+        context.getBean(ParticipantRepository.class).saveAll(participants);
+
+        Random random = new Random(42);
+        List<MeetingDTO> meetingDTOs = new ArrayList<>();
+        for (int i = 0; i < MEETINGS; i++) {
+            Set<UUID> participantIds = new HashSet<>();
+            for (int p = 1 + random.nextInt(4); p > 0; p--) {
+                participantIds.add(participants.get(random.nextInt(PARTICIPANTS)).getId());
+            }
+            MeetingDTO meetingDTO = new MeetingDTO();
+            meetingDTO.setTitle("Meeting " + i);
+            meetingDTO.setLocation("Room " + random.nextInt(20));
+            meetingDTO.setParticipantIds(participantIds);
+            meetingDTOs.add(meetingDTO);
+        }
+
+        List<String> paths = new ArrayList<>();
+        for (MeetingBatchResult result : context.getBean(MeetingService.class).createMeetings(meetingDTOs)) {
+            paths.add("/meetings/" + result.id() + "/view");
+        }
+        participants.forEach(participant -> paths.add("/participants/" + participant.getId() + "/freebusy"
+                + "?from=2030-01-01%2000:00&to=2030-02-01%2000:00"));
+        for (int i = 0; i < 100; i++) {
+            paths.add("/meetings/views?limit=20");
+            paths.add("/participants/views?limit=20");
+        }
+        return paths;
+    }
+
+    /**
+     * {@link #CLIENTS} closed-loop clients, each sending its next request
+     * as soon as the previous one is answered.
+     */
+    private static Result drive(int port, List<String> paths, Duration duration) throws InterruptedException {
+        long[][] latencies = new long[CLIENTS][];
+        AtomicLong errors = new AtomicLong();
+        long end = System.nanoTime() + duration.toNanos();
+        try (HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService clients = Executors.newThreadPerTaskExecutor(
+                     Thread.ofVirtual().name(CLIENT_THREAD, 0).factory())) {
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                clients.submit(() -> {
+                    Random random = new Random(client);
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < end) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + paths.get(random.nextInt(paths.size()))))
+                                .timeout(Duration.ofSeconds(60))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    latencies[client] = Arrays.copyOf(samples, count);
+                });
+            }
+        }
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all.length / (double) duration.toSeconds(), errors.get(), all, Map.of());
+    }
+
+    private static String topApplicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith("rockets.")
+                        && !frame.getMethod().getType().getName().startsWith(ThreadModeBenchmark.class.getName()))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .orElse("unknown");
+    }
+
+    private record Result(double requests, long errors, long[] latencies, Map<String, AtomicLong> pinnedAt) {
+        void print(String mode) {
+            System.out.printf("%-10s %10.0f %9.1f %9.1f %9.1f %9.1f %7d%n", mode, requests, millis(0.5), millis(0.99),
+                    millis(0.999), millis(1), errors);
+            pinnedAt.forEach((frame, count) -> System.out.printf("  pinned %d times at %s%n", count.get(), frame));
+        }
+
+        private double millis(double quantile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            return latencies[(int) Math.min(latencies.length - 1, quantile * latencies.length)] / 1e6;
+        }
+    }
+
+    /**
+     * Wraps the pool so that every statement execution first waits
+     * {@link #STATEMENT_LATENCY_MILLIS}, as a network round trip would.
+     */
+    @Configuration
+    static class StatementLatency {
+        @Bean
+        static BeanPostProcessor slowStatements() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? delayed(DataSource.class, dataSource) : bean;
+                }
+            };
+        }
+
+        private static Object delayed(Class<?> type, Object target) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                if (target instanceof Statement && method.getName().startsWith("execute")) {
+                    Thread.sleep(STATEMENT_LATENCY_MILLIS);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                Class<?> returned = method.getReturnType();
+                if (returned == Connection.class || returned == Statement.class
+                        || returned == PreparedStatement.class || returned == CallableStatement.class) {
+                    return result == null ? null : delayed(returned, result);
+                }
+                return result;
+            };
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rockets.data_access_layer.dto.CursorPage;
 import rockets.data_access_layer.entity.Attachment;
 import rockets.data_access_layer.service.AttachmentService;
 import rockets.data_access_layer.util.Utility;
@@ -48,14 +49,14 @@ public class AttachmentControllerTest {
         attachment2.setId(randomId2);
         attachment2.setUrl("some-url2");
 
-        when(attachmentService.getAllAttachments()).thenReturn(Arrays.asList(attachment1, attachment2));
+        when(attachmentService.getAttachmentsPage(null, 50)).thenReturn(new CursorPage<>(Arrays.asList(attachment1, attachment2), null));
 
         mockMvc.perform(get("/attachments"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].url").value("some-url1"))
                 .andExpect(jsonPath("$[1].url").value("some-url2"));
 
-        verify(attachmentService, times(1)).getAllAttachments();
+        verify(attachmentService, times(1)).getAttachmentsPage(null, 50);
     }
 
     @Test
@@ -0,0 +1,49 @@
+package rockets.data_access_layer.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rockets.data_access_layer.dto.CacheRegionStatistics;
+import rockets.data_access_layer.service.CacheStatisticsService;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class CacheControllerTest {
+    @Mock
+    CacheStatisticsService cacheStatisticsService;
+
+    @InjectMocks
+    CacheController cacheController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(cacheController).build();
+    }
+
+    @Test
+    void testGetStatistics() throws Exception {
+        when(cacheStatisticsService.getRegionStatistics()).thenReturn(List.of(
+                new CacheRegionStatistics("participant", 2, 3, 1, 0, 0.75)));
+
+        mockMvc.perform(get("/cache/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].region").value("participant"))
+                .andExpect(jsonPath("$[0].hits").value(3))
+                .andExpect(jsonPath("$[0].misses").value(1))
+                .andExpect(jsonPath("$[0].hitRate").value(0.75));
+
+        verify(cacheStatisticsService, times(1)).getRegionStatistics();
+    }
+}
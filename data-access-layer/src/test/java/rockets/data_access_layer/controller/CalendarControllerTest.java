@@ -1,16 +1,22 @@
 package rockets.data_access_layer.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import rockets.data_access_layer.dto.CalendarDTO;
+import rockets.data_access_layer.dto.CalendarView;
+import rockets.data_access_layer.dto.CursorPage;
 import rockets.data_access_layer.entity.Calendar;
 import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.service.CalendarImportService;
 import rockets.data_access_layer.service.CalendarService;
 import rockets.data_access_layer.service.MeetingService;
 import rockets.data_access_layer.util.Utility;
@@ -19,6 +25,8 @@ import java.util.*;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -29,6 +37,12 @@ public class CalendarControllerTest {
     @Mock
     MeetingService meetingService;
 
+    @Mock
+    CalendarImportService calendarImportService;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     CalendarController calendarController;
 
@@ -54,14 +68,14 @@ public class CalendarControllerTest {
         calendar2.setTitle("Calendar 2");
         calendar2.setDetails("Details 2");
 
-        when(calendarService.getAllCalendars()).thenReturn(Arrays.asList(calendar1, calendar2));
+        when(calendarService.getCalendarsPage(null, 50)).thenReturn(new CursorPage<>(Arrays.asList(calendar1, calendar2), null));
 
         mockMvc.perform(get("/calendars"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].title").value("Calendar 1"))
                 .andExpect(jsonPath("$[1].title").value("Calendar 2"));
 
-        verify(calendarService, times(1)).getAllCalendars();
+        verify(calendarService, times(1)).getCalendarsPage(null, 50);
     }
 
     @Test
@@ -72,25 +86,86 @@ public class CalendarControllerTest {
         calendar.setTitle("Test Calendar");
         calendar.setDetails("Test Details");
 
-        when(calendarService.getCalendarById(randomId)).thenReturn(Optional.of(calendar));
+        byte[] body = objectMapper.writeValueAsBytes(calendar);
+
+        when(calendarService.getCalendarETag(randomId)).thenReturn(Optional.of("\"v1\""));
+        when(calendarService.getRenderedCalendar(randomId)).thenReturn(Optional.of(body));
 
         mockMvc.perform(get("/calendars/{id}", randomId))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.title").value("Test Calendar"));
 
-        verify(calendarService, times(1)).getCalendarById(randomId);
+        verify(calendarService, times(1)).getRenderedCalendar(randomId);
+    }
+
+    @Test
+    void testGetCalendarByIdNotModified() throws Exception {
+        UUID randomId = UUID.randomUUID();
+
+        when(calendarService.getCalendarETag(randomId)).thenReturn(Optional.of("\"v1\""));
+
+        mockMvc.perform(get("/calendars/{id}", randomId).header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""));
+
+        verify(calendarService, never()).getRenderedCalendar(randomId);
+    }
+
+    @Test
+    void testGetCalendarFeedNotModified() throws Exception {
+        UUID randomId = UUID.randomUUID();
+
+        when(calendarService.getCalendarETag(randomId)).thenReturn(Optional.of("\"v1\""));
+
+        mockMvc.perform(get("/calendars/{id}.ics", randomId).header(HttpHeaders.IF_NONE_MATCH, "W/\"v1-ics\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"v1-ics\""));
+
+        verify(calendarService, never()).exportCalendarEvents(eq(randomId), any());
+    }
+
+    @Test
+    void testImportIntoMissingCalendar() throws Exception {
+        UUID randomId = UUID.randomUUID();
+
+        when(calendarService.calendarExists(randomId)).thenReturn(false);
+
+        mockMvc.perform(post("/calendars/{id}/import", randomId)
+                        .contentType("text/calendar")
+                        .content("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"))
+                .andExpect(status().isNotFound());
+
+        verify(calendarImportService, never()).importCalendar(eq(randomId), any(), any());
+    }
+
+    @Test
+    void testGetCalendarViewById() throws Exception {
+        UUID randomId = UUID.randomUUID();
+        UUID meetingId = UUID.randomUUID();
+        CalendarView view = new CalendarView(randomId, "Calendar View", "Details", Set.of(meetingId));
+
+        when(calendarService.getCalendarViewById(randomId)).thenReturn(Optional.of(view));
+
+        mockMvc.perform(get("/calendars/{id}/view", randomId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Calendar View"))
+                .andExpect(jsonPath("$.meetingIds[0]").value(meetingId.toString()));
+
+        verify(calendarService, times(1)).getCalendarViewById(randomId);
     }
 
     @Test
     void testGetCalendarByIdNotFound() throws Exception {
         UUID randomId = UUID.randomUUID();
 
-        when(calendarService.getCalendarById(randomId)).thenReturn(Optional.empty());
+        when(calendarService.getCalendarETag(randomId)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/calendars/{id}", randomId))
                 .andExpect(status().isNotFound());
 
-        verify(calendarService, times(1)).getCalendarById(randomId);
+        verify(calendarService, never()).getRenderedCalendar(randomId);
     }
 
     @Test
@@ -0,0 +1,164 @@
+package rockets.data_access_layer.controller;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.CalendarRepository;
+import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.repository.ParticipantRepository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ConditionalGetTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID participantId;
+
+    private UUID meetingId;
+
+    private UUID calendarId;
+
+    @BeforeAll
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Participant participant = new Participant();
+            participant.setName("Poller");
+            participant.setEmail("poller@example.com");
+            participantId = participantRepository.save(participant).getId();
+
+            Meeting meeting = new Meeting();
+            meeting.setTitle("Standup");
+            meeting.getParticipants().add(participant);
+            meetingId = meetingRepository.save(meeting).getId();
+
+            Calendar calendar = new Calendar();
+            calendar.setTitle("Team");
+            calendar.addMeetings(List.of(meeting));
+            calendarId = calendarRepository.save(calendar).getId();
+        });
+    }
+
+    @Test
+    void testCalendarETagChangesWithMemberParticipant() throws Exception {
+        String etag = mockMvc.perform(get("/calendars/{id}", calendarId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/calendars/{id}", calendarId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        renameParticipant("Poller renamed");
+
+        String changed = mockMvc.perform(get("/calendars/{id}", calendarId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meetings[0].participants[0].name").value("Poller renamed"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, changed);
+    }
+
+    @Test
+    void testCalendarFeedETagChangesWithMemberParticipant() throws Exception {
+        UUID[] ids = transactionTemplate.execute(status -> {
+            Meeting meeting = new Meeting();
+            meeting.setTitle("Planning");
+            meeting.setDateTime(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)));
+            meeting.getParticipants().add(participantRepository.getReferenceById(participantId));
+            meetingRepository.save(meeting);
+
+            Calendar calendar = new Calendar();
+            calendar.setTitle("Feed");
+            calendar.addMeetings(List.of(meeting));
+            return new UUID[]{calendarRepository.save(calendar).getId(), meeting.getId()};
+        });
+        UUID calendarId = ids[0];
+        UUID meetingId = ids[1];
+
+        MvcResult result = mockMvc.perform(get("/calendars/{id}.ics", calendarId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String etag = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("UID:" + meetingId + "\r\n")))
+                .andExpect(content().string(containsString("ATTENDEE;CN=\"Poller")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/calendars/{id}.ics", calendarId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        renameParticipant("Poller renamed in feed");
+
+        MvcResult changed = mockMvc.perform(get("/calendars/{id}.ics", calendarId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(changed))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("ATTENDEE;CN=\"Poller renamed in feed\"")));
+    }
+
+    @Test
+    void testMeetingETagChangesWithMeeting() throws Exception {
+        String etag = mockMvc.perform(get("/meetings/{id}", meetingId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/meetings/{id}", meetingId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/meetings/{id}", meetingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Standup moved\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/meetings/{id}", meetingId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Standup moved"));
+    }
+
+    private void renameParticipant(String name) throws Exception {
+        mockMvc.perform(put("/participants/{id}", participantId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"" + name + "\"}"))
+                .andExpect(status().isOk());
+    }
+}
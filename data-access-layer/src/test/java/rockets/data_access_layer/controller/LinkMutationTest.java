@@ -0,0 +1,287 @@
+package rockets.data_access_layer.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+import rockets.data_access_layer.dto.IdLink;
+import rockets.data_access_layer.entity.Attachment;
+import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.AttachmentRepository;
+import rockets.data_access_layer.repository.CalendarRepository;
+import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.repository.ParticipantRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class LinkMutationTest {
+    private static final int CONCURRENT_ADDS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testAddParticipantsSkipsExistingAndUnknownIds() throws Exception {
+        Participant first = participant();
+        Participant second = participant();
+        Meeting meeting = meeting(first);
+        // puts the participant collection in the second-level cache
+        mockMvc.perform(get("/meetings/{id}", meeting.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(json(post("/meetings/{id}/participants", meeting.getId()),
+                        first.getId(), second.getId(), UUID.randomUUID()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants", hasSize(2)));
+
+        assertEquals(Set.of(first.getId(), second.getId()), participantIdsOf(meeting));
+    }
+
+    @Test
+    void testAddingNothingNewKeepsTheVersion() throws Exception {
+        Participant participant = participant();
+        Meeting meeting = meeting(participant);
+        long version = versionOf(meeting);
+
+        mockMvc.perform(json(post("/meetings/{id}/participants", meeting.getId()), participant.getId()))
+                .andExpect(status().isOk());
+        assertEquals(version, versionOf(meeting));
+
+        mockMvc.perform(json(post("/meetings/{id}/participants", meeting.getId()), participant().getId()))
+                .andExpect(status().isOk());
+        assertNotEquals(version, versionOf(meeting));
+    }
+
+    @Test
+    void testRemoveParticipants() throws Exception {
+        Participant kept = participant();
+        Participant removed = participant();
+        Meeting meeting = meeting(kept, removed);
+
+        mockMvc.perform(json(delete("/meetings/{id}/participants", meeting.getId()), removed.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants", hasSize(1)));
+
+        assertEquals(Set.of(kept.getId()), participantIdsOf(meeting));
+    }
+
+    @Test
+    void testRemovingTheLastParticipantIsRejected() throws Exception {
+        Participant participant = participant();
+        Meeting meeting = meeting(participant);
+
+        mockMvc.perform(json(delete("/meetings/{id}/participants", meeting.getId()), participant.getId()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.participants").value("At least one participant is required"));
+
+        assertEquals(Set.of(participant.getId()), participantIdsOf(meeting));
+    }
+
+    @Test
+    void testReplaceParticipants() throws Exception {
+        Participant removed = participant();
+        Participant kept = participant();
+        Participant added = participant();
+        Meeting meeting = meeting(removed, kept);
+
+        mockMvc.perform(json(put("/meetings/{id}/participants", meeting.getId()),
+                        kept.getId(), added.getId(), UUID.randomUUID()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants[*].id",
+                        containsInAnyOrder(kept.getId().toString(), added.getId().toString())));
+
+        assertEquals(Set.of(kept.getId(), added.getId()), participantIdsOf(meeting));
+    }
+
+    @Test
+    void testReplacingWithNoParticipantsIsRejected() throws Exception {
+        Participant participant = participant();
+        Meeting meeting = meeting(participant);
+
+        mockMvc.perform(json(put("/meetings/{id}/participants", meeting.getId())))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(json(put("/meetings/{id}/participants", meeting.getId()), UUID.randomUUID()))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(Set.of(participant.getId()), participantIdsOf(meeting));
+    }
+
+    @Test
+    void testLinkingToUnknownMeetingIsNotFound() throws Exception {
+        UUID participantId = participant().getId();
+        UUID meetingId = UUID.randomUUID();
+
+        mockMvc.perform(json(post("/meetings/{id}/participants", meetingId), participantId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(json(put("/meetings/{id}/participants", meetingId), participantId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(json(post("/calendars/{id}/meetings", UUID.randomUUID()), meeting(participant()).getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testConcurrentAddsAreAllKept() throws Exception {
+        Meeting meeting = meeting(participant());
+        List<UUID> added = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_ADDS; i++) {
+            added.add(participant().getId());
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_ADDS)) {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (UUID participantId : added) {
+                statuses.add(executor.submit(() -> mockMvc
+                        .perform(json(post("/meetings/{id}/participants", meeting.getId()), participantId))
+                        .andReturn().getResponse().getStatus()));
+            }
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get());
+            }
+        }
+
+        assertEquals(CONCURRENT_ADDS + 1, participantIdsOf(meeting).size());
+    }
+
+    @Test
+    void testAddAndRemoveAttachments() throws Exception {
+        Meeting meeting = meeting(participant());
+        Attachment first = attachment();
+        Attachment second = attachment();
+
+        mockMvc.perform(json(post("/meetings/{id}/attachments", meeting.getId()), first.getId(), second.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attachments", hasSize(2)));
+        mockMvc.perform(json(delete("/meetings/{id}/attachments", meeting.getId()), first.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attachments[*].id").value(second.getId().toString()));
+    }
+
+    @Test
+    void testLinkEditEvictsOnlyTheEditedMeeting() throws Exception {
+        Attachment attachment = attachment();
+        Meeting edited = meeting(participant());
+        Meeting other = meeting(participant());
+        for (Meeting meeting : List.of(edited, other)) {
+            mockMvc.perform(json(post("/meetings/{id}/attachments", meeting.getId()), attachment.getId()))
+                    .andExpect(status().isOk());
+            // puts the attachment collection in the second-level cache
+            mockMvc.perform(get("/meetings/{id}", meeting.getId())).andExpect(status().isOk());
+        }
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        String role = Meeting.class.getName() + ".attachments";
+        assertTrue(cache.containsCollection(role, other.getId()));
+
+        mockMvc.perform(json(delete("/meetings/{id}/attachments", edited.getId()), attachment.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attachments", hasSize(0)));
+
+        assertTrue(cache.containsCollection(role, other.getId()));
+    }
+
+    @Test
+    void testAddAndRemoveCalendarMeetings() throws Exception {
+        Meeting first = meeting(participant());
+        Meeting second = meeting(participant());
+        Calendar calendar = calendar(first);
+
+        mockMvc.perform(json(post("/calendars/{id}/meetings", calendar.getId()), first.getId(), second.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meetings", hasSize(2)));
+        mockMvc.perform(json(delete("/calendars/{id}/meetings", calendar.getId()), first.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meetings[*].id").value(second.getId().toString()));
+        mockMvc.perform(json(delete("/calendars/{id}/meetings", calendar.getId()), second.getId()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.meetings").value("At least one meeting is required"));
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, UUID... ids) {
+        return request.contentType(MediaType.APPLICATION_JSON)
+                .content(List.of(ids).stream().map(id -> "\"" + id + "\"")
+                        .collect(Collectors.joining(",", "[", "]")));
+    }
+
+    private Participant participant() {
+        Participant participant = new Participant();
+        participant.setName("Participant");
+        participant.setEmail("participant." + UUID.randomUUID() + "@example.com");
+        return participantRepository.save(participant);
+    }
+
+    private Attachment attachment() {
+        Attachment attachment = new Attachment();
+        attachment.setUrl("https://files.example.com/" + UUID.randomUUID());
+        return attachmentRepository.save(attachment);
+    }
+
+    private Meeting meeting(Participant... participants) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Meeting");
+        meeting.addParticipants(List.of(participants));
+        return meetingRepository.save(meeting);
+    }
+
+    private Calendar calendar(Meeting meeting) {
+        return transactionTemplate.execute(status -> {
+            Calendar calendar = new Calendar();
+            calendar.setTitle("Calendar");
+            calendar.getMeetings().add(meetingRepository.getReferenceById(meeting.getId()));
+            return calendarRepository.save(calendar);
+        });
+    }
+
+    private long versionOf(Meeting meeting) {
+        return meetingRepository.findVersions(List.of(meeting.getId())).get(0).version();
+    }
+
+    private Set<UUID> participantIdsOf(Meeting meeting) {
+        return Set.copyOf(meetingRepository.findParticipantLinks(List.of(meeting.getId())).stream()
+                .map(IdLink::linkedId).toList());
+    }
+}
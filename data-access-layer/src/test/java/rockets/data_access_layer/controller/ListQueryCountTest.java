@@ -0,0 +1,152 @@
+package rockets.data_access_layer.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import rockets.data_access_layer.entity.Attachment;
+import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.AttachmentRepository;
+import rockets.data_access_layer.repository.CalendarRepository;
+import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.repository.ParticipantRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ListQueryCountTest {
+    private static final int MEETINGS = 40;
+
+    private static final int MAX_STATEMENTS_PER_PAGE = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> createMeetingGraph());
+    }
+
+    private void createMeetingGraph() {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < MEETINGS; i++) {
+            Participant participant = new Participant();
+            participant.setName("Participant " + i);
+            participants.add(participant);
+        }
+        participants = participantRepository.saveAll(participants);
+
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < MEETINGS; i++) {
+            Attachment attachment = new Attachment();
+            attachment.setUrl("http://example.com/" + i);
+            attachment = attachmentRepository.save(attachment);
+
+            Meeting meeting = new Meeting();
+            meeting.setTitle("Meeting " + i);
+            meeting.addParticipants(List.of(participants.get(i), participants.get((i + 1) % MEETINGS)));
+            meeting.addAttachments(List.of(attachment));
+            meetings.add(meeting);
+        }
+        meetings = meetingRepository.saveAll(meetings);
+
+        for (int i = 0; i < MEETINGS; i += 4) {
+            Calendar calendar = new Calendar();
+            calendar.setTitle("Calendar " + i);
+            calendar.addMeetings(meetings.subList(i, i + 4));
+            calendarRepository.save(calendar);
+        }
+    }
+
+    @Test
+    void testMeetingListQueryCountIsIndependentOfPageSize() throws Exception {
+        long smallPage = countStatements("/meetings?limit=5", 5);
+        long fullPage = countStatements("/meetings?limit=" + MEETINGS, MEETINGS);
+
+        assertEquals(smallPage, fullPage);
+        assertTrue(fullPage <= MAX_STATEMENTS_PER_PAGE, "statements executed: " + fullPage);
+    }
+
+    @Test
+    void testCalendarListQueryCountIsIndependentOfPageSize() throws Exception {
+        long smallPage = countStatements("/calendars?limit=2", 2);
+        long fullPage = countStatements("/calendars?limit=" + MEETINGS, MEETINGS / 4);
+
+        assertEquals(smallPage, fullPage);
+        assertTrue(fullPage <= MAX_STATEMENTS_PER_PAGE, "statements executed: " + fullPage);
+    }
+
+    @Test
+    void testViewListsSelectOnlyRowsAndJoinIds() throws Exception {
+        assertEquals(4, countStatements("/meetings/views?limit=" + MEETINGS, MEETINGS));
+        assertEquals(2, countStatements("/calendars/views?limit=" + MEETINGS, MEETINGS / 4));
+        assertEquals(1, countStatements("/participants/views?limit=" + MEETINGS, MEETINGS));
+    }
+
+    @Test
+    void testMeetingExportStreamsEveryRowWithConstantStatements() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MvcResult result = mockMvc.perform(get("/meetings/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(MEETINGS, body.lines().count());
+        assertTrue(body.lines().allMatch(line -> line.contains("\"participantIds\":[\"")));
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    private long countStatements(String url, int expectedItems) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(expectedItems));
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -1,26 +1,45 @@
 package rockets.data_access_layer.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rockets.data_access_layer.dto.CursorPage;
+import rockets.data_access_layer.dto.MeetingConflict;
+import rockets.data_access_layer.dto.MeetingDTO;
+import rockets.data_access_layer.dto.MeetingOccurrence;
+import rockets.data_access_layer.dto.MeetingSearchHit;
+import rockets.data_access_layer.dto.MeetingView;
+import rockets.data_access_layer.dto.OccurrenceChanges;
 import rockets.data_access_layer.entity.Meeting;
 import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.service.ConflictPolicy;
+import rockets.data_access_layer.service.MeetingConflictException;
 import rockets.data_access_layer.service.MeetingService;
 import rockets.data_access_layer.service.ParticipantService;
+import rockets.data_access_layer.util.InvalidRecurrenceException;
 import rockets.data_access_layer.util.Utility;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class MeetingControllerTest {
@@ -31,6 +50,9 @@ public class MeetingControllerTest {
     @Mock
     ParticipantService participantService;
 
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     MeetingController meetingController;
 
@@ -39,7 +61,9 @@ public class MeetingControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        mockMvc = MockMvcBuilders.standaloneSetup(meetingController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(meetingController)
+                .setControllerAdvice(new ValidationExceptionHandler())
+                .build();
     }
 
     @Test
@@ -60,14 +84,229 @@ public class MeetingControllerTest {
         meeting2.setLocation("Location 2");
         meeting2.setDetails("Details 2");
 
-        when(meetingService.getAllMeetings()).thenReturn(Arrays.asList(meeting1, meeting2));
+        when(meetingService.getMeetingsPage(null, 50)).thenReturn(new CursorPage<>(Arrays.asList(meeting1, meeting2), null));
 
         mockMvc.perform(get("/meetings"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].title").value("Meeting 1"))
                 .andExpect(jsonPath("$[1].title").value("Meeting 2"));
 
-        verify(meetingService, times(1)).getAllMeetings();
+        verify(meetingService, times(1)).getMeetingsPage(null, 50);
+    }
+
+    @Test
+    void testGetAllMeetingsWithCursor() throws Exception {
+        Meeting meeting = new Meeting();
+        meeting.setId(UUID.randomUUID());
+        meeting.setTitle("Meeting 3");
+        meeting.setDateTime(Date.from(LocalDateTime.now().plusDays(1).atZone(ZoneId.systemDefault()).toInstant()));
+
+        when(meetingService.getMeetingsPage("current-cursor", 1)).thenReturn(new CursorPage<>(List.of(meeting), "next-cursor"));
+
+        mockMvc.perform(get("/meetings").param("cursor", "current-cursor").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next-cursor"))
+                .andExpect(jsonPath("$[0].title").value("Meeting 3"));
+
+        verify(meetingService, times(1)).getMeetingsPage("current-cursor", 1);
+    }
+
+    @Test
+    void testGetMeetingsInRange() throws Exception {
+        UUID calendarId = UUID.randomUUID();
+        Meeting meeting = new Meeting();
+        meeting.setId(UUID.randomUUID());
+        meeting.setTitle("Weekly Sync");
+        meeting.setDateTime(Date.from(LocalDateTime.now().plusDays(1).atZone(ZoneId.systemDefault()).toInstant()));
+
+        when(meetingService.getMeetingsInRange(any(Date.class), any(Date.class), eq(calendarId), isNull())).thenReturn(List.of(meeting));
+
+        mockMvc.perform(get("/meetings")
+                        .param("from", "2030-01-06 00:00")
+                        .param("to", "2030-01-13 00:00")
+                        .param("calendarId", calendarId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Weekly Sync"));
+
+        verify(meetingService, times(1)).getMeetingsInRange(any(Date.class), any(Date.class), eq(calendarId), isNull());
+        verify(meetingService, never()).getMeetingsPage(any(), anyInt());
+    }
+
+    @Test
+    void testGetMeetingsInRangeRejectsEmptyWindow() throws Exception {
+        mockMvc.perform(get("/meetings")
+                        .param("from", "2030-01-13 00:00")
+                        .param("to", "2030-01-06 00:00"))
+                .andExpect(status().isBadRequest());
+
+        verify(meetingService, never()).getMeetingsInRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetOccurrences() throws Exception {
+        UUID seriesId = UUID.randomUUID();
+        Date start = Date.from(LocalDateTime.of(2030, 1, 7, 9, 0).atZone(ZoneId.of("UTC")).toInstant());
+        MeetingOccurrence occurrence = new MeetingOccurrence(seriesId, seriesId, "Standup", "Room 1", start,
+                new Date(start.getTime() + TimeUnit.MINUTES.toMillis(15)));
+
+        when(meetingService.getOccurrences(any(Date.class), any(Date.class), isNull(), isNull()))
+                .thenReturn(List.of(occurrence));
+
+        mockMvc.perform(get("/meetings/occurrences")
+                        .param("from", "2030-01-06 00:00")
+                        .param("to", "2030-01-13 00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].seriesId").value(seriesId.toString()))
+                .andExpect(jsonPath("$[0].start").value("2030-01-07 09:00"))
+                .andExpect(jsonPath("$[0].end").value("2030-01-07 09:15"));
+    }
+
+    @Test
+    void testCancelUnknownOccurrence() throws Exception {
+        UUID seriesId = UUID.randomUUID();
+        when(meetingService.cancelOccurrence(eq(seriesId), any(Date.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(delete("/meetings/{id}/occurrences", seriesId)
+                        .param("start", "2030-01-07 09:00"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testOverrideOccurrenceWithPartialBody() throws Exception {
+        UUID seriesId = UUID.randomUUID();
+        Meeting meeting = new Meeting();
+        meeting.setId(UUID.randomUUID());
+        meeting.setTitle("Standup");
+        meeting.setLocation("Room 2");
+        when(meetingService.overrideOccurrence(eq(seriesId), any(Date.class), any(OccurrenceChanges.class)))
+                .thenReturn(Optional.of(meeting));
+
+        mockMvc.perform(put("/meetings/{id}/occurrences", seriesId)
+                        .param("start", "2030-01-07 09:00")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"location\": \"Room 2\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Standup"))
+                .andExpect(jsonPath("$.location").value("Room 2"));
+
+        verify(meetingService).overrideOccurrence(eq(seriesId), any(Date.class),
+                argThat(changes -> changes.getTitle() == null && "Room 2".equals(changes.getLocation())));
+    }
+
+    @Test
+    void testOverrideOccurrenceWithInvalidChanges() throws Exception {
+        UUID seriesId = UUID.randomUUID();
+
+        mockMvc.perform(put("/meetings/{id}/occurrences", seriesId)
+                        .param("start", "2030-01-07 09:00")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"\", \"durationMinutes\": 0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("title should be between 1 and 2000 characters"))
+                .andExpect(jsonPath("$.durationMinutes").exists());
+
+        verify(meetingService, never()).overrideOccurrence(any(), any(), any());
+    }
+
+    @Test
+    void testCreateMeetingsRejectsOversizedBatch() throws Exception {
+        String meetings = String.join(",",
+                Collections.nCopies(MeetingService.MAX_BATCH_MEETINGS + 1, "{\"title\": \"Meeting\"}"));
+
+        mockMvc.perform(post("/meetings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + meetings + "]"))
+                .andExpect(status().isBadRequest());
+
+        verify(meetingService, never()).createMeetings(any());
+    }
+
+    @Test
+    void testCreateMeetingWithInvalidRecurrence() throws Exception {
+        MeetingDTO meetingDTO = new MeetingDTO();
+        meetingDTO.setTitle("Standup");
+        meetingDTO.setRecurrenceRule("FREQ=HOURLY");
+        when(meetingService.createMeeting(any(Meeting.class), eq(ConflictPolicy.IGNORE)))
+                .thenThrow(new InvalidRecurrenceException("recurrenceRule", "FREQ should be DAILY, WEEKLY or MONTHLY"));
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(Utility.asJsonString(meetingDTO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.recurrenceRule").value("FREQ should be DAILY, WEEKLY or MONTHLY"));
+
+        verify(meetingService, times(1)).createMeeting(argThat(meeting ->
+                "FREQ=HOURLY".equals(meeting.getRecurrenceRule())), eq(ConflictPolicy.IGNORE));
+    }
+
+    @Test
+    void testGetMeetingViews() throws Exception {
+        UUID participantId = UUID.randomUUID();
+        MeetingView view = new MeetingView(UUID.randomUUID(), "Meeting View", new Date(), "Location", "Details",
+                Set.of(participantId), Set.of(), Set.of());
+
+        when(meetingService.getMeetingViewsPage(null, 50)).thenReturn(new CursorPage<>(List.of(view), null));
+
+        mockMvc.perform(get("/meetings/views"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Meeting View"))
+                .andExpect(jsonPath("$[0].participantIds[0]").value(participantId.toString()));
+
+        verify(meetingService, times(1)).getMeetingViewsPage(null, 50);
+    }
+
+    @Test
+    void testSearchMeetings() throws Exception {
+        UUID randomId = UUID.randomUUID();
+        MeetingSearchHit hit = new MeetingSearchHit(randomId, "Budget review", new Date(), "Room 1", 2.5);
+
+        when(meetingService.searchMeetings("budget", 20)).thenReturn(List.of(hit));
+
+        mockMvc.perform(get("/meetings/search").param("q", "budget"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(randomId.toString()))
+                .andExpect(jsonPath("$[0].score").value(2.5));
+
+        mockMvc.perform(get("/meetings/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetMeetingViewByIdNotFound() throws Exception {
+        UUID randomId = UUID.randomUUID();
+
+        when(meetingService.getMeetingViewById(randomId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/meetings/{id}/view", randomId))
+                .andExpect(status().isNotFound());
+
+        verify(meetingService, times(1)).getMeetingViewById(randomId);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportMeetings() throws Exception {
+        MeetingView first = new MeetingView(UUID.randomUUID(), "First", null, null, null);
+        MeetingView second = new MeetingView(UUID.randomUUID(), "Second", null, null, null);
+
+        doAnswer(invocation -> {
+            Consumer<List<MeetingView>> chunkConsumer = invocation.getArgument(0);
+            chunkConsumer.accept(List.of(first));
+            chunkConsumer.accept(List.of(second));
+            return null;
+        }).when(meetingService).exportMeetingViews(any());
+
+        MvcResult result = mockMvc.perform(get("/meetings/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(first) + "\n" + objectMapper.writeValueAsString(second) + "\n"));
+
+        verify(meetingService, times(1)).exportMeetingViews(any());
     }
 
     @Test
@@ -80,25 +319,41 @@ public class MeetingControllerTest {
         meeting.setLocation("Meeting Location");
         meeting.setDetails("Meeting Details");
 
+        when(meetingService.getMeetingETag(randomId)).thenReturn(Optional.of("\"v1\""));
         when(meetingService.getMeetingById(randomId)).thenReturn(Optional.of(meeting));
 
         mockMvc.perform(get("/meetings/{id}", randomId))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
                 .andExpect(jsonPath("$.title").value("Meeting Title"));
 
         verify(meetingService, times(1)).getMeetingById(randomId);
     }
 
+    @Test
+    void testGetMeetingByIdNotModified() throws Exception {
+        UUID randomId = UUID.randomUUID();
+
+        when(meetingService.getMeetingETag(randomId)).thenReturn(Optional.of("\"v1\""));
+
+        mockMvc.perform(get("/meetings/{id}", randomId).header(HttpHeaders.IF_NONE_MATCH, "\"v0\", \"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(content().string(""));
+
+        verify(meetingService, never()).getMeetingById(randomId);
+    }
+
     @Test
     void testGetMeetingByIdNotFound() throws Exception {
         UUID randomId = UUID.randomUUID();
 
-        when(meetingService.getMeetingById(randomId)).thenReturn(Optional.empty());
+        when(meetingService.getMeetingETag(randomId)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/meetings/{id}", randomId))
                 .andExpect(status().isNotFound());
 
-        verify(meetingService, times(1)).getMeetingById(randomId);
+        verify(meetingService, never()).getMeetingById(randomId);
     }
 
     @Test
@@ -118,7 +373,7 @@ public class MeetingControllerTest {
 
         newMeeting.addParticipants(List.of(participant));
 
-        when(meetingService.createMeeting(any(Meeting.class))).thenReturn(newMeeting);
+        when(meetingService.createMeeting(any(Meeting.class), eq(ConflictPolicy.IGNORE))).thenReturn(newMeeting);
         when(participantService.getAllParticipantsByIds(anySet())).thenReturn(List.of(participant));
 
         mockMvc.perform(post("/meetings")
@@ -127,7 +382,52 @@ public class MeetingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("New Meeting"));
 
-        verify(meetingService, times(1)).createMeeting(any(Meeting.class));
+        verify(meetingService, times(1)).createMeeting(any(Meeting.class), eq(ConflictPolicy.IGNORE));
+    }
+
+    @Test
+    void testCreateMeetingRejectsConflicts() throws Exception {
+        MeetingDTO meetingDTO = new MeetingDTO();
+        meetingDTO.setTitle("Overlapping");
+        meetingDTO.setParticipantIds(Set.of(UUID.randomUUID()));
+        MeetingConflict conflict = new MeetingConflict(meetingDTO.getParticipantIds().iterator().next(),
+                UUID.randomUUID(), new Date(0), new Date(TimeUnit.HOURS.toMillis(1)));
+
+        when(participantService.getAllParticipantsByIds(anySet())).thenReturn(List.of());
+        when(meetingService.createMeeting(any(Meeting.class), eq(ConflictPolicy.REJECT)))
+                .thenThrow(new MeetingConflictException(List.of(conflict)));
+
+        mockMvc.perform(post("/meetings")
+                        .param("conflicts", "REJECT")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(Utility.asJsonString(meetingDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$[0].meetingId").value(conflict.meetingId().toString()))
+                .andExpect(jsonPath("$[0].start").value("1970-01-01 00:00"));
+    }
+
+    @Test
+    void testUpdateMeetingWarnsAboutConflicts() throws Exception {
+        UUID randomId = UUID.randomUUID();
+        UUID conflictingId = UUID.randomUUID();
+
+        Meeting updatedMeeting = new Meeting();
+        updatedMeeting.setId(randomId);
+        updatedMeeting.setTitle("Updated Title");
+
+        when(meetingService.updateMeeting(eq(randomId), any(Meeting.class), eq(ConflictPolicy.WARN)))
+                .thenReturn(Optional.of(updatedMeeting));
+        when(meetingService.findConflicts(updatedMeeting)).thenReturn(List.of(
+                new MeetingConflict(UUID.randomUUID(), conflictingId, new Date(0), new Date(1)),
+                new MeetingConflict(UUID.randomUUID(), conflictingId, new Date(0), new Date(1))));
+
+        mockMvc.perform(put("/meetings/{id}", randomId)
+                        .param("conflicts", "WARN")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(Utility.asJsonString(updatedMeeting)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MeetingController.CONFLICTS_HEADER, conflictingId.toString()))
+                .andExpect(jsonPath("$.title").value("Updated Title"));
     }
 
     @Test
@@ -147,7 +447,7 @@ public class MeetingControllerTest {
         updatedMeeting.setLocation("Updated Location");
         updatedMeeting.setDetails("Updated Details");
 
-        when(meetingService.updateMeeting(eq(randomId), any(Meeting.class))).thenReturn(Optional.of(updatedMeeting));
+        when(meetingService.updateMeeting(eq(randomId), any(Meeting.class), eq(ConflictPolicy.IGNORE))).thenReturn(Optional.of(updatedMeeting));
 
         mockMvc.perform(put("/meetings/{id}", randomId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -155,7 +455,7 @@ public class MeetingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("Updated Title"));
 
-        verify(meetingService, times(1)).updateMeeting(eq(randomId), any(Meeting.class));
+        verify(meetingService, times(1)).updateMeeting(eq(randomId), any(Meeting.class), eq(ConflictPolicy.IGNORE));
     }
 
     @Test
@@ -168,14 +468,14 @@ public class MeetingControllerTest {
         updatedMeeting.setLocation("Updated Location");
         updatedMeeting.setDetails("Updated Details");
 
-        when(meetingService.updateMeeting(eq(randomId), any(Meeting.class))).thenReturn(Optional.empty());
+        when(meetingService.updateMeeting(eq(randomId), any(Meeting.class), eq(ConflictPolicy.IGNORE))).thenReturn(Optional.empty());
 
         mockMvc.perform(put("/meetings/{id}", randomId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(Utility.asJsonString(updatedMeeting)))
                 .andExpect(status().isNotFound());
 
-        verify(meetingService, times(1)).updateMeeting(eq(randomId), any(Meeting.class));
+        verify(meetingService, times(1)).updateMeeting(eq(randomId), any(Meeting.class), eq(ConflictPolicy.IGNORE));
     }
 
     @Test
@@ -0,0 +1,65 @@
+package rockets.data_access_layer.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.ParticipantRepository;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class MeetingSearchTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Test
+    void testSearchFollowsCommittedWrites() throws Exception {
+        Participant participant = new Participant();
+        participant.setName("Searcher");
+        String participantId = participantRepository.save(participant).getId().toString();
+
+        String created = mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Zeppelin maintenance\", \"details\": \"Check the gondola\", " +
+                                "\"participantIds\": [\"" + participantId + "\"]}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String meetingId = JsonPath.read(created, "$.id");
+
+        mockMvc.perform(get("/meetings/search").param("q", "zeppelin gondola"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(meetingId));
+
+        mockMvc.perform(put("/meetings/{id}", meetingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Blimp maintenance\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/meetings/search").param("q", "zeppelin"))
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/meetings/search").param("q", "blimp"))
+                .andExpect(jsonPath("$[0].id").value(meetingId));
+
+        mockMvc.perform(delete("/meetings/{id}", meetingId))
+                .andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(get("/meetings/search").param("q", "blimp"))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+}
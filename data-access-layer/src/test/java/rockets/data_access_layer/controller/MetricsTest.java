@@ -0,0 +1,48 @@
+package rockets.data_access_layer.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testPrometheusEndpointExposesServiceRepositoryAndPoolMetrics() throws Exception {
+        mockMvc.perform(get("/attachments/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/calendars").contentType("application/json").content("{}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("service_invocations_seconds_bucket{"
+                        + "class=\"rockets.data_access_layer.service.AttachmentService\",exception=\"none\","
+                        + "method=\"getAttachmentById\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{"
+                        + "exception=\"None\",method=\"findById\",repository=\"AttachmentRepository\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket{")))
+                .andExpect(content().string(containsString("hikaricp_connections_active{")))
+                .andExpect(content().string(containsString("hikaricp_connections_idle{")))
+                .andExpect(content().string(containsString("hikaricp_connections_pending{")))
+                .andExpect(content().string(containsString(
+                        "api_not_found_total{handler=\"AttachmentController.getAttachmentById\"} 1.0")))
+                .andExpect(content().string(containsString(
+                        "api_validation_failures_total{handler=\"CalendarController.createCalendar\"} 1.0")));
+    }
+}
@@ -8,14 +8,22 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rockets.data_access_layer.dto.BusyInterval;
+import rockets.data_access_layer.dto.CursorPage;
+import rockets.data_access_layer.dto.ParticipantView;
 import rockets.data_access_layer.entity.Participant;
 import rockets.data_access_layer.service.ParticipantService;
 import rockets.data_access_layer.util.Utility;
 
 import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -51,7 +59,7 @@ public class ParticipantControllerTest {
         participant2.setName("Jane Smith");
         participant2.setEmail("janesmith@email.com");
 
-        when(participantService.getAllParticipants()).thenReturn(Arrays.asList(participant1, participant2));
+        when(participantService.getParticipantsPage(null, 50)).thenReturn(new CursorPage<>(Arrays.asList(participant1, participant2), null));
 
         mockMvc.perform(get("/participants"))
                 .andExpect(status().isOk())
@@ -60,7 +68,7 @@ public class ParticipantControllerTest {
                 .andExpect(jsonPath("$[1].name").value("Jane Smith"))
                 .andExpect(jsonPath("$[1].email").value("janesmith@email.com"));
 
-        verify(participantService, times(1)).getAllParticipants();
+        verify(participantService, times(1)).getParticipantsPage(null, 50);
     }
 
     @Test
@@ -163,4 +171,99 @@ public class ParticipantControllerTest {
 
         verify(participantService, times(1)).deleteParticipant(randomId);
     }
+
+    @Test
+    void testGetParticipantFreeBusy() throws Exception {
+        UUID randomId = UUID.randomUUID();
+        Participant participant = new Participant();
+        participant.setId(randomId);
+        BusyInterval busy = new BusyInterval(new Date(0), new Date(TimeUnit.HOURS.toMillis(1)));
+
+        when(participantService.getParticipantById(randomId)).thenReturn(Optional.of(participant));
+        when(participantService.getBusyIntervals(eq(List.of(randomId)), any(Date.class), any(Date.class)))
+                .thenReturn(List.of(busy));
+
+        mockMvc.perform(get("/participants/{id}/freebusy", randomId)
+                        .param("from", "2030-01-01 00:00")
+                        .param("to", "2030-01-02 00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].start").value("1970-01-01 00:00"))
+                .andExpect(jsonPath("$[0].end").value("1970-01-01 01:00"));
+    }
+
+    @Test
+    void testGetParticipantFreeBusyNotFound() throws Exception {
+        UUID randomId = UUID.randomUUID();
+
+        when(participantService.getParticipantById(randomId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/participants/{id}/freebusy", randomId)
+                        .param("from", "2030-01-01 00:00")
+                        .param("to", "2030-01-02 00:00"))
+                .andExpect(status().isNotFound());
+
+        verify(participantService, never()).getBusyIntervals(any(), any(), any());
+    }
+
+    @Test
+    void testGetFreeBusyForSeveralParticipants() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        when(participantService.getBusyIntervals(eq(List.of(first, second)), any(Date.class), any(Date.class)))
+                .thenReturn(List.of());
+
+        mockMvc.perform(get("/participants/freebusy")
+                        .param("ids", first.toString(), second.toString())
+                        .param("from", "2030-01-01 00:00")
+                        .param("to", "2030-01-02 00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void testGetFreeBusyRejectsEmptyWindow() throws Exception {
+        mockMvc.perform(get("/participants/freebusy")
+                        .param("ids", UUID.randomUUID().toString())
+                        .param("from", "2030-01-02 00:00")
+                        .param("to", "2030-01-01 00:00"))
+                .andExpect(status().isBadRequest());
+
+        verify(participantService, never()).getBusyIntervals(any(), any(), any());
+    }
+
+    @Test
+    void testGetFreeBusyRejectsTooManyParticipants() throws Exception {
+        String[] ids = new String[ParticipantController.MAX_FREE_BUSY_PARTICIPANTS + 1];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+        }
+
+        mockMvc.perform(get("/participants/freebusy")
+                        .param("ids", ids)
+                        .param("from", "2030-01-01 00:00")
+                        .param("to", "2030-01-02 00:00"))
+                .andExpect(status().isBadRequest());
+
+        verify(participantService, never()).getBusyIntervals(any(), any(), any());
+    }
+
+    @Test
+    void testSuggestParticipants() throws Exception {
+        UUID randomId = UUID.randomUUID();
+        ParticipantView participant = new ParticipantView(randomId, "Jane Smith", "janesmith@email.com");
+
+        when(participantService.suggestParticipants("smi", 10)).thenReturn(List.of(participant));
+
+        mockMvc.perform(get("/participants/suggest").param("prefix", "smi"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(randomId.toString()))
+                .andExpect(jsonPath("$[0].name").value("Jane Smith"));
+
+        mockMvc.perform(get("/participants/suggest").param("prefix", "smi").param("limit", "51"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/participants/suggest").param("prefix", " "))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,102 @@
+package rockets.data_access_layer.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rockets.data_access_layer.dto.FreeSlot;
+import rockets.data_access_layer.dto.SlotSearchRequest;
+import rockets.data_access_layer.service.SchedulingService;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class SchedulingControllerTest {
+
+    @Mock
+    SchedulingService schedulingService;
+
+    @InjectMocks
+    SchedulingController schedulingController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(schedulingController)
+                .setControllerAdvice(new ValidationExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void testFindSlots() throws Exception {
+        Date start = new Date(TimeUnit.HOURS.toMillis(9));
+        when(schedulingService.findSlots(any(SlotSearchRequest.class)))
+                .thenReturn(List.of(new FreeSlot(start, new Date(start.getTime() + TimeUnit.MINUTES.toMillis(30)))));
+
+        mockMvc.perform(post("/scheduling/find-slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "participantIds": ["0c0a622e-e534-4a3a-9c56-286b81b9cf43"],
+                                  "durationMinutes": 30,
+                                  "from": "1970-01-01 00:00",
+                                  "to": "1970-01-02 00:00",
+                                  "workdayStart": "08:00",
+                                  "zone": "Europe/Berlin"
+                                }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].start").value("1970-01-01 09:00"))
+                .andExpect(jsonPath("$[0].end").value("1970-01-01 09:30"));
+
+        verify(schedulingService, times(1)).findSlots(argThat(request ->
+                request.getWorkdayStart().getHour() == 8 && request.getWorkdayEnd().getHour() == 17
+                        && request.getZone().getId().equals("Europe/Berlin") && request.getLimit() == 10));
+    }
+
+    @Test
+    void testFindSlotsRejectsEmptyWindow() throws Exception {
+        mockMvc.perform(post("/scheduling/find-slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "participantIds": ["0c0a622e-e534-4a3a-9c56-286b81b9cf43"],
+                                  "durationMinutes": 30,
+                                  "from": "1970-01-02 00:00",
+                                  "to": "1970-01-01 00:00"
+                                }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verify(schedulingService, never()).findSlots(any(SlotSearchRequest.class));
+    }
+
+    @Test
+    void testFindSlotsRequiresParticipants() throws Exception {
+        mockMvc.perform(post("/scheduling/find-slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "participantIds": [],
+                                  "durationMinutes": 30,
+                                  "from": "1970-01-01 00:00",
+                                  "to": "1970-01-02 00:00"
+                                }
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.participantIds").value("participantIds can not be empty"));
+    }
+}
@@ -0,0 +1,201 @@
+package rockets.data_access_layer.loadtest;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rockets.data_access_layer.entity.Attachment;
+import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.AttachmentRepository;
+import rockets.data_access_layer.repository.CalendarRepository;
+import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.repository.ParticipantRepository;
+import rockets.data_access_layer.service.MeetingSearchIndex;
+import rockets.data_access_layer.service.ParticipantSuggestIndex;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Fills the database with a synthetic but realistically skewed dataset
+ * through the repositories, {@link #CHUNK_SIZE} rows per transaction.
+ * <p>
+ * How many participants a meeting has follows a Zipf distribution, so most
+ * meetings are small and a few are large, and so does who attends, which
+ * calendar a meeting is in and which words its title is made of: a few
+ * participants are in many meetings, a few calendars hold most of them and
+ * a few words match many titles. The same {@link Spec} always produces the
+ * same dataset, apart from the dates, which start from tomorrow.
+ */
+public class DatasetGenerator {
+    static final int CHUNK_SIZE = 1_000;
+
+    static final String[] WORDS = {"planning", "review", "standup", "roadmap", "budget", "design", "hiring",
+            "retro", "sync", "demo", "kickoff", "interview", "training", "offsite", "release", "security",
+            "customer", "quarterly", "onboarding", "architecture", "marketing", "sales", "support", "research",
+            "incident", "strategy", "workshop", "lunch", "board", "feedback"};
+
+    private static final String[] FIRST_NAMES = {"Ada", "Alan", "Barbara", "Claude", "Donald", "Edsger", "Frances",
+            "Grace", "Hedy", "Ivan", "Joan", "Ken", "Linus", "Margaret", "Niklaus", "Radia", "Sophie", "Tim",
+            "Zoë", "Jürgen"};
+
+    private static final String[] LAST_NAMES = {"Lovelace", "Turing", "Liskov", "Shannon", "Knuth", "Dijkstra",
+            "Allen", "Hopper", "Lamarr", "Sutherland", "Clarke", "Thompson", "Torvalds", "Hamilton", "Wirth",
+            "Perlman", "Wilson", "Berners-Lee", "Müller", "Schmidhuber"};
+
+    private static final int[] DURATIONS = {15, 30, 30, 45, 60, 60, 60, 90, 120};
+
+    private final ParticipantRepository participantRepository;
+
+    private final AttachmentRepository attachmentRepository;
+
+    private final MeetingRepository meetingRepository;
+
+    private final CalendarRepository calendarRepository;
+
+    private final MeetingSearchIndex meetingSearchIndex;
+
+    private final ParticipantSuggestIndex participantSuggestIndex;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public DatasetGenerator(ParticipantRepository participantRepository, AttachmentRepository attachmentRepository,
+            MeetingRepository meetingRepository, CalendarRepository calendarRepository,
+            MeetingSearchIndex meetingSearchIndex, ParticipantSuggestIndex participantSuggestIndex,
+            EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        this.participantRepository = participantRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.meetingRepository = meetingRepository;
+        this.calendarRepository = calendarRepository;
+        this.meetingSearchIndex = meetingSearchIndex;
+        this.participantSuggestIndex = participantSuggestIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * @param maxParticipants the most participants a meeting has
+     * @param maxAttachments  the most attachments a meeting has
+     * @param exponent        skew of every Zipf distribution, 0 for uniform
+     */
+    public record Spec(int participants, int attachments, int meetings, int calendars, int maxParticipants,
+                       int maxAttachments, double exponent, long seed) {
+    }
+
+    /**
+     * Ids of everything generated, each list ordered from most to least
+     * popular.
+     */
+    public record Dataset(List<UUID> participantIds, List<UUID> attachmentIds, List<UUID> meetingIds,
+                          List<UUID> calendarIds) {
+    }
+
+    public Dataset generate(Spec spec) {
+        Random random = new Random(spec.seed());
+
+        List<UUID> participantIds = insert(spec.participants(), i -> {
+            Participant participant = new Participant();
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            participant.setName(first + " " + last);
+            participant.setEmail(first.toLowerCase() + "." + i + "@example.com");
+            return participant;
+        }, participantRepository::saveAll, Participant::getId);
+
+        List<UUID> attachmentIds = insert(spec.attachments(), i -> {
+            Attachment attachment = new Attachment();
+            attachment.setUrl("https://files.example.com/" + i + "/" + WORDS[random.nextInt(WORDS.length)] + ".pdf");
+            return attachment;
+        }, attachmentRepository::saveAll, Attachment::getId);
+
+        Zipf participantCount = new Zipf(Math.min(spec.maxParticipants(), spec.participants()), spec.exponent());
+        Zipf attendee = new Zipf(spec.participants(), spec.exponent());
+        Zipf attachmentCount = new Zipf(spec.maxAttachments() + 1, spec.exponent());
+        Zipf attachment = new Zipf(Math.max(1, spec.attachments()), spec.exponent());
+        Zipf word = new Zipf(WORDS.length, spec.exponent());
+        long start = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1);
+        long quarterHours = TimeUnit.DAYS.toMinutes(365) / 15;
+        List<UUID> meetingIds = insert(spec.meetings(), i -> {
+            Meeting meeting = new Meeting();
+            meeting.setTitle(WORDS[word.sampleIndex(random)] + " " + WORDS[word.sampleIndex(random)]
+                    + (random.nextBoolean() ? " " + WORDS[word.sampleIndex(random)] : ""));
+            meeting.setDateTime(new Date(start + TimeUnit.MINUTES.toMillis(15 * random.nextLong(quarterHours))));
+            meeting.setDurationMinutes(DURATIONS[random.nextInt(DURATIONS.length)]);
+            meeting.setLocation("Room " + (1 + random.nextInt(50)));
+            meeting.setDetails("Generated meeting " + i);
+            Set<Participant> participants = new HashSet<>();
+            for (int p = participantCount.sample(random); participants.size() < p; ) {
+                participants.add(participantRepository.getReferenceById(
+                        participantIds.get(attendee.sampleIndex(random))));
+            }
+            meeting.setParticipants(participants);
+            if (!attachmentIds.isEmpty()) {
+                Set<Attachment> attachments = new HashSet<>();
+                for (int a = Math.min(attachmentCount.sampleIndex(random), attachmentIds.size());
+                     attachments.size() < a; ) {
+                    attachments.add(attachmentRepository.getReferenceById(
+                            attachmentIds.get(attachment.sampleIndex(random))));
+                }
+                meeting.setAttachments(attachments);
+            }
+            return meeting;
+        }, meetingRepository::saveAll, Meeting::getId);
+
+        List<List<UUID>> calendarMeetings = new ArrayList<>();
+        for (int i = 0; i < spec.calendars(); i++) {
+            calendarMeetings.add(new ArrayList<>());
+        }
+        if (spec.calendars() > 0 && !meetingIds.isEmpty()) {
+            Zipf calendar = new Zipf(spec.calendars(), spec.exponent());
+            meetingIds.forEach(id -> calendarMeetings.get(calendar.sampleIndex(random)).add(id));
+            calendarMeetings.stream().filter(List::isEmpty)
+                    .forEach(meetings -> meetings.add(meetingIds.get(random.nextInt(meetingIds.size()))));
+        }
+        List<UUID> calendarIds = insert(calendarMeetings.size(), i -> {
+            Calendar calendar = new Calendar();
+            calendar.setTitle(WORDS[i % WORDS.length] + " calendar " + i);
+            calendar.setDetails("Generated calendar with " + calendarMeetings.get(i).size() + " meetings");
+            Set<Meeting> meetings = new HashSet<>();
+            calendarMeetings.get(i).forEach(id -> meetings.add(meetingRepository.getReferenceById(id)));
+            calendar.setMeetings(meetings);
+            return calendar;
+        }, calendarRepository::saveAll, Calendar::getId);
+
+        // the repositories bypass the services that keep these up to date
+        meetingSearchIndex.rebuild();
+        participantSuggestIndex.rebuild();
+
+        return new Dataset(participantIds, attachmentIds, meetingIds, calendarIds);
+    }
+
+    private <T> List<UUID> insert(int count, IntFunction<T> create, Consumer<List<T>> save,
+            Function<T, UUID> id) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            int to = Math.min(count, from + CHUNK_SIZE);
+            int first = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<T> chunk = new ArrayList<>(to - first);
+                for (int i = first; i < to; i++) {
+                    chunk.add(create.apply(i));
+                }
+                save.accept(chunk);
+                entityManager.flush();
+                chunk.forEach(entity -> ids.add(id.apply(entity)));
+                entityManager.clear();
+            });
+        }
+        return ids;
+    }
+}
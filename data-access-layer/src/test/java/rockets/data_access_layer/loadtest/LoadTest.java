@@ -0,0 +1,217 @@
+package rockets.data_access_layer.loadtest;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import rockets.data_access_layer.DataAccessLayerApplication;
+import rockets.data_access_layer.repository.AttachmentRepository;
+import rockets.data_access_layer.repository.CalendarRepository;
+import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.repository.ParticipantRepository;
+import rockets.data_access_layer.service.MeetingSearchIndex;
+import rockets.data_access_layer.service.ParticipantSuggestIndex;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Generates a {@link DatasetGenerator synthetic dataset}, then drives an
+ * open-model {@link Workload} across every controller against it and prints
+ * latency percentiles per operation. Ids are drawn with the same Zipf skew
+ * as the dataset, so popular meetings, calendars and participants are also
+ * the most requested ones and the caches see a realistic hit rate.
+ * <p>
+ * By default the application runs on an in-memory H2 database so the run is
+ * self-contained; pass {@code -Dspring.datasource.url=...} (and the username
+ * and password) to run it against Postgres. Run with
+ * {@code mvn test -Pbenchmark -Dtest=LoadTest}; the {@code loadtest.*} system
+ * properties below size the dataset and the load, and
+ * {@code -Dloadtest.mix=search:0,create-meeting:5} reweights operations by
+ * name. The same properties always send the same sequence of requests.
+ */
+@Tag("benchmark")
+public class LoadTest {
+    private static final int PARTICIPANTS = Integer.getInteger("loadtest.participants", 5_000);
+
+    private static final int ATTACHMENTS = Integer.getInteger("loadtest.attachments", 2_000);
+
+    private static final int MEETINGS = Integer.getInteger("loadtest.meetings", 20_000);
+
+    private static final int CALENDARS = Integer.getInteger("loadtest.calendars", 200);
+
+    private static final int MAX_PARTICIPANTS = Integer.getInteger("loadtest.max-participants", 50);
+
+    private static final int MAX_ATTACHMENTS = Integer.getInteger("loadtest.max-attachments", 5);
+
+    private static final double EXPONENT = Double.parseDouble(System.getProperty("loadtest.exponent", "1.1"));
+
+    private static final long SEED = Long.getLong("loadtest.seed", 42);
+
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 20));
+
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("loadtest.seconds", 60));
+
+    private static final String MIX = System.getProperty("loadtest.mix", "");
+
+    private static final DateTimeFormatter MINUTES = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final String[] PREFIXES = {"a", "al", "gr", "ha", "jo", "li", "ma", "so", "ti", "zo"};
+
+    @Test
+    void run() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DataAccessLayerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest"
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn")
+                .run()) {
+            DatasetGenerator.Spec spec = new DatasetGenerator.Spec(PARTICIPANTS, ATTACHMENTS, MEETINGS, CALENDARS,
+                    MAX_PARTICIPANTS, MAX_ATTACHMENTS, EXPONENT, SEED);
+            long started = System.nanoTime();
+            DatasetGenerator.Dataset dataset = generator(context).generate(spec);
+            System.out.printf("%nGenerated %s in %.1f s%n", spec, (System.nanoTime() - started) / 1e9);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Workload workload = new Workload(operations("http://localhost:" + port, dataset));
+            workload.run(RATE, WARMUP, SEED);
+            List<Workload.Result> results = workload.run(RATE, MEASUREMENT, SEED + 1);
+
+            System.out.printf("%n%.0f req/s offered for %d s%n", RATE, MEASUREMENT.toSeconds());
+            System.out.printf("%-22s %8s %8s %9s %9s %9s %9s %9s %7s%n", "operation", "count", "req/s", "p50 ms",
+                    "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+            for (Workload.Result result : results) {
+                System.out.printf("%-22s %8d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f %7d%n", result.name(),
+                        result.latencies().getTotalCount(), result.throughput(), result.millis(50),
+                        result.millis(90), result.millis(99), result.millis(99.9), result.millis(100),
+                        result.errors());
+            }
+            assertEquals(0, results.get(results.size() - 1).errors(), "requests failed");
+        }
+    }
+
+    private static DatasetGenerator generator(ConfigurableApplicationContext context) {
+        return new DatasetGenerator(context.getBean(ParticipantRepository.class),
+                context.getBean(AttachmentRepository.class), context.getBean(MeetingRepository.class),
+                context.getBean(CalendarRepository.class), context.getBean(MeetingSearchIndex.class),
+                context.getBean(ParticipantSuggestIndex.class), context.getBean(EntityManager.class),
+                context.getBean(TransactionTemplate.class));
+    }
+
+    /**
+     * Reads and writes across every controller, weighted roughly like a
+     * calendar client: mostly views of single meetings, calendars and
+     * participants, some searches and range queries, few writes.
+     */
+    private static List<Workload.Operation> operations(String baseUrl, DatasetGenerator.Dataset dataset) {
+        Zipf meeting = new Zipf(dataset.meetingIds().size(), EXPONENT);
+        Zipf participant = new Zipf(dataset.participantIds().size(), EXPONENT);
+        Zipf calendar = new Zipf(dataset.calendarIds().size(), EXPONENT);
+        Zipf attachment = new Zipf(dataset.attachmentIds().size(), EXPONENT);
+        Zipf word = new Zipf(DatasetGenerator.WORDS.length, EXPONENT);
+        Function<Random, UUID> meetingId = random -> dataset.meetingIds().get(meeting.sampleIndex(random));
+        Function<Random, UUID> participantId =
+                random -> dataset.participantIds().get(participant.sampleIndex(random));
+        Function<Random, UUID> calendarId = random -> dataset.calendarIds().get(calendar.sampleIndex(random));
+        Function<Random, UUID> attachmentId =
+                random -> dataset.attachmentIds().get(attachment.sampleIndex(random));
+
+        // the dataset starts tomorrow and spans a year
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0);
+        Function<Random, String> week = random -> {
+            LocalDateTime from = tomorrow.plusDays(random.nextInt(358));
+            return "from=" + encode(from.format(MINUTES)) + "&to=" + encode(from.plusDays(7).format(MINUTES));
+        };
+
+        List<Workload.Operation> operations = List.of(
+                get("meeting", 15, baseUrl, random -> "/meetings/" + meetingId.apply(random)),
+                get("meeting-view", 15, baseUrl, random -> "/meetings/" + meetingId.apply(random) + "/view"),
+                get("meeting-views", 3, baseUrl, random -> "/meetings/views?limit=20"),
+                get("meetings-in-range", 5, baseUrl,
+                        random -> "/meetings?" + week.apply(random) + "&participantId=" + participantId.apply(random)),
+                get("occurrences", 3, baseUrl,
+                        random -> "/meetings/occurrences?" + week.apply(random) + "&calendarId="
+                                + calendarId.apply(random)),
+                get("search", 5, baseUrl, random -> "/meetings/search?q="
+                        + DatasetGenerator.WORDS[word.sampleIndex(random)]),
+                get("calendar", 8, baseUrl, random -> "/calendars/" + calendarId.apply(random)),
+                get("calendar-view", 5, baseUrl, random -> "/calendars/" + calendarId.apply(random) + "/view"),
+                get("calendar-feed", 2, baseUrl, random -> "/calendars/" + calendarId.apply(random) + ".ics"),
+                get("calendar-views", 2, baseUrl, random -> "/calendars/views?limit=20"),
+                get("participant", 8, baseUrl, random -> "/participants/" + participantId.apply(random)),
+                get("participant-views", 2, baseUrl, random -> "/participants/views?limit=20"),
+                get("suggest", 5, baseUrl,
+                        random -> "/participants/suggest?prefix=" + PREFIXES[random.nextInt(PREFIXES.length)]),
+                get("freebusy", 5, baseUrl,
+                        random -> "/participants/" + participantId.apply(random) + "/freebusy?" + week.apply(random)),
+                get("attachment", 4, baseUrl, random -> "/attachments/" + attachmentId.apply(random)),
+                get("attachments", 1, baseUrl, random -> "/attachments?limit=20"),
+                get("cache-statistics", 1, baseUrl, random -> "/cache/statistics"),
+                post("find-slots", 2, baseUrl, "/scheduling/find-slots", random -> {
+                    LocalDateTime from = tomorrow.plusDays(random.nextInt(300));
+                    return """
+                            {"participantIds": ["%s", "%s", "%s"], "durationMinutes": 45,
+                             "from": "%s", "to": "%s", "workdayStart": "09:00", "workdayEnd": "17:00",
+                             "zone": "UTC", "limit": 5}"""
+                            .formatted(participantId.apply(random), participantId.apply(random),
+                                    participantId.apply(random), from.format(MINUTES),
+                                    from.plusDays(14).format(MINUTES));
+                }),
+                post("create-meeting", 2, baseUrl, "/meetings", random -> """
+                        {"title": "%s %s", "dateTime": "%s", "durationMinutes": 30, "location": "Room %d",
+                         "participantIds": ["%s", "%s"]}"""
+                        .formatted(DatasetGenerator.WORDS[word.sampleIndex(random)],
+                                DatasetGenerator.WORDS[word.sampleIndex(random)],
+                                tomorrow.plusMinutes(15L * random.nextInt(35_000)).format(MINUTES),
+                                1 + random.nextInt(50), participantId.apply(random), participantId.apply(random))),
+                post("create-participant", 1, baseUrl, "/participants", random -> """
+                        {"name": "Load Test", "email": "load.test.%s@example.com"}"""
+                        .formatted(new UUID(random.nextLong(), random.nextLong()))));
+        return operations.stream().map(LoadTest::reweighted).toList();
+    }
+
+    private static Workload.Operation get(String name, int weight, String baseUrl, Function<Random, String> path) {
+        return new Workload.Operation(name, weight,
+                random -> HttpRequest.newBuilder(URI.create(baseUrl + path.apply(random))).GET());
+    }
+
+    private static Workload.Operation post(String name, int weight, String baseUrl, String path,
+            Function<Random, String> body) {
+        return new Workload.Operation(name, weight, random -> HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.apply(random))));
+    }
+
+    private static Workload.Operation reweighted(Workload.Operation operation) {
+        for (String entry : MIX.split(",")) {
+            String[] nameAndWeight = entry.split(":");
+            if (nameAndWeight.length == 2 && nameAndWeight[0].trim().equals(operation.name())) {
+                return new Workload.Operation(operation.name(), Integer.parseInt(nameAndWeight[1].trim()),
+                        operation.request());
+            }
+        }
+        return operation;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,140 @@
+package rockets.data_access_layer.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * An open-model HTTP workload: requests arrive as a Poisson process at a
+ * fixed mean rate, whether or not earlier ones have been answered, the way
+ * independent users arrive in production. Each one is sent on its own
+ * virtual thread, and its latency is measured from when it was due rather
+ * than from when it was sent, so a server that falls behind shows up in
+ * the percentiles instead of quietly slowing the load down.
+ */
+public class Workload {
+    // an hour, at three significant digits
+    private static final long MAX_LATENCY_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final List<Operation> operations;
+
+    private final double[] cumulativeWeights;
+
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    /**
+     * A kind of request and how often it is sent relative to the others.
+     */
+    public record Operation(String name, int weight, Function<Random, HttpRequest.Builder> request) {
+    }
+
+    /**
+     * What one run measured for one operation, or for all of them under
+     * {@code "total"}.
+     */
+    public record Result(String name, Histogram latencies, long errors, double seconds) {
+        public double throughput() {
+            return latencies.getTotalCount() / seconds;
+        }
+
+        public double millis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1e6;
+        }
+    }
+
+    public Workload(List<Operation> operations) {
+        this.operations = operations.stream().filter(operation -> operation.weight() > 0).toList();
+        cumulativeWeights = new double[this.operations.size()];
+        double sum = 0;
+        for (int i = 0; i < this.operations.size(); i++) {
+            sum += this.operations.get(i).weight();
+            cumulativeWeights[i] = sum;
+        }
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            cumulativeWeights[i] /= sum;
+        }
+    }
+
+    /**
+     * Sends requests at {@code rate} per second on average for
+     * {@code duration}, waits for the last ones to be answered and returns
+     * the results per operation in the order they were given, followed by
+     * the total.
+     */
+    public List<Result> run(double rate, Duration duration, long seed) {
+        Map<String, ConcurrentHistogram> latencies = new LinkedHashMap<>();
+        Map<String, AtomicLong> errors = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            latencies.put(operation.name(), new ConcurrentHistogram(MAX_LATENCY_NANOS, 3));
+            errors.put(operation.name(), new AtomicLong());
+        }
+
+        Random random = new Random(seed);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long due = start; due < end; due += (long) (-Math.log(1 - random.nextDouble()) / rate * 1e9)) {
+                Operation operation = pick(random);
+                HttpRequest request = operation.request().apply(random)
+                        .timeout(Duration.ofMinutes(1))
+                        .build();
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long dueAt = due;
+                executor.submit(() -> {
+                    try {
+                        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status >= 400) {
+                            errors.get(operation.name()).incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.get(operation.name()).incrementAndGet();
+                    }
+                    latencies.get(operation.name())
+                            .recordValue(Math.min(MAX_LATENCY_NANOS, System.nanoTime() - dueAt));
+                });
+            }
+        }
+
+        double seconds = duration.toNanos() / 1e9;
+        Histogram total = new Histogram(MAX_LATENCY_NANOS, 3);
+        long totalErrors = 0;
+        List<Result> results = new ArrayList<>();
+        for (Operation operation : operations) {
+            Histogram histogram = latencies.get(operation.name());
+            long failed = errors.get(operation.name()).get();
+            results.add(new Result(operation.name(), histogram, failed, seconds));
+            total.add(histogram);
+            totalErrors += failed;
+        }
+        results.add(new Result("total", total, totalErrors, seconds));
+        return results;
+    }
+
+    private Operation pick(Random random) {
+        double draw = random.nextDouble();
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+}
@@ -0,0 +1,41 @@
+package rockets.data_access_layer.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws ranks {@code 1..n} with probability proportional to
+ * {@code 1 / rank^exponent}, so a few low ranks come up most of the time
+ * and the rest form a long tail.
+ */
+final class Zipf {
+    private final double[] cumulative;
+
+    Zipf(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n should be at least 1");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(cumulative.length, (index < 0 ? -index - 1 : index) + 1);
+    }
+
+    /**
+     * An index into a list of {@code n} elements, the first ones the most
+     * popular.
+     */
+    int sampleIndex(Random random) {
+        return sample(random) - 1;
+    }
+}
@@ -0,0 +1,160 @@
+package rockets.data_access_layer.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import rockets.data_access_layer.dto.BusySlot;
+import rockets.data_access_layer.dto.IdLink;
+import rockets.data_access_layer.dto.MeetingView;
+import rockets.data_access_layer.dto.SeriesException;
+import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+public class MeetingRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private Participant alice;
+    private Participant bob;
+    private Calendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        alice = new Participant();
+        alice.setName("Alice");
+        entityManager.persist(alice);
+
+        bob = new Participant();
+        bob.setName("Bob");
+        entityManager.persist(bob);
+
+        Meeting monday = meeting("Monday", 1, alice, bob);
+        meeting("Wednesday", 3, bob);
+        meeting("Next Monday", 8, alice);
+
+        calendar = new Calendar();
+        calendar.setTitle("Team");
+        calendar.addMeetings(List.of(monday));
+        entityManager.persist(calendar);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testIdsAreTimeOrdered() {
+        List<Meeting> meetings = meetingRepository.findAll(Sort.by("id"));
+
+        assertEquals(List.of("Monday", "Wednesday", "Next Monday"), meetings.stream().map(Meeting::getTitle).toList());
+        assertEquals(7, calendar.getId().version());
+        assertTrue(bob.getId().compareTo(alice.getId()) > 0);
+    }
+
+    @Test
+    void testFindBusySlots() {
+        List<BusySlot> slots = meetingRepository.findBusySlots(List.of(alice.getId()));
+
+        assertEquals(2, slots.size());
+        assertEquals(Set.of(alice.getId()), slots.stream().map(BusySlot::participantId).collect(Collectors.toSet()));
+        assertEquals(Set.of(Meeting.DEFAULT_DURATION_MINUTES),
+                slots.stream().map(BusySlot::durationMinutes).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testFindMeetingsInRange() {
+        List<Meeting> result = meetingRepository.findAll(
+                MeetingSpecifications.startsBetween(daysFromNow(0), daysFromNow(7)), Sort.by("dateTime", "id"));
+
+        assertEquals(List.of("Monday", "Wednesday"), result.stream().map(Meeting::getTitle).toList());
+    }
+
+    @Test
+    void testFindMeetingsInRangeForParticipant() {
+        List<Meeting> result = meetingRepository.findAll(
+                MeetingSpecifications.startsBetween(daysFromNow(0), daysFromNow(14))
+                        .and(MeetingSpecifications.withParticipant(alice.getId())),
+                Sort.by("dateTime", "id"));
+
+        assertEquals(List.of("Monday", "Next Monday"), result.stream().map(Meeting::getTitle).toList());
+    }
+
+    @Test
+    void testFindMeetingsInRangeForCalendarAndParticipant() {
+        List<Meeting> result = meetingRepository.findAll(
+                MeetingSpecifications.startsBetween(daysFromNow(0), daysFromNow(14))
+                        .and(MeetingSpecifications.inCalendar(calendar.getId()))
+                        .and(MeetingSpecifications.withParticipant(bob.getId())),
+                Sort.by("dateTime", "id"));
+
+        assertEquals(List.of("Monday"), result.stream().map(Meeting::getTitle).toList());
+    }
+
+    @Test
+    void testFindSeriesOccurringInRange() {
+        Date cancelled = daysFromNow(10);
+        Meeting standup = meeting("Standup", 2, alice);
+        standup.setRecurrenceRule("FREQ=DAILY");
+        standup.getExceptionDates().add(cancelled);
+        Meeting offsite = meeting("Offsite", 2, bob);
+        offsite.setRecurrenceRule("FREQ=DAILY;COUNT=3");
+        offsite.setLastOccurrence(daysFromNow(4));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Meeting> result = meetingRepository.findAll(
+                MeetingSpecifications.occursBetween(daysFromNow(9), daysFromNow(14)), Sort.by("dateTime", "id"));
+
+        assertEquals(List.of("Standup"), result.stream().map(Meeting::getTitle).toList());
+        assertEquals(List.of(new SeriesException(standup.getId(), cancelled)),
+                meetingRepository.findSeriesExceptions(List.of(standup.getId(), offsite.getId())).stream()
+                        .map(exception -> new SeriesException(exception.seriesId(),
+                                new Date(exception.originalDateTime().getTime())))
+                        .toList());
+    }
+
+    @Test
+    void testFindViewsWithLinks() {
+        List<MeetingView> views = meetingRepository.findViews(Limit.of(10));
+        assertEquals(3, views.size());
+
+        MeetingView monday = views.stream().filter(view -> view.title().equals("Monday")).findFirst().orElseThrow();
+        List<IdLink> participantLinks = meetingRepository.findParticipantLinks(List.of(monday.id()));
+        List<IdLink> calendarLinks = meetingRepository.findCalendarLinks(List.of(monday.id()));
+
+        assertEquals(Set.of(alice.getId(), bob.getId()),
+                participantLinks.stream().map(IdLink::linkedId).collect(Collectors.toSet()));
+        assertEquals(List.of(calendar.getId()), calendarLinks.stream().map(IdLink::linkedId).toList());
+    }
+
+    private Meeting meeting(String title, int daysFromNow, Participant... participants) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle(title);
+        meeting.setDateTime(daysFromNow(daysFromNow));
+        meeting.addParticipants(List.of(participants));
+        return entityManager.persist(meeting);
+    }
+
+    private static Date daysFromNow(int days) {
+        return Date.from(LocalDateTime.now().plusDays(days).withHour(12).atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
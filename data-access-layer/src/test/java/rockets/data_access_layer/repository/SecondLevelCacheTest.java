@@ -0,0 +1,98 @@
+package rockets.data_access_layer.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import rockets.data_access_layer.dto.CacheRegionStatistics;
+import rockets.data_access_layer.entity.Attachment;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.service.CacheStatisticsService;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class SecondLevelCacheTest {
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testFindAllByIdIsServedFromCache() {
+        List<UUID> ids = transactionTemplate.execute(status -> {
+            Participant first = new Participant();
+            first.setName("First");
+            Participant second = new Participant();
+            second.setName("Second");
+            return participantRepository.saveAll(List.of(first, second)).stream().map(Participant::getId).toList();
+        });
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Participant> participants = transactionTemplate.execute(status ->
+                participantRepository.findAllById(List.of(ids.get(0), ids.get(1), UUID.randomUUID())));
+
+        assertEquals(2, participants.size());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getSecondLevelCacheMissCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testMeetingCollectionsAreCached() {
+        UUID meetingId = transactionTemplate.execute(status -> {
+            Participant participant = new Participant();
+            participant.setName("Participant");
+            Attachment attachment = new Attachment();
+            attachment.setUrl("https://example.com/agenda");
+            Meeting meeting = new Meeting();
+            meeting.setTitle("Cached");
+            meeting.getParticipants().add(participantRepository.save(participant));
+            meeting.getAttachments().add(attachmentRepository.save(attachment));
+            return meetingRepository.save(meeting).getId();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            Meeting meeting = meetingRepository.findById(meetingId).orElseThrow();
+            meeting.getAttachments().size();
+        });
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Meeting meeting = meetingRepository.findById(meetingId).orElseThrow();
+            assertEquals(1, meeting.getParticipants().size());
+            assertEquals(1, meeting.getAttachments().size());
+        });
+
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 2,
+                "second-level cache hits: " + statistics.getSecondLevelCacheHitCount());
+        assertTrue(cacheStatisticsService.getRegionStatistics().stream()
+                .map(CacheRegionStatistics::region)
+                .toList()
+                .containsAll(List.of("participant", "attachment", "meeting-participants", "meeting-attachments")));
+    }
+}
@@ -7,6 +7,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import rockets.data_access_layer.entity.Attachment;
 import rockets.data_access_layer.repository.AttachmentRepository;
+import rockets.data_access_layer.repository.CalendarRepository;
 
 import java.util.*;
 
@@ -18,6 +19,12 @@ public class AttachmentServiceTest {
     @Mock
     private AttachmentRepository attachmentRepository;
 
+    @Mock
+    private CalendarRepository calendarRepository;
+
+    @Mock
+    private CalendarViewCache calendarViewCache;
+
     @InjectMocks
     private AttachmentService attachmentService;
 
@@ -104,15 +111,11 @@ public class AttachmentServiceTest {
     @Test
     void testDeleteAttachment() {
         UUID randomId = UUID.randomUUID();
-        Attachment attachment = new Attachment();
-        attachment.setId(randomId);
-        attachment.setMeetings(new HashSet<>());
 
-        doNothing().when(attachmentRepository).deleteById(randomId);
-        when(attachmentRepository.findById(randomId)).thenReturn(Optional.of(attachment));
+        when(attachmentRepository.existsById(randomId)).thenReturn(true);
 
         attachmentService.deleteAttachment(randomId);
 
-        verify(attachmentRepository, times(1)).deleteById(randomId);
+        verify(attachmentRepository, times(1)).deleteAllByIdInBatch(List.of(randomId));
     }
 }
@@ -0,0 +1,120 @@
+package rockets.data_access_layer.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import rockets.data_access_layer.dto.ImportError;
+import rockets.data_access_layer.dto.ImportProgress;
+import rockets.data_access_layer.dto.VersionStamp;
+import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.CalendarRepository;
+import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.repository.ParticipantRepository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+public class CalendarImportServiceTest {
+    @Autowired
+    private CalendarImportService calendarImportService;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Test
+    void testImportUpsertsAttendeesAndReportsRejectedEvents() throws IOException {
+        Participant jane = new Participant();
+        jane.setName("Jane");
+        jane.setEmail("Jane@Example.com");
+        participantRepository.saveAndFlush(jane);
+
+        Meeting existing = new Meeting();
+        existing.setTitle("Existing");
+        existing.getParticipants().add(jane);
+        Calendar calendar = new Calendar();
+        calendar.setTitle("Imported");
+        calendar.addMeetings(List.of(meetingRepository.save(existing)));
+        UUID calendarId = calendarRepository.saveAndFlush(calendar).getId();
+
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "UID:one-off",
+                "SUMMARY:Kick-off\\, part 1",
+                "DTSTART:20990105T100000Z",
+                "DTEND:20990105T113000Z",
+                "ATTENDEE;CN=Jane:mailto:JANE@example.com",
+                "ATTENDEE;CN=Bob:mailto:bob@example.com",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:series",
+                "SUMMARY:Weekly",
+                "DTSTART;TZID=Europe/Amsterdam:20990105T090000",
+                "DURATION:PT30M",
+                "RRULE:FREQ=WEEKLY;WKST=MO;BYDAY=MO",
+                "EXDATE;TZID=Europe/Amsterdam:20990112T090000",
+                "ORGANIZER;CN=Robert:mailto:bob@example.com",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:past",
+                "SUMMARY:Long ago",
+                "DTSTART:20000105T100000Z",
+                "ATTENDEE:mailto:jane@example.com",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:alone",
+                "SUMMARY:Nobody",
+                "DTSTART:20990105T100000Z",
+                "END:VEVENT",
+                "END:VCALENDAR");
+        List<ImportProgress> progress = new ArrayList<>();
+
+        calendarImportService.importCalendar(calendarId, new StringReader(ics), progress::add);
+
+        ImportProgress done = progress.get(progress.size() - 1);
+        assertTrue(done.done());
+        assertEquals(4, done.processed());
+        assertEquals(2, done.imported());
+        assertEquals(2, done.failed());
+        List<ImportError> errors = progress.get(0).errors();
+        assertEquals(List.of("past", "alone"), errors.stream().map(ImportError::uid).toList());
+        assertEquals(19, errors.get(0).line());
+        assertTrue(errors.get(0).errors().containsKey("dateTime"));
+        assertTrue(errors.get(1).errors().containsKey("participants"));
+
+        assertEquals(1, participantRepository.findAllByEmailIgnoreCaseIn(List.of("jane@example.com")).size());
+        assertEquals(1, participantRepository.findAllByEmailIgnoreCaseIn(List.of("bob@example.com")).size());
+
+        List<UUID> meetingIds = calendarRepository.findMeetingVersions(List.of(calendarId)).stream()
+                .map(VersionStamp::id)
+                .filter(id -> !id.equals(existing.getId()))
+                .toList();
+        List<Meeting> imported = meetingRepository.findAllById(meetingIds);
+        assertEquals(2, imported.size());
+        Meeting oneOff = imported.stream().filter(m -> m.getRecurrenceRule() == null).findFirst().orElseThrow();
+        assertEquals("Kick-off, part 1", oneOff.getTitle());
+        assertEquals(90, oneOff.getDurationMinutes());
+        assertEquals(2, oneOff.getParticipants().size());
+        Meeting series = imported.stream().filter(m -> m.getRecurrenceRule() != null).findFirst().orElseThrow();
+        assertEquals("FREQ=WEEKLY;BYDAY=MO", series.getRecurrenceRule());
+        assertEquals("Europe/Amsterdam", series.getTimeZone());
+        assertEquals(30, series.getDurationMinutes());
+        assertEquals(1, series.getExceptionDates().size());
+    }
+}
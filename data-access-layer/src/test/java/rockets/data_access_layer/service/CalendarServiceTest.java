@@ -1,10 +1,12 @@
 package rockets.data_access_layer.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import rockets.data_access_layer.entity.Calendar;
 import rockets.data_access_layer.entity.Meeting;
 import rockets.data_access_layer.repository.CalendarRepository;
@@ -15,6 +17,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -23,6 +26,12 @@ public class CalendarServiceTest {
     @Mock
     private CalendarRepository calendarRepository;
 
+    @Spy
+    private CalendarViewCache calendarViewCache = new CalendarViewCache();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private CalendarService calendarService;
 
@@ -73,6 +82,44 @@ public class CalendarServiceTest {
         verify(calendarRepository, times(1)).findById(randomId);
     }
 
+    @Test
+    void testGetRenderedCalendarIsCachedUntilUpdated() throws Exception {
+        Calendar calendar = new Calendar();
+        UUID randomId = UUID.randomUUID();
+        calendar.setId(randomId);
+        calendar.setTitle("Shared Calendar");
+
+        Calendar updatedCalendar = new Calendar();
+        updatedCalendar.setTitle("Renamed Calendar");
+
+        when(calendarRepository.findById(randomId)).thenReturn(Optional.of(calendar));
+        when(calendarRepository.save(calendar)).thenReturn(calendar);
+
+        byte[] first = calendarService.getRenderedCalendar(randomId).orElseThrow();
+        byte[] second = calendarService.getRenderedCalendar(randomId).orElseThrow();
+
+        assertSame(first, second);
+        verify(calendarRepository, times(1)).findById(randomId);
+
+        calendarService.updateCalendar(randomId, updatedCalendar);
+        byte[] third = calendarService.getRenderedCalendar(randomId).orElseThrow();
+
+        assertEquals("Renamed Calendar", objectMapper.readTree(third).get("title").asText());
+        verify(calendarViewCache, times(1)).evict(randomId);
+        verify(calendarRepository, times(3)).findById(randomId);
+    }
+
+    @Test
+    void testGetRenderedCalendarNotFoundIsNotCached() {
+        UUID randomId = UUID.randomUUID();
+
+        when(calendarRepository.findById(randomId)).thenReturn(Optional.empty());
+
+        assertTrue(calendarService.getRenderedCalendar(randomId).isEmpty());
+        assertTrue(calendarService.getRenderedCalendar(randomId).isEmpty());
+        verify(calendarRepository, times(2)).findById(randomId);
+    }
+
     @Test
     void testCreateCalendar() {
         Calendar newCalendar = new Calendar();
@@ -125,5 +172,6 @@ public class CalendarServiceTest {
         calendarService.deleteCalendar(randomId);
 
         verify(calendarRepository, times(1)).deleteById(randomId);
+        verify(calendarViewCache, times(1)).evict(randomId);
     }
 }
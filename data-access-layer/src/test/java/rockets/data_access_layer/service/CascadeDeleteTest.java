@@ -0,0 +1,250 @@
+package rockets.data_access_layer.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import rockets.data_access_layer.entity.Attachment;
+import rockets.data_access_layer.entity.Calendar;
+import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.AttachmentRepository;
+import rockets.data_access_layer.repository.CalendarRepository;
+import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.repository.ParticipantRepository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CascadeDeleteTest {
+    private static final int MANY = 200;
+
+    private static final int MAX_STATEMENTS = 17;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testDeleteParticipantDeletesMeetingsAndCalendarsLeftEmpty() {
+        Participant leaving = participant("leaving");
+        Participant staying = participant("staying");
+        Attachment attachment = attachment();
+        Meeting alone = meeting("alone", Set.of(leaving), Set.of(attachment));
+        Meeting shared = meeting("shared", Set.of(leaving, staying), Set.of(attachment));
+        Meeting aloneInSharedCalendar = meeting("alone in shared calendar", Set.of(leaving), Set.of());
+        Meeting series = meeting("series", Set.of(leaving), Set.of());
+        Meeting override = override(series, Set.of(leaving, staying));
+        Calendar emptied = calendar("emptied", alone, series);
+        Calendar kept = calendar("kept", shared, aloneInSharedCalendar, override);
+        // puts the participant collection in the second-level cache
+        assertEquals(Set.of(leaving.getId(), staying.getId()), participantIdsOf(shared));
+
+        participantService.deleteParticipant(leaving.getId());
+
+        assertFalse(participantRepository.existsById(leaving.getId()));
+        assertTrue(participantRepository.existsById(staying.getId()));
+        assertTrue(attachmentRepository.existsById(attachment.getId()));
+        assertEquals(Set.of(shared.getId()), existingMeetings(alone, shared, aloneInSharedCalendar, series, override));
+        assertEquals(Set.of(staying.getId()), participantIdsOf(shared));
+        assertEquals(Set.of(attachment.getId()), attachmentIdsOf(shared));
+        assertFalse(calendarRepository.existsById(emptied.getId()));
+        assertEquals(Set.of(shared.getId()), meetingIdsOf(kept));
+    }
+
+    @Test
+    void testDeleteMeetingDeletesOverridesAndCalendarsLeftEmpty() {
+        Participant participant = participant("owner");
+        Meeting series = meeting("series", Set.of(participant), Set.of(attachment()));
+        Meeting override = override(series, Set.of(participant));
+        Meeting other = meeting("other", Set.of(participant), Set.of());
+        Calendar emptied = calendar("emptied", series, override);
+        Calendar kept = calendar("kept", override, other);
+
+        meetingService.deleteMeeting(series.getId());
+
+        assertEquals(Set.of(other.getId()), existingMeetings(series, override, other));
+        assertFalse(calendarRepository.existsById(emptied.getId()));
+        assertEquals(Set.of(other.getId()), meetingIdsOf(kept));
+        assertTrue(participantRepository.existsById(participant.getId()));
+    }
+
+    @Test
+    void testDeleteAttachmentKeepsItsMeetings() {
+        Participant participant = participant("owner");
+        Attachment deleted = attachment();
+        Attachment kept = attachment();
+        Meeting meeting = meeting("meeting", Set.of(participant), Set.of(deleted, kept));
+
+        attachmentService.deleteAttachment(deleted.getId());
+
+        assertFalse(attachmentRepository.existsById(deleted.getId()));
+        assertEquals(Set.of(kept.getId()), attachmentIdsOf(meeting));
+    }
+
+    @Test
+    void testDeletingMissingEntitiesThrows() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(EntityNotFoundException.class, () -> participantService.deleteParticipant(id));
+        assertThrows(EntityNotFoundException.class, () -> meetingService.deleteMeeting(id));
+        assertThrows(EntityNotFoundException.class, () -> attachmentService.deleteAttachment(id));
+    }
+
+    @Test
+    void testDeleteParticipantStatementCountIsIndependentOfMeetingCount() {
+        long few = participantDeleteStatements(2);
+        long many = participantDeleteStatements(MANY);
+
+        assertEquals(few, many);
+        assertTrue(many <= MAX_STATEMENTS, "statements executed: " + many);
+    }
+
+    @Test
+    void testDeleteAttachmentStatementCountIsIndependentOfMeetingCount() {
+        Participant participant = participant("owner");
+        Attachment attachment = attachment();
+        for (int i = 0; i < MANY; i++) {
+            meeting("meeting " + i, Set.of(participant), Set.of(attachment));
+        }
+
+        Statistics statistics = statistics();
+        attachmentService.deleteAttachment(attachment.getId());
+
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS,
+                "statements executed: " + statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Statements run to delete a participant who is alone in {@code count}
+     * meetings, each in a calendar of its own, and shares as many more.
+     */
+    private long participantDeleteStatements(int count) {
+        Participant leaving = participant("leaving");
+        Participant staying = participant("staying");
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Meeting alone = meeting("alone " + i, Set.of(leaving), Set.of());
+            calendar("calendar " + i, alone);
+            meetings.add(alone);
+            meetings.add(meeting("shared " + i, Set.of(leaving, staying), Set.of()));
+        }
+
+        Statistics statistics = statistics();
+        participantService.deleteParticipant(leaving.getId());
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(count, existingMeetings(meetings.toArray(Meeting[]::new)).size());
+        return statements;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private Participant participant(String name) {
+        Participant participant = new Participant();
+        participant.setName(name);
+        participant.setEmail(name + "." + UUID.randomUUID() + "@example.com");
+        return participantRepository.save(participant);
+    }
+
+    private Attachment attachment() {
+        Attachment attachment = new Attachment();
+        attachment.setUrl("https://files.example.com/" + UUID.randomUUID());
+        return attachmentRepository.save(attachment);
+    }
+
+    private Meeting meeting(String title, Set<Participant> participants, Set<Attachment> attachments) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle(title);
+        meeting.addParticipants(List.copyOf(participants));
+        meeting.addAttachments(List.copyOf(attachments));
+        return meetingRepository.save(meeting);
+    }
+
+    private Meeting override(Meeting series, Set<Participant> participants) {
+        Date start = new Date(System.currentTimeMillis() + 86_400_000L);
+        Meeting override = new Meeting();
+        override.setTitle(series.getTitle());
+        override.setDateTime(start);
+        override.setSeriesId(series.getId());
+        override.setOriginalDateTime(start);
+        override.addParticipants(List.copyOf(participants));
+        return meetingRepository.save(override);
+    }
+
+    private Calendar calendar(String title, Meeting... meetings) {
+        return transactionTemplate.execute(status -> {
+            Calendar calendar = new Calendar();
+            calendar.setTitle(title);
+            for (Meeting meeting : meetings) {
+                calendar.getMeetings().add(meetingRepository.getReferenceById(meeting.getId()));
+            }
+            return calendarRepository.save(calendar);
+        });
+    }
+
+    private Set<UUID> existingMeetings(Meeting... meetings) {
+        Set<UUID> ids = new HashSet<>();
+        for (Meeting meeting : meetings) {
+            ids.add(meeting.getId());
+        }
+        return meetingRepository.findAllById(ids).stream().map(Meeting::getId).collect(Collectors.toSet());
+    }
+
+    private Set<UUID> participantIdsOf(Meeting meeting) {
+        return transactionTemplate.execute(status -> meetingRepository.findById(meeting.getId()).orElseThrow()
+                .getParticipants().stream().map(Participant::getId).collect(Collectors.toSet()));
+    }
+
+    private Set<UUID> attachmentIdsOf(Meeting meeting) {
+        return transactionTemplate.execute(status -> meetingRepository.findById(meeting.getId()).orElseThrow()
+                .getAttachments().stream().map(Attachment::getId).collect(Collectors.toSet()));
+    }
+
+    private Set<UUID> meetingIdsOf(Calendar calendar) {
+        return transactionTemplate.execute(status -> calendarRepository.findById(calendar.getId()).orElseThrow()
+                .getMeetings().stream().map(Meeting::getId).collect(Collectors.toSet()));
+    }
+}
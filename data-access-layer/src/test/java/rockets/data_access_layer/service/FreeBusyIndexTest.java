@@ -0,0 +1,125 @@
+package rockets.data_access_layer.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import rockets.data_access_layer.dto.BusyInterval;
+import rockets.data_access_layer.dto.BusySlot;
+import rockets.data_access_layer.dto.MeetingConflict;
+import rockets.data_access_layer.dto.SeriesException;
+import rockets.data_access_layer.repository.MeetingRepository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class FreeBusyIndexTest {
+    private static final UUID ALICE = UUID.randomUUID();
+
+    private static final UUID BOB = UUID.randomUUID();
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @InjectMocks
+    private FreeBusyIndex freeBusyIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testBusyIntervalsAreMergedAcrossParticipants() {
+        when(meetingRepository.findBusySlots(anyCollection())).thenReturn(List.of(
+                slot(ALICE, 9 * 60, 60),
+                slot(ALICE, 13 * 60, 30),
+                slot(BOB, 9 * 60 + 30, 60),
+                slot(BOB, 11 * 60, 30)));
+
+        List<BusyInterval> busy = freeBusyIndex.getBusyIntervals(List.of(ALICE, BOB), at(0), at(24 * 60));
+
+        assertEquals(List.of(
+                interval(9 * 60, 10 * 60 + 30),
+                interval(11 * 60, 11 * 60 + 30),
+                interval(13 * 60, 13 * 60 + 30)), busy);
+    }
+
+    @Test
+    void testLongMeetingStartingBeforeWindowIsClipped() {
+        when(meetingRepository.findBusySlots(anyCollection())).thenReturn(List.of(
+                slot(ALICE, 8 * 60, 240),
+                slot(ALICE, 10 * 60 + 30, 15),
+                slot(ALICE, 12 * 60, 60)));
+
+        List<BusyInterval> busy = freeBusyIndex.getBusyIntervals(List.of(ALICE), at(11 * 60), at(12 * 60 + 30));
+
+        assertEquals(List.of(interval(11 * 60, 12 * 60 + 30)), busy);
+    }
+
+    @Test
+    void testSchedulesAreLoadedOnceUntilEvicted() {
+        when(meetingRepository.findBusySlots(anyCollection())).thenReturn(List.of(slot(ALICE, 9 * 60, 60)));
+
+        freeBusyIndex.getBusyIntervals(List.of(ALICE), at(0), at(24 * 60));
+        freeBusyIndex.getBusyIntervals(List.of(ALICE), at(0), at(24 * 60));
+        verify(meetingRepository, times(1)).findBusySlots(anyCollection());
+
+        when(meetingRepository.findBusySlots(anyCollection())).thenReturn(List.of());
+        freeBusyIndex.evict(ALICE);
+
+        assertEquals(List.of(), freeBusyIndex.getBusyIntervals(List.of(ALICE), at(0), at(24 * 60)));
+        verify(meetingRepository, times(2)).findBusySlots(anyCollection());
+    }
+
+    @Test
+    void testConflictsSkipTheMeetingBeingMoved() {
+        UUID standup = UUID.randomUUID();
+        UUID review = UUID.randomUUID();
+        when(meetingRepository.findBusySlots(anyCollection())).thenReturn(List.of(
+                new BusySlot(ALICE, standup, at(9 * 60), 30, null, null),
+                new BusySlot(BOB, review, at(9 * 60 + 15), 60, null, null),
+                slot(BOB, 11 * 60, 30)));
+
+        List<MeetingConflict> conflicts = freeBusyIndex.findConflicts(List.of(ALICE, BOB),
+                at(9 * 60), at(10 * 60), standup);
+
+        assertEquals(List.of(new MeetingConflict(BOB, review, at(9 * 60 + 15), at(10 * 60 + 15))), conflicts);
+    }
+
+    @Test
+    void testSeriesAreExpandedOverTheWindowWithoutExceptions() {
+        UUID standup = UUID.randomUUID();
+        when(meetingRepository.findBusySlots(anyCollection())).thenReturn(List.of(
+                new BusySlot(ALICE, standup, at(9 * 60), 15, "FREQ=DAILY", null)));
+        when(meetingRepository.findSeriesExceptions(Set.of(standup)))
+                .thenReturn(List.of(new SeriesException(standup, at(3 * 24 * 60 + 9 * 60))));
+
+        List<BusyInterval> busy = freeBusyIndex.getBusyIntervals(List.of(ALICE),
+                at(2 * 24 * 60 + 9 * 60 + 10), at(5 * 24 * 60));
+
+        assertEquals(List.of(
+                interval(2 * 24 * 60 + 9 * 60 + 10, 2 * 24 * 60 + 9 * 60 + 15),
+                interval(4 * 24 * 60 + 9 * 60, 4 * 24 * 60 + 9 * 60 + 15)), busy);
+    }
+
+    private static BusySlot slot(UUID participantId, int startMinute, int durationMinutes) {
+        return new BusySlot(participantId, UUID.randomUUID(), at(startMinute), durationMinutes, null, null);
+    }
+
+    private static BusyInterval interval(int startMinute, int endMinute) {
+        return new BusyInterval(at(startMinute), at(endMinute));
+    }
+
+    private static Date at(int minute) {
+        return new Date(TimeUnit.MINUTES.toMillis(minute));
+    }
+}
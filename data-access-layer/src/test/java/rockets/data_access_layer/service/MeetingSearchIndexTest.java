@@ -0,0 +1,120 @@
+package rockets.data_access_layer.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import rockets.data_access_layer.dto.MeetingSearchHit;
+import rockets.data_access_layer.dto.MeetingView;
+import rockets.data_access_layer.repository.MeetingRepository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class MeetingSearchIndexTest {
+    private static final UUID PLANNING = UUID.randomUUID();
+
+    private static final UUID REVIEW = UUID.randomUUID();
+
+    private static final UUID OFFSITE = UUID.randomUUID();
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @InjectMocks
+    private MeetingSearchIndex meetingSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(meetingRepository.streamViews()).thenReturn(Stream.of(
+                view(PLANNING, "Sprint planning", "Room 1", "Plan the budget for the next sprint"),
+                view(REVIEW, "Budget review", "Café Zürich", "Quarterly numbers"),
+                view(OFFSITE, "Offsite", null, "Travel budget, hotel and agenda")));
+        meetingSearchIndex.rebuild();
+    }
+
+    @Test
+    void testTitleMatchesRankFirst() {
+        List<MeetingSearchHit> hits = meetingSearchIndex.search("budget", 10);
+
+        assertEquals(3, hits.size());
+        assertEquals(REVIEW, hits.get(0).id());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertTrue(hits.get(1).score() >= hits.get(2).score());
+    }
+
+    @Test
+    void testEveryTermMustMatch() {
+        assertEquals(List.of(OFFSITE), ids(meetingSearchIndex.search("BUDGET hotel", 10)));
+        assertEquals(List.of(), ids(meetingSearchIndex.search("budget unicorn", 10)));
+    }
+
+    @Test
+    void testAccentsAndPunctuationAreIgnored() {
+        assertEquals(List.of(REVIEW), ids(meetingSearchIndex.search("cafe zurich!", 10)));
+    }
+
+    @Test
+    void testLimitKeepsTheBestHits() {
+        assertEquals(List.of(REVIEW), ids(meetingSearchIndex.search("budget", 1)));
+    }
+
+    @Test
+    void testReindexReplacesAndDropsMeetings() {
+        when(meetingRepository.findViewsByIds(List.of(REVIEW, OFFSITE)))
+                .thenReturn(List.of(view(REVIEW, "Retrospective", null, null)));
+
+        meetingSearchIndex.reindex(List.of(REVIEW, OFFSITE));
+
+        assertEquals(List.of(PLANNING), ids(meetingSearchIndex.search("budget", 10)));
+        assertEquals(List.of(REVIEW), ids(meetingSearchIndex.search("retrospective", 10)));
+        assertEquals(List.of(), ids(meetingSearchIndex.search("hotel", 10)));
+    }
+
+    @Test
+    void testConcurrentReindexAppliesTheLaterRead() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(meetingRepository.findViewsByIds(List.of(REVIEW)))
+                .thenAnswer(invocation -> {
+                    reading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of(view(REVIEW, "Earlier title", null, null));
+                })
+                .thenReturn(List.of(view(REVIEW, "Later title", null, null)));
+
+        Thread earlier = new Thread(() -> meetingSearchIndex.reindex(REVIEW));
+        earlier.start();
+        reading.await(5, TimeUnit.SECONDS);
+        Thread later = new Thread(() -> meetingSearchIndex.reindex(REVIEW));
+        later.start();
+        // the later reload either waits for the earlier one or has already been applied
+        while (later.getState() != Thread.State.WAITING && later.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        earlier.join();
+        later.join();
+
+        assertEquals(List.of(REVIEW), ids(meetingSearchIndex.search("later", 10)));
+        assertEquals(List.of(), ids(meetingSearchIndex.search("earlier", 10)));
+    }
+
+    private static List<UUID> ids(List<MeetingSearchHit> hits) {
+        return hits.stream().map(MeetingSearchHit::id).toList();
+    }
+
+    private static MeetingView view(UUID id, String title, String location, String details) {
+        return new MeetingView(id, title, new Date(), location, details);
+    }
+}
@@ -0,0 +1,63 @@
+package rockets.data_access_layer.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import rockets.data_access_layer.dto.MeetingBatchResult;
+import rockets.data_access_layer.dto.MeetingDTO;
+import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.ParticipantRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class MeetingServiceBatchTest {
+    private static final int MEETINGS = 4 * MeetingService.BATCH_SIZE;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testCreateMeetingsUsesJdbcBatches() {
+        Participant first = new Participant();
+        first.setName("First");
+        Participant second = new Participant();
+        second.setName("Second");
+        participantRepository.saveAllAndFlush(List.of(first, second));
+
+        List<MeetingDTO> meetingDTOs = new ArrayList<>();
+        for (int i = 0; i < MEETINGS; i++) {
+            MeetingDTO meetingDTO = new MeetingDTO();
+            meetingDTO.setTitle("Meeting " + i);
+            meetingDTO.setParticipantIds(Set.of(first.getId(), second.getId()));
+            meetingDTOs.add(meetingDTO);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<MeetingBatchResult> results = meetingService.createMeetings(meetingDTOs);
+
+        assertEquals(MEETINGS, results.size());
+        assertTrue(results.stream().allMatch(result -> result.id() != null && result.errors().isEmpty()));
+        assertEquals(MEETINGS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 1 + 2 * (MEETINGS / MeetingService.BATCH_SIZE),
+                "statements prepared: " + statistics.getPrepareStatementCount());
+    }
+}
@@ -1,17 +1,36 @@
 package rockets.data_access_layer.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import rockets.data_access_layer.dto.CursorPage;
+import rockets.data_access_layer.dto.MeetingBatchResult;
+import rockets.data_access_layer.dto.MeetingConflict;
+import rockets.data_access_layer.dto.MeetingDTO;
+import rockets.data_access_layer.dto.MeetingOccurrence;
+import rockets.data_access_layer.dto.OccurrenceChanges;
 import rockets.data_access_layer.entity.Meeting;
+import rockets.data_access_layer.entity.Participant;
 import rockets.data_access_layer.repository.MeetingRepository;
+import rockets.data_access_layer.repository.ParticipantRepository;
+import rockets.data_access_layer.util.InvalidCursorException;
+import rockets.data_access_layer.util.InvalidRecurrenceException;
+import rockets.data_access_layer.util.Pagination;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 public class MeetingServiceTest {
@@ -19,6 +38,24 @@ public class MeetingServiceTest {
     @Mock
     private MeetingRepository meetingRepository;
 
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CalendarViewCache calendarViewCache;
+
+    @Mock
+    private FreeBusyIndex freeBusyIndex;
+
+    @Mock
+    private MeetingSearchIndex meetingSearchIndex;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private MeetingService meetingService;
 
@@ -56,6 +93,139 @@ public class MeetingServiceTest {
         verify(meetingRepository, times(1)).findAll();
     }
 
+    @Test
+    void testGetMeetingsPage() {
+        Meeting meeting1 = new Meeting();
+        meeting1.setId(UUID.randomUUID());
+        meeting1.setTitle("Meeting 1");
+
+        Meeting meeting2 = new Meeting();
+        meeting2.setId(UUID.randomUUID());
+        meeting2.setTitle("Meeting 2");
+
+        when(meetingRepository.findAllByOrderByIdAsc(Limit.of(2))).thenReturn(Arrays.asList(meeting1, meeting2));
+
+        CursorPage<Meeting> page = meetingService.getMeetingsPage(null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals("Meeting 1", page.getItems().get(0).getTitle());
+        assertEquals(meeting1.getId(), Pagination.decodeCursor(page.getNextCursor()).orElseThrow());
+        verify(meetingRepository, times(1)).findAllByOrderByIdAsc(Limit.of(2));
+    }
+
+    @Test
+    void testGetMeetingsPageAfterCursor() {
+        UUID lastSeenId = UUID.randomUUID();
+        Meeting meeting = new Meeting();
+        meeting.setId(UUID.randomUUID());
+        meeting.setTitle("Meeting 2");
+
+        when(meetingRepository.findAllByIdGreaterThanOrderByIdAsc(lastSeenId, Limit.of(51))).thenReturn(List.of(meeting));
+
+        CursorPage<Meeting> page = meetingService.getMeetingsPage(Pagination.encodeCursor(lastSeenId), 50);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.hasNext());
+        verify(meetingRepository, times(1)).findAllByIdGreaterThanOrderByIdAsc(lastSeenId, Limit.of(51));
+    }
+
+    @Test
+    void testGetMeetingsPageInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> meetingService.getMeetingsPage("not a cursor", 50));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetMeetingsInRange() {
+        Meeting meeting = new Meeting();
+        meeting.setId(UUID.randomUUID());
+        meeting.setTitle("Weekly Sync");
+
+        Date from = new Date(0);
+        Date to = new Date();
+        when(meetingRepository.findAll(any(Specification.class), eq(Sort.by("dateTime", "id")))).thenReturn(List.of(meeting));
+
+        List<Meeting> result = meetingService.getMeetingsInRange(from, to, UUID.randomUUID(), null);
+
+        assertEquals(1, result.size());
+        assertEquals("Weekly Sync", result.get(0).getTitle());
+        verify(meetingRepository, times(1)).findAll(any(Specification.class), eq(Sort.by("dateTime", "id")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetOccurrencesExpandsSeriesWithinWindow() {
+        Meeting standup = new Meeting();
+        standup.setId(UUID.randomUUID());
+        standup.setTitle("Standup");
+        standup.setDateTime(hoursFromEpoch(9));
+        standup.setDurationMinutes(15);
+        standup.setRecurrenceRule("FREQ=DAILY");
+        standup.getExceptionDates().add(hoursFromEpoch(2 * 24 + 9));
+        Meeting moved = new Meeting();
+        moved.setId(UUID.randomUUID());
+        moved.setTitle("Standup");
+        moved.setDateTime(hoursFromEpoch(24 + 10));
+        moved.setSeriesId(standup.getId());
+
+        when(meetingRepository.findAll(any(Specification.class))).thenReturn(List.of(standup, moved));
+
+        List<MeetingOccurrence> occurrences = meetingService.getOccurrences(hoursFromEpoch(24), hoursFromEpoch(4 * 24),
+                null, null);
+
+        assertEquals(List.of(hoursFromEpoch(24 + 9), hoursFromEpoch(24 + 10), hoursFromEpoch(3 * 24 + 9)),
+                occurrences.stream().map(MeetingOccurrence::start).toList());
+        assertEquals(List.of(standup.getId(), moved.getId(), standup.getId()),
+                occurrences.stream().map(MeetingOccurrence::meetingId).toList());
+        assertTrue(occurrences.stream().allMatch(occurrence -> standup.getId().equals(occurrence.seriesId())));
+        assertEquals(new Date(hoursFromEpoch(24 + 9).getTime() + TimeUnit.MINUTES.toMillis(15)),
+                occurrences.get(0).end());
+    }
+
+    @Test
+    void testOverrideOccurrenceCopiesSeriesAndExcludesOriginal() {
+        Participant participant = new Participant();
+        participant.setId(UUID.randomUUID());
+        Meeting series = new Meeting();
+        series.setId(UUID.randomUUID());
+        series.setTitle("Standup");
+        series.setDateTime(hoursFromEpoch(9));
+        series.setRecurrenceRule("FREQ=DAILY");
+        series.addParticipants(List.of(participant));
+        Date start = hoursFromEpoch(24 + 9);
+
+        when(meetingRepository.findById(series.getId())).thenReturn(Optional.of(series));
+        when(meetingRepository.findBySeriesIdAndOriginalDateTime(series.getId(), start)).thenReturn(Optional.empty());
+        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        OccurrenceChanges changes = new OccurrenceChanges();
+        changes.setTitle("Standup (moved)");
+        changes.setDateTime(hoursFromEpoch(24 + 11));
+
+        Meeting override = meetingService.overrideOccurrence(series.getId(), start, changes).orElseThrow();
+
+        assertEquals("Standup (moved)", override.getTitle());
+        assertEquals(hoursFromEpoch(24 + 11), override.getDateTime());
+        assertEquals(series.getId(), override.getSeriesId());
+        assertEquals(start, override.getOriginalDateTime());
+        assertEquals(Set.of(participant), override.getParticipants());
+        assertEquals(Set.of(start), series.getExceptionDates());
+        assertEquals(Optional.empty(), meetingService.overrideOccurrence(series.getId(), hoursFromEpoch(24 + 10), changes));
+    }
+
+    @Test
+    void testCreateMeetingRejectsInvalidRecurrence() {
+        Meeting meeting = new Meeting();
+        meeting.setDateTime(new Date());
+        meeting.setRecurrenceRule("FREQ=HOURLY");
+
+        InvalidRecurrenceException exception = assertThrows(InvalidRecurrenceException.class,
+                () -> meetingService.createMeeting(meeting));
+
+        assertEquals("recurrenceRule", exception.getField());
+        verify(meetingRepository, never()).save(any(Meeting.class));
+    }
+
     @Test
     void testGetMeetingById() {
         Meeting meeting = new Meeting();
@@ -93,6 +263,66 @@ public class MeetingServiceTest {
         verify(meetingRepository, times(1)).save(newMeeting);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateMeetings() {
+        Participant participant = new Participant();
+        participant.setId(UUID.randomUUID());
+        participant.setName("Participant");
+
+        MeetingDTO valid = new MeetingDTO();
+        valid.setTitle("Valid Meeting");
+        valid.setLocation("Room 1");
+        valid.setParticipantIds(Set.of(participant.getId()));
+
+        MeetingDTO missingTitle = new MeetingDTO();
+        missingTitle.setParticipantIds(Set.of(participant.getId()));
+
+        MeetingDTO unknownParticipant = new MeetingDTO();
+        unknownParticipant.setTitle("Unknown Participant");
+        unknownParticipant.setParticipantIds(Set.of(UUID.randomUUID()));
+
+        when(participantRepository.findAllById(anyList())).thenReturn(List.of(participant));
+        when(meetingRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Meeting> meetings = invocation.getArgument(0);
+            meetings.forEach(meeting -> meeting.setId(UUID.randomUUID()));
+            return meetings;
+        });
+
+        List<MeetingBatchResult> results = meetingService.createMeetings(List.of(valid, missingTitle, unknownParticipant));
+
+        assertEquals(3, results.size());
+        assertNotNull(results.get(0).id());
+        assertTrue(results.get(0).errors().isEmpty());
+        assertEquals("title can not be null", results.get(1).errors().get("title"));
+        assertEquals("participant not found", results.get(2).errors().get("participantIds"));
+
+        ArgumentCaptor<List<Meeting>> saved = ArgumentCaptor.forClass(List.class);
+        verify(participantRepository, times(1)).findAllById(anyList());
+        verify(meetingRepository, times(1)).saveAll(saved.capture());
+        verify(entityManager, times(1)).clear();
+        assertEquals("Room 1", saved.getValue().get(0).getLocation());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateMeetingsResolvesParticipantsInChunks() {
+        Set<UUID> participantIds = new HashSet<>();
+        for (int i = 0; i < 2 * MeetingService.BATCH_SIZE + 1; i++) {
+            participantIds.add(UUID.randomUUID());
+        }
+        MeetingDTO meetingDTO = new MeetingDTO();
+        meetingDTO.setTitle("All Hands");
+        meetingDTO.setParticipantIds(participantIds);
+
+        when(participantRepository.findAllById(anyList())).thenReturn(List.of());
+
+        meetingService.createMeetings(List.of(meetingDTO));
+
+        verify(participantRepository, times(3)).findAllById(argThat(ids ->
+                ((List<UUID>) ids).size() <= MeetingService.BATCH_SIZE));
+    }
+
     @Test
     void testUpdateMeeting() {
         // Arrange
@@ -127,17 +357,76 @@ public class MeetingServiceTest {
     }
 
     @Test
-    void testDeleteMeeting() {
+    void testUpdateMeetingRejectsConflicts() {
         UUID randomId = UUID.randomUUID();
+        Participant participant = new Participant();
+        participant.setId(UUID.randomUUID());
+        Meeting existingMeeting = new Meeting();
+        existingMeeting.setId(randomId);
+        existingMeeting.addParticipants(List.of(participant));
+
+        Meeting updatedMeeting = new Meeting();
+        updatedMeeting.setTitle("Moved");
+        Date start = new Date(TimeUnit.HOURS.toMillis(9));
+        updatedMeeting.setDateTime(start);
+        updatedMeeting.setDurationMinutes(30);
+        Date end = new Date(start.getTime() + TimeUnit.MINUTES.toMillis(30));
+        MeetingConflict conflict = new MeetingConflict(participant.getId(), UUID.randomUUID(), start, end);
+
+        when(meetingRepository.findById(randomId)).thenReturn(Optional.of(existingMeeting));
+        when(freeBusyIndex.findConflicts(List.of(participant.getId()), start, end, randomId))
+                .thenReturn(List.of(conflict));
+
+        MeetingConflictException exception = assertThrows(MeetingConflictException.class,
+                () -> meetingService.updateMeeting(randomId, updatedMeeting, ConflictPolicy.REJECT));
+
+        assertEquals(List.of(conflict), exception.getConflicts());
+        assertNull(existingMeeting.getTitle());
+        verify(meetingRepository, never()).save(any(Meeting.class));
+    }
+
+    @Test
+    void testCreateMeetingIgnoresConflictsByDefault() {
+        Participant participant = new Participant();
+        participant.setId(UUID.randomUUID());
+        Meeting newMeeting = new Meeting();
+        newMeeting.setDateTime(new Date());
+        newMeeting.addParticipants(List.of(participant));
+
+        when(meetingRepository.save(newMeeting)).thenReturn(newMeeting);
+
+        meetingService.createMeeting(newMeeting);
+
+        verify(freeBusyIndex, never()).findConflicts(anyCollection(), any(), any(), any());
+        verify(freeBusyIndex, times(1)).evict(List.of(participant.getId()));
+    }
+
+    @Test
+    void testCreateMeetingRecordsLastOccurrence() {
         Meeting meeting = new Meeting();
-        meeting.setId(randomId);
-        meeting.setCalendars(new HashSet<>());
+        meeting.setDateTime(hoursFromEpoch(9));
+        meeting.setRecurrenceRule("freq=weekly;count=3");
+        when(meetingRepository.save(meeting)).thenReturn(meeting);
 
-        when(meetingRepository.findById(randomId)).thenReturn(Optional.of(meeting));
-        doNothing().when(meetingRepository).deleteById(randomId);
+        meetingService.createMeeting(meeting);
+
+        assertEquals("FREQ=WEEKLY;COUNT=3", meeting.getRecurrenceRule());
+        assertEquals(hoursFromEpoch(2 * 7 * 24 + 9), meeting.getLastOccurrence());
+    }
+
+    @Test
+    void testDeleteMeeting() {
+        UUID randomId = UUID.randomUUID();
+
+        when(meetingRepository.existsById(randomId)).thenReturn(true);
+        when(meetingRepository.findIdsWithOverrides(List.of(randomId))).thenReturn(List.of(randomId));
 
         meetingService.deleteMeeting(randomId);
-        verify(meetingRepository, times(1)).deleteById(randomId);
+        verify(meetingRepository, times(1)).deleteAllByIdInBatch(List.of(randomId));
+        verify(meetingSearchIndex, times(1)).reindex(List.of(randomId));
     }
-}
 
+    private static Date hoursFromEpoch(int hours) {
+        return new Date(TimeUnit.HOURS.toMillis(hours));
+    }
+}
@@ -6,6 +6,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import rockets.data_access_layer.entity.Participant;
+import rockets.data_access_layer.repository.CalendarRepository;
+import rockets.data_access_layer.repository.MeetingRepository;
 import rockets.data_access_layer.repository.ParticipantRepository;
 
 import java.util.Arrays;
@@ -22,6 +24,24 @@ public class ParticipantServiceTest {
     @Mock
     private ParticipantRepository participantRepository;
 
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private CalendarRepository calendarRepository;
+
+    @Mock
+    private MeetingService meetingService;
+
+    @Mock
+    private CalendarViewCache calendarViewCache;
+
+    @Mock
+    private FreeBusyIndex freeBusyIndex;
+
+    @Mock
+    private ParticipantSuggestIndex participantSuggestIndex;
+
     @InjectMocks
     private ParticipantService participantService;
 
@@ -109,6 +129,8 @@ public class ParticipantServiceTest {
 
         when(participantRepository.findById(randomId)).thenReturn(Optional.of(existingParticipant));
         when(participantRepository.save(any(Participant.class))).thenReturn(existingParticipant);
+        List<UUID> calendarIds = List.of(UUID.randomUUID());
+        when(calendarRepository.findIdsByParticipantId(randomId)).thenReturn(calendarIds);
 
         Optional<Participant> result = participantService.updateParticipant(randomId, updatedParticipant);
 
@@ -117,19 +139,20 @@ public class ParticipantServiceTest {
         assertEquals("updated@example.com", result.get().getEmail());
         verify(participantRepository, times(1)).findById(randomId);
         verify(participantRepository, times(1)).save(existingParticipant);
+        verify(calendarViewCache, times(1)).evict(calendarIds);
     }
 
     @Test
     void testDeleteParticipant() {
         UUID randomId = UUID.randomUUID();
-        Participant participant = new Participant();
-
-        when(participantRepository.findById(randomId)).thenReturn(Optional.of(participant));
+        List<UUID> meetingIds = List.of(UUID.randomUUID());
 
-        doNothing().when(participantRepository).deleteById(randomId);
+        when(participantRepository.existsById(randomId)).thenReturn(true);
+        when(meetingRepository.findIdsAttendedOnlyBy(randomId)).thenReturn(meetingIds);
 
         participantService.deleteParticipant(randomId);
 
-        verify(participantRepository, times(1)).deleteById(randomId);
+        verify(meetingService, times(1)).deleteMeetings(meetingIds);
+        verify(participantRepository, times(1)).deleteAllByIdInBatch(List.of(randomId));
     }
 }
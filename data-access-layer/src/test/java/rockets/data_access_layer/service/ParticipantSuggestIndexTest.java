@@ -0,0 +1,76 @@
+package rockets.data_access_layer.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import rockets.data_access_layer.dto.ParticipantView;
+import rockets.data_access_layer.repository.ParticipantRepository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class ParticipantSuggestIndexTest {
+    private static final UUID JANE = UUID.randomUUID();
+
+    private static final UUID JOHN = UUID.randomUUID();
+
+    private static final UUID ZOE = UUID.randomUUID();
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @InjectMocks
+    private ParticipantSuggestIndex participantSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(participantRepository.streamViews()).thenReturn(Stream.of(
+                new ParticipantView(JANE, "Jane Smith", "jane@example.com"),
+                new ParticipantView(JOHN, "John Smithers", "jsmithers@example.com"),
+                new ParticipantView(ZOE, "Zoë Jansen-Björk", "zoe@example.com")));
+        participantSuggestIndex.rebuild();
+    }
+
+    @Test
+    void testPrefixMatchesNamesAndEmails() {
+        assertEquals(List.of(JANE, ZOE), ids(participantSuggestIndex.suggest("jan", 10)));
+        assertEquals(List.of(JOHN), ids(participantSuggestIndex.suggest("jsmi", 10)));
+        assertEquals(List.of(JANE, JOHN), ids(participantSuggestIndex.suggest("Smith", 10)));
+    }
+
+    @Test
+    void testCaseAccentsAndSpacesAreIgnored() {
+        assertEquals(List.of(ZOE), ids(participantSuggestIndex.suggest("ZOE  JANS", 10)));
+        assertEquals(List.of(ZOE), ids(participantSuggestIndex.suggest("bjork", 10)));
+        assertEquals(List.of(JANE), ids(participantSuggestIndex.suggest(" jane ", 10)));
+    }
+
+    @Test
+    void testEachParticipantIsSuggestedOnce() {
+        assertEquals(List.of(JANE, ZOE), ids(participantSuggestIndex.suggest("j", 2)));
+        assertEquals(List.of(), participantSuggestIndex.suggest("   ", 10));
+    }
+
+    @Test
+    void testReindexReplacesAndDropsParticipants() {
+        when(participantRepository.findViewsByIds(List.of(JANE, JOHN)))
+                .thenReturn(List.of(new ParticipantView(JANE, "Jane Doe", "jane.doe@example.com")));
+
+        participantSuggestIndex.reindex(List.of(JANE, JOHN));
+
+        assertEquals(List.of(), ids(participantSuggestIndex.suggest("smith", 10)));
+        assertEquals(List.of(JANE), ids(participantSuggestIndex.suggest("doe", 10)));
+        assertEquals("jane.doe@example.com", participantSuggestIndex.suggest("jane", 10).get(0).email());
+    }
+
+    private static List<UUID> ids(List<ParticipantView> participants) {
+        return participants.stream().map(ParticipantView::id).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package rockets.data_access_layer.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import rockets.data_access_layer.dto.BusyInterval;
+import rockets.data_access_layer.dto.FreeSlot;
+import rockets.data_access_layer.dto.SlotSearchRequest;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+public class SchedulingServiceTest {
+    private static final UUID ALICE = UUID.randomUUID();
+
+    private static final UUID BOB = UUID.randomUUID();
+
+    @Mock
+    private FreeBusyIndex freeBusyIndex;
+
+    @InjectMocks
+    private SchedulingService schedulingService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testFindsEarliestSlotsFreeForEveryone() {
+        SlotSearchRequest request = request(at(0, 0, 0), at(1, 0, 0), 60, 3);
+        when(freeBusyIndex.getBusyIntervalsByParticipant(request.getParticipantIds(), request.getFrom(), request.getTo()))
+                .thenReturn(Map.of(
+                        ALICE, List.of(new BusyInterval(at(0, 9, 0), at(0, 10, 0))),
+                        BOB, List.of(new BusyInterval(at(0, 10, 0), at(0, 10, 30)),
+                                new BusyInterval(at(0, 11, 30), at(0, 12, 0)))));
+
+        assertEquals(List.of(
+                new FreeSlot(at(0, 10, 30), at(0, 11, 30)),
+                new FreeSlot(at(0, 12, 0), at(0, 13, 0)),
+                new FreeSlot(at(0, 12, 15), at(0, 13, 15))), schedulingService.findSlots(request));
+    }
+
+    @Test
+    void testSlotsStayWithinWindowAndWorkingHours() {
+        SlotSearchRequest request = request(at(0, 16, 7), at(1, 9, 40), 30, 10);
+        when(freeBusyIndex.getBusyIntervalsByParticipant(request.getParticipantIds(), request.getFrom(), request.getTo()))
+                .thenReturn(Map.of(ALICE, List.of(), BOB, List.of()));
+
+        assertEquals(List.of(
+                new FreeSlot(at(0, 16, 15), at(0, 16, 45)),
+                new FreeSlot(at(0, 16, 30), at(0, 17, 0)),
+                new FreeSlot(at(1, 9, 0), at(1, 9, 30))), schedulingService.findSlots(request));
+    }
+
+    @Test
+    void testSearchContinuesIntoLaterDays() {
+        SlotSearchRequest request = request(at(0, 0, 0), at(90, 0, 0), 45, 2);
+        when(freeBusyIndex.getBusyIntervalsByParticipant(request.getParticipantIds(), request.getFrom(), request.getTo()))
+                .thenReturn(Map.of(
+                        ALICE, List.of(new BusyInterval(at(0, 0, 0), at(40, 9, 30))),
+                        BOB, List.of(new BusyInterval(at(40, 9, 45), at(40, 10, 0)))));
+
+        assertEquals(List.of(
+                new FreeSlot(at(40, 10, 0), at(40, 10, 45)),
+                new FreeSlot(at(40, 10, 15), at(40, 11, 0))), schedulingService.findSlots(request));
+    }
+
+    private static SlotSearchRequest request(Date from, Date to, int durationMinutes, int limit) {
+        SlotSearchRequest request = new SlotSearchRequest();
+        request.setParticipantIds(Set.of(ALICE, BOB));
+        request.setFrom(from);
+        request.setTo(to);
+        request.setDurationMinutes(durationMinutes);
+        request.setLimit(limit);
+        return request;
+    }
+
+    private static Date at(int day, int hour, int minute) {
+        return new Date(TimeUnit.DAYS.toMillis(day) + TimeUnit.HOURS.toMillis(hour) + TimeUnit.MINUTES.toMillis(minute));
+    }
+}
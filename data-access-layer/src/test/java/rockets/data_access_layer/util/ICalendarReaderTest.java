@@ -0,0 +1,54 @@
+package rockets.data_access_layer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ICalendarReaderTest {
+    @Test
+    void testEventsAreReadOneAtATimeWithFoldedLines() throws IOException {
+        ICalendarReader reader = new ICalendarReader(new StringReader(String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "VERSION:2.0",
+                "BEGIN:VEVENT",
+                "UID:first",
+                "SUMMARY:A very long",
+                "  title",
+                "ATTENDEE;CN=\"Doe; Jane\";ROLE=REQ-PARTICIPANT:mailto:jane@example.com",
+                "BEGIN:VALARM",
+                "SUMMARY:Reminder",
+                "END:VALARM",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:second",
+                "END:VEVENT",
+                "END:VCALENDAR")));
+
+        ICalendarReader.Event first = reader.nextEvent();
+        assertEquals(3, first.line());
+        assertEquals("first", first.value("UID").orElseThrow());
+        assertEquals("A very long title", first.value("SUMMARY").orElseThrow());
+        assertEquals(1, first.all("SUMMARY").size());
+        ICalendarReader.Property attendee = first.first("ATTENDEE").orElseThrow();
+        assertEquals("Doe; Jane", attendee.parameter("CN"));
+        assertEquals("mailto:jane@example.com", attendee.value());
+
+        assertEquals("second", reader.nextEvent().value("UID").orElseThrow());
+        assertNull(reader.nextEvent());
+    }
+
+    @Test
+    void testUnterminatedEventIsDropped() throws IOException {
+        ICalendarReader reader = new ICalendarReader(new StringReader("BEGIN:VEVENT\nUID:cut\n"));
+
+        assertNull(reader.nextEvent());
+    }
+
+    @Test
+    void testTextIsUnescaped() {
+        assertEquals("a, b; c\\d\ne", ICalendarReader.unescape("a\\, b\\; c\\\\d\\ne"));
+    }
+}
@@ -0,0 +1,73 @@
+package rockets.data_access_layer.util;
+
+import org.junit.jupiter.api.Test;
+import rockets.data_access_layer.dto.Attendee;
+import rockets.data_access_layer.dto.CalendarEvent;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ICalendarTest {
+    @Test
+    void testLongLinesAreFoldedWithoutSplittingCharacters() throws IOException {
+        StringWriter writer = new StringWriter();
+        String line = "SUMMARY:" + "é".repeat(100);
+
+        ICalendar.writeLine(writer, line);
+
+        String[] physical = writer.toString().split("\r\n");
+        assertTrue(physical.length > 1);
+        for (String part : physical) {
+            assertTrue(part.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        assertEquals(line, writer.toString().replace("\r\n ", "").replace("\r\n", ""));
+    }
+
+    @Test
+    void testTextIsEscaped() {
+        assertEquals("a\\, b\\; c\\\\d\\ne", ICalendar.escape("a, b; c\\d\r\ne"));
+    }
+
+    @Test
+    void testSeriesIsWrittenInItsZoneWithExceptions() throws IOException {
+        UUID id = UUID.randomUUID();
+        UUID participantId = UUID.randomUUID();
+        CalendarEvent event = new CalendarEvent(id, 3, "Standup", Date.from(Instant.parse("2024-07-01T07:00:00Z")),
+                15, null, null, "FREQ=DAILY", "Europe/Amsterdam", null, null);
+        event.attendees().add(new Attendee(id, participantId, "Ada", null));
+        event.exceptionDates().add(Date.from(Instant.parse("2024-07-02T07:00:00Z")));
+        StringWriter writer = new StringWriter();
+
+        ICalendar.writeEvent(writer, event, "20240101T000000Z");
+
+        String ics = writer.toString();
+        assertTrue(ics.contains("UID:" + id + "\r\n"));
+        assertTrue(ics.contains("DTSTART;TZID=Europe/Amsterdam:20240701T090000\r\n"));
+        assertTrue(ics.contains("RRULE:FREQ=DAILY\r\n"));
+        assertTrue(ics.contains("EXDATE;TZID=Europe/Amsterdam:20240702T090000\r\n"));
+        assertTrue(ics.contains("SEQUENCE:3\r\n"));
+        assertTrue(ics.contains("ATTENDEE;CN=\"Ada\":urn:uuid:" + participantId + "\r\n"));
+    }
+
+    @Test
+    void testOverrideSharesTheSeriesUid() throws IOException {
+        UUID seriesId = UUID.randomUUID();
+        CalendarEvent event = new CalendarEvent(UUID.randomUUID(), 0, "Standup",
+                Date.from(Instant.parse("2024-07-02T10:00:00Z")), 15, null, null, null, null, seriesId,
+                Date.from(Instant.parse("2024-07-02T09:00:00Z")));
+        StringWriter writer = new StringWriter();
+
+        ICalendar.writeEvent(writer, event, "20240101T000000Z");
+
+        String ics = writer.toString();
+        assertTrue(ics.contains("UID:" + seriesId + "\r\n"));
+        assertTrue(ics.contains("DTSTART:20240702T100000Z\r\n"));
+        assertTrue(ics.contains("RECURRENCE-ID:20240702T090000Z\r\n"));
+    }
+}
@@ -0,0 +1,90 @@
+package rockets.data_access_layer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecurrenceRuleTest {
+    private static final ZonedDateTime MONDAY_NINE = ZonedDateTime.of(2024, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void testWeeklyByDayWithinWindow() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH");
+
+        assertEquals(List.of(at(2024, 1, 15), at(2024, 1, 18), at(2024, 1, 29)),
+                starts(rule, MONDAY_NINE, at(2024, 1, 10), at(2024, 2, 1)));
+    }
+
+    @Test
+    void testCountIsHonouredWhenExpansionStartsLate() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=10");
+        ZonedDateTime wednesday = MONDAY_NINE.plusDays(2);
+
+        List<Instant> all = starts(rule, wednesday, wednesday.toInstant(), at(2025, 1, 1));
+        assertEquals(10, all.size());
+        assertEquals(all.subList(6, 10), starts(rule, wednesday, all.get(6), at(2025, 1, 1)));
+        assertEquals(Optional.of(all.get(9)), rule.lastStart(wednesday));
+    }
+
+    @Test
+    void testMonthlySkipsMonthsWithoutTheDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=4");
+        ZonedDateTime first = ZonedDateTime.of(2024, 1, 31, 9, 0, 0, 0, ZoneOffset.UTC);
+
+        assertEquals(List.of(at(2024, 1, 31), at(2024, 3, 31), at(2024, 5, 31), at(2024, 7, 31)),
+                starts(rule, first, first.toInstant(), at(2025, 1, 1)));
+    }
+
+    @Test
+    void testUntilIsInclusiveAndWallClockSurvivesDst() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20240401T070000Z");
+        ZonedDateTime first = ZonedDateTime.of(2024, 3, 30, 9, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+
+        List<Instant> starts = starts(rule, first, first.toInstant(), at(2025, 1, 1));
+
+        assertEquals(List.of(Instant.parse("2024-03-30T08:00:00Z"), Instant.parse("2024-03-31T07:00:00Z"),
+                Instant.parse("2024-04-01T07:00:00Z")), starts);
+        assertTrue(rule.isStart(first, Instant.parse("2024-03-31T07:00:00Z")));
+        assertFalse(rule.isStart(first, Instant.parse("2024-03-31T08:00:00Z")));
+    }
+
+    @Test
+    void testUnboundedRuleHasNoLastStart() {
+        assertEquals(Optional.empty(), RecurrenceRule.parse("FREQ=DAILY").lastStart(MONDAY_NINE));
+    }
+
+    @Test
+    void testParseNormalisesAndRejects() {
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,FR;COUNT=3", RecurrenceRule.parse("freq=weekly;byday=FR,MO;count=3").toString());
+        assertEquals("FREQ=DAILY;UNTIL=20240401T070000Z",
+                RecurrenceRule.parse("FREQ=DAILY;INTERVAL=1;UNTIL=20240401T070000Z").toString());
+
+        assertThrows(InvalidRecurrenceException.class, () -> RecurrenceRule.parse("FREQ=YEARLY"));
+        assertThrows(InvalidRecurrenceException.class, () -> RecurrenceRule.parse("INTERVAL=2"));
+        assertThrows(InvalidRecurrenceException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=0"));
+        assertThrows(InvalidRecurrenceException.class,
+                () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=2;UNTIL=20240401T070000Z"));
+        assertThrows(InvalidRecurrenceException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=MO"));
+        assertEquals("timeZone", assertThrows(InvalidRecurrenceException.class,
+                () -> RecurrenceRule.zoneOf("Mars/Olympus")).getField());
+    }
+
+    private static List<Instant> starts(RecurrenceRule rule, ZonedDateTime first, Instant from, Instant to) {
+        List<Instant> starts = new ArrayList<>();
+        rule.forEachStart(first, from, to, starts::add);
+        return starts;
+    }
+
+    private static Instant at(int year, int month, int day) {
+        return LocalDateTime.of(year, month, day, 9, 0).toInstant(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,92 @@
+package rockets.data_access_layer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeOrderedUuidTest {
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    void testLayout() {
+        UUID uuid = TimeOrderedUuid.of(NOW, 0xABC, -1L);
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(NOW, TimeOrderedUuid.millis(uuid));
+        assertEquals(0xABC, uuid.getMostSignificantBits() & TimeOrderedUuid.MAX_COUNTER);
+    }
+
+    @Test
+    void testNextIsCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuid.next();
+
+        assertEquals(7, uuid.version());
+        assertTrue(TimeOrderedUuid.millis(uuid) >= before);
+        assertTrue(TimeOrderedUuid.millis(uuid) <= System.currentTimeMillis());
+    }
+
+    @Test
+    void testIncreasesWithinMillisecondPastCounter() {
+        TimeOrderedUuid.Clock clock = new TimeOrderedUuid.Clock();
+        Random random = new Random(1);
+
+        UUID previous = clock.next(NOW, random);
+        for (int i = 0; i < 2 * TimeOrderedUuid.MAX_COUNTER; i++) {
+            UUID next = clock.next(NOW, random);
+            assertTrue(next.compareTo(previous) > 0);
+            previous = next;
+        }
+        assertTrue(TimeOrderedUuid.millis(previous) > NOW);
+    }
+
+    @Test
+    void testIncreasesWhenClockGoesBack() {
+        TimeOrderedUuid.Clock clock = new TimeOrderedUuid.Clock();
+        Random random = new Random(1);
+
+        UUID later = clock.next(NOW, random);
+        UUID earlier = clock.next(NOW - 1_000, random);
+
+        assertTrue(earlier.compareTo(later) > 0);
+    }
+
+    @Test
+    void testOrderedByMillisecond() {
+        Random random = new Random(1);
+
+        UUID first = new TimeOrderedUuid.Clock().next(NOW, random);
+        UUID second = new TimeOrderedUuid.Clock().next(NOW + 1, random);
+
+        assertTrue(second.compareTo(first) > 0);
+    }
+
+    @Test
+    void testUniqueAcrossThreads() throws Exception {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Runnable> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(TimeOrderedUuid.next());
+                    }
+                });
+            }
+            tasks.forEach(executor::submit);
+        }
+
+        assertEquals(80_000, ids.size());
+    }
+}
@@ -0,0 +1,13 @@
+package rockets.reactive_data_access_layer;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveDataAccessLayerApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveDataAccessLayerApplication.class, args);
+	}
+
+}
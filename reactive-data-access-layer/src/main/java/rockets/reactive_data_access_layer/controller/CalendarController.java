@@ -0,0 +1,47 @@
+package rockets.reactive_data_access_layer.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rockets.reactive_data_access_layer.dto.CalendarView;
+import rockets.reactive_data_access_layer.service.CalendarService;
+import rockets.reactive_data_access_layer.util.Export;
+import rockets.reactive_data_access_layer.util.Pagination;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/calendars")
+public class CalendarController {
+    private final CalendarService calendarService;
+
+    private final ObjectMapper objectMapper;
+
+    public CalendarController(CalendarService calendarService, ObjectMapper objectMapper) {
+        this.calendarService = calendarService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/views")
+    public Mono<ResponseEntity<List<CalendarView>>> getCalendarViews(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_LIMIT) int limit) {
+        return calendarService.getCalendarViewsPage(cursor, limit).map(Pagination::toResponse);
+    }
+
+    @GetMapping("/{id}/view")
+    public Mono<ResponseEntity<CalendarView>> getCalendarViewById(@PathVariable UUID id) {
+        return calendarService.getCalendarViewById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public Flux<DataBuffer> exportCalendars(ServerHttpResponse response) {
+        return Export.toNdjson(objectMapper, response.bufferFactory(), calendarService.exportCalendarViews());
+    }
+}
@@ -0,0 +1,47 @@
+package rockets.reactive_data_access_layer.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rockets.reactive_data_access_layer.dto.MeetingView;
+import rockets.reactive_data_access_layer.service.MeetingService;
+import rockets.reactive_data_access_layer.util.Export;
+import rockets.reactive_data_access_layer.util.Pagination;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/meetings")
+public class MeetingController {
+    private final MeetingService meetingService;
+
+    private final ObjectMapper objectMapper;
+
+    public MeetingController(MeetingService meetingService, ObjectMapper objectMapper) {
+        this.meetingService = meetingService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/views")
+    public Mono<ResponseEntity<List<MeetingView>>> getMeetingViews(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_LIMIT) int limit) {
+        return meetingService.getMeetingViewsPage(cursor, limit).map(Pagination::toResponse);
+    }
+
+    @GetMapping("/{id}/view")
+    public Mono<ResponseEntity<MeetingView>> getMeetingViewById(@PathVariable UUID id) {
+        return meetingService.getMeetingViewById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public Flux<DataBuffer> exportMeetings(ServerHttpResponse response) {
+        return Export.toNdjson(objectMapper, response.bufferFactory(), meetingService.exportMeetingViews());
+    }
+}
@@ -0,0 +1,18 @@
+package rockets.reactive_data_access_layer.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import rockets.reactive_data_access_layer.util.InvalidCursorException;
+
+import java.util.Map;
+
+@RestControllerAdvice
+public class ValidationExceptionHandler {
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursor(InvalidCursorException ex) {
+        return new ResponseEntity<>(Map.of("cursor", ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+}
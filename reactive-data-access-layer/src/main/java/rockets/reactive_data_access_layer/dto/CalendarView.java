@@ -0,0 +1,15 @@
+package rockets.reactive_data_access_layer.dto;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Flat read model of a calendar referencing its meetings by id.
+ */
+public record CalendarView(UUID id, String title, String details, Set<UUID> meetingIds) {
+
+    public CalendarView(UUID id, String title, String details) {
+        this(id, title, details, new HashSet<>());
+    }
+}
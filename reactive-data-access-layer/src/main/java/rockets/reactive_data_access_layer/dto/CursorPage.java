@@ -0,0 +1,13 @@
+package rockets.reactive_data_access_layer.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing together with the opaque token
+ * that continues after its last item ({@code null} on the final page).
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,9 @@
+package rockets.reactive_data_access_layer.dto;
+
+import java.util.UUID;
+
+/**
+ * One row of a join table: the id of the owning row and the id it links to.
+ */
+public record IdLink(UUID ownerId, UUID linkedId) {
+}
@@ -0,0 +1,73 @@
+package rockets.reactive_data_access_layer.repository;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rockets.reactive_data_access_layer.dto.CalendarView;
+import rockets.reactive_data_access_layer.dto.IdLink;
+import rockets.reactive_data_access_layer.util.Export;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Reads the {@code calendar} table and its meeting links as written by
+ * {@code data-access-layer}.
+ */
+@Repository
+public class CalendarRepository {
+    private static final String SELECT_VIEWS = "select id, title, details from calendar ";
+
+    private final DatabaseClient databaseClient;
+
+    public CalendarRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<CalendarView> findViews(int limit) {
+        return databaseClient.sql(SELECT_VIEWS + "order by id limit :limit")
+                .bind("limit", limit)
+                .map(CalendarRepository::toView)
+                .all();
+    }
+
+    public Flux<CalendarView> findViewsAfter(UUID after, int limit) {
+        return databaseClient.sql(SELECT_VIEWS + "where id > :after order by id limit :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(CalendarRepository::toView)
+                .all();
+    }
+
+    public Mono<CalendarView> findViewById(UUID id) {
+        return databaseClient.sql(SELECT_VIEWS + "where id = :id")
+                .bind("id", id)
+                .map(CalendarRepository::toView)
+                .one();
+    }
+
+    /**
+     * Every calendar in id order, fetched {@link Export#CHUNK_SIZE} rows at
+     * a time as the subscriber requests them.
+     */
+    public Flux<CalendarView> streamViews() {
+        return databaseClient.sql(SELECT_VIEWS + "order by id")
+                .filter(statement -> statement.fetchSize(Export.CHUNK_SIZE))
+                .map(CalendarRepository::toView)
+                .all();
+    }
+
+    public Flux<IdLink> findMeetingLinks(Collection<UUID> calendarIds) {
+        return databaseClient.sql("select calendar_id, meeting_id from calendar_meeting where calendar_id in (:ids)")
+                .bind("ids", calendarIds)
+                .map(row -> new IdLink(row.get(0, UUID.class), row.get(1, UUID.class)))
+                .all();
+    }
+
+    private static CalendarView toView(Readable row) {
+        return new CalendarView(row.get("id", UUID.class), row.get("title", String.class),
+                row.get("details", String.class));
+    }
+}
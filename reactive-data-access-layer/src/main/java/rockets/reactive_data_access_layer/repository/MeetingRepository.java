@@ -0,0 +1,97 @@
+package rockets.reactive_data_access_layer.repository;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rockets.reactive_data_access_layer.dto.IdLink;
+import rockets.reactive_data_access_layer.dto.MeetingView;
+import rockets.reactive_data_access_layer.util.Export;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Reads the {@code meeting} table and its join tables as written by
+ * {@code data-access-layer}.
+ */
+@Repository
+public class MeetingRepository {
+    private static final String SELECT_VIEWS = "select id, title, date_time, location, details from meeting ";
+
+    private final DatabaseClient databaseClient;
+
+    public MeetingRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<MeetingView> findViews(int limit) {
+        return databaseClient.sql(SELECT_VIEWS + "order by id limit :limit")
+                .bind("limit", limit)
+                .map(MeetingRepository::toView)
+                .all();
+    }
+
+    public Flux<MeetingView> findViewsAfter(UUID after, int limit) {
+        return databaseClient.sql(SELECT_VIEWS + "where id > :after order by id limit :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(MeetingRepository::toView)
+                .all();
+    }
+
+    public Mono<MeetingView> findViewById(UUID id) {
+        return databaseClient.sql(SELECT_VIEWS + "where id = :id")
+                .bind("id", id)
+                .map(MeetingRepository::toView)
+                .one();
+    }
+
+    /**
+     * Every meeting in id order, fetched {@link Export#CHUNK_SIZE} rows at a
+     * time as the subscriber requests them.
+     */
+    public Flux<MeetingView> streamViews() {
+        return databaseClient.sql(SELECT_VIEWS + "order by id")
+                .filter(statement -> statement.fetchSize(Export.CHUNK_SIZE))
+                .map(MeetingRepository::toView)
+                .all();
+    }
+
+    public Flux<IdLink> findParticipantLinks(Collection<UUID> meetingIds) {
+        return findLinks("select meeting_id, participant_id from meeting_participant where meeting_id in (:ids)",
+                meetingIds);
+    }
+
+    public Flux<IdLink> findAttachmentLinks(Collection<UUID> meetingIds) {
+        return findLinks("select meeting_id, attachment_id from meeting_attachment where meeting_id in (:ids)",
+                meetingIds);
+    }
+
+    public Flux<IdLink> findCalendarLinks(Collection<UUID> meetingIds) {
+        return findLinks("select meeting_id, calendar_id from calendar_meeting where meeting_id in (:ids)",
+                meetingIds);
+    }
+
+    private Flux<IdLink> findLinks(String sql, Collection<UUID> ids) {
+        return databaseClient.sql(sql)
+                .bind("ids", ids)
+                .map(row -> new IdLink(row.get(0, UUID.class), row.get(1, UUID.class)))
+                .all();
+    }
+
+    /**
+     * {@code date_time} is a zoneless timestamp that Hibernate writes in the
+     * JVM's zone, so it is read back in that zone too.
+     */
+    private static MeetingView toView(Readable row) {
+        LocalDateTime dateTime = row.get("date_time", LocalDateTime.class);
+        return new MeetingView(row.get("id", UUID.class), row.get("title", String.class),
+                dateTime == null ? null : Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant()),
+                row.get("location", String.class), row.get("details", String.class));
+    }
+}
@@ -0,0 +1,60 @@
+package rockets.reactive_data_access_layer.service;
+
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rockets.reactive_data_access_layer.dto.CalendarView;
+import rockets.reactive_data_access_layer.dto.CursorPage;
+import rockets.reactive_data_access_layer.repository.CalendarRepository;
+import rockets.reactive_data_access_layer.util.Export;
+import rockets.reactive_data_access_layer.util.Pagination;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class CalendarService {
+    private final CalendarRepository calendarRepository;
+
+    public CalendarService(CalendarRepository calendarRepository) {
+        this.calendarRepository = calendarRepository;
+    }
+
+    public Mono<CursorPage<CalendarView>> getCalendarViewsPage(String cursor, int limit) {
+        Flux<CalendarView> rows = Pagination.decodeCursor(cursor)
+                .map(after -> calendarRepository.findViewsAfter(after, Pagination.probeLimit(limit)))
+                .orElseGet(() -> calendarRepository.findViews(Pagination.probeLimit(limit)));
+        return rows.collectList()
+                .map(list -> Pagination.toPage(list, limit, CalendarView::id))
+                .flatMap(page -> fillLinks(page.items()).thenReturn(page));
+    }
+
+    public Mono<CalendarView> getCalendarViewById(UUID id) {
+        return calendarRepository.findViewById(id)
+                .flatMap(view -> fillLinks(List.of(view)).thenReturn(view));
+    }
+
+    /**
+     * Every calendar in chunks of {@link Export#CHUNK_SIZE}, each with its
+     * meeting ids filled in before the next chunk is read.
+     */
+    public Flux<List<CalendarView>> exportCalendarViews() {
+        return calendarRepository.streamViews()
+                .buffer(Export.CHUNK_SIZE)
+                .concatMap(chunk -> fillLinks(chunk).thenReturn(chunk));
+    }
+
+    private Mono<Void> fillLinks(List<CalendarView> views) {
+        if (views.isEmpty()) {
+            return Mono.empty();
+        }
+        Map<UUID, CalendarView> viewsById = new HashMap<>();
+        views.forEach(view -> viewsById.put(view.id(), view));
+
+        return calendarRepository.findMeetingLinks(viewsById.keySet())
+                .doOnNext(link -> viewsById.get(link.ownerId()).meetingIds().add(link.linkedId()))
+                .then();
+    }
+}
@@ -0,0 +1,71 @@
+package rockets.reactive_data_access_layer.service;
+
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rockets.reactive_data_access_layer.dto.CursorPage;
+import rockets.reactive_data_access_layer.dto.MeetingView;
+import rockets.reactive_data_access_layer.repository.MeetingRepository;
+import rockets.reactive_data_access_layer.util.Export;
+import rockets.reactive_data_access_layer.util.Pagination;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class MeetingService {
+    private final MeetingRepository meetingRepository;
+
+    public MeetingService(MeetingRepository meetingRepository) {
+        this.meetingRepository = meetingRepository;
+    }
+
+    public Mono<CursorPage<MeetingView>> getMeetingViewsPage(String cursor, int limit) {
+        Flux<MeetingView> rows = Pagination.decodeCursor(cursor)
+                .map(after -> meetingRepository.findViewsAfter(after, Pagination.probeLimit(limit)))
+                .orElseGet(() -> meetingRepository.findViews(Pagination.probeLimit(limit)));
+        return rows.collectList()
+                .map(list -> Pagination.toPage(list, limit, MeetingView::id))
+                .flatMap(page -> fillLinks(page.items()).thenReturn(page));
+    }
+
+    public Mono<MeetingView> getMeetingViewById(UUID id) {
+        return meetingRepository.findViewById(id)
+                .flatMap(view -> fillLinks(List.of(view)).thenReturn(view));
+    }
+
+    /**
+     * Every meeting in chunks of {@link Export#CHUNK_SIZE}, each with its
+     * links filled in before the next chunk is read. The links are read on
+     * another connection than the meetings, which stays busy streaming, so
+     * a chunk can show links that changed after the export started.
+     */
+    public Flux<List<MeetingView>> exportMeetingViews() {
+        return meetingRepository.streamViews()
+                .buffer(Export.CHUNK_SIZE)
+                .concatMap(chunk -> fillLinks(chunk).thenReturn(chunk));
+    }
+
+    /**
+     * One query per join table, run one after the other so a request never
+     * holds more than one extra connection.
+     */
+    private Mono<Void> fillLinks(List<MeetingView> views) {
+        if (views.isEmpty()) {
+            return Mono.empty();
+        }
+        Map<UUID, MeetingView> viewsById = new HashMap<>();
+        views.forEach(view -> viewsById.put(view.id(), view));
+
+        return Flux.concat(
+                meetingRepository.findParticipantLinks(viewsById.keySet())
+                        .doOnNext(link -> viewsById.get(link.ownerId()).participantIds().add(link.linkedId())),
+                meetingRepository.findAttachmentLinks(viewsById.keySet())
+                        .doOnNext(link -> viewsById.get(link.ownerId()).attachmentIds().add(link.linkedId())),
+                meetingRepository.findCalendarLinks(viewsById.keySet())
+                        .doOnNext(link -> viewsById.get(link.ownerId()).calendarIds().add(link.linkedId())))
+                .then();
+    }
+}
@@ -0,0 +1,52 @@
+package rockets.reactive_data_access_layer.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Helpers for the newline-delimited JSON export endpoints. Rows are read
+ * from the database in chunks of {@link #CHUNK_SIZE} as the client consumes
+ * the response: a chunk is only fetched once the previous one has been
+ * written, so a slow client slows the query down instead of filling memory.
+ */
+public abstract class Export {
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    public static final int CHUNK_SIZE = 500;
+
+    /**
+     * One buffer per chunk, holding a JSON document per row. The response
+     * is flushed per chunk rather than per row.
+     */
+    public static <T> Flux<DataBuffer> toNdjson(ObjectMapper objectMapper, DataBufferFactory bufferFactory,
+                                                Flux<List<T>> chunks) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return chunks.map(chunk -> {
+            DataBuffer buffer = bufferFactory.allocateBuffer(256 * chunk.size());
+            try (OutputStream outputStream = buffer.asOutputStream();
+                 JsonGenerator generator = writer.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                for (T row : chunk) {
+                    writer.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                }
+            } catch (IOException e) {
+                DataBufferUtils.release(buffer);
+                throw new UncheckedIOException(e);
+            }
+            return buffer;
+        });
+    }
+}
@@ -0,0 +1,7 @@
+package rockets.reactive_data_access_layer.util;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,70 @@
+package rockets.reactive_data_access_layer.util;
+
+import org.springframework.http.ResponseEntity;
+import rockets.reactive_data_access_layer.dto.CursorPage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination over the primary key, with the same cursors, limits and
+ * {@value #NEXT_CURSOR_HEADER} header as {@code data-access-layer}, so a
+ * client can page through either API with the same token.
+ */
+public abstract class Pagination {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static final String DEFAULT_LIMIT = "50";
+
+    public static final int MAX_LIMIT = 500;
+
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * One more row than the page size is requested so the presence of a
+     * following page is known without a separate count query.
+     */
+    public static int probeLimit(int limit) {
+        return clampLimit(limit) + 1;
+    }
+
+    public static String encodeCursor(UUID id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static Optional<UUID> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(cursor);
+            return Optional.of(UUID.fromString(new String(decoded, StandardCharsets.US_ASCII)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("cursor is not valid");
+        }
+    }
+
+    public static <T> CursorPage<T> toPage(List<T> rows, int limit, Function<T, UUID> idOf) {
+        int size = clampLimit(limit);
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, encodeCursor(idOf.apply(items.get(size - 1))));
+    }
+
+    public static <T> ResponseEntity<List<T>> toResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+}
@@ -0,0 +1,330 @@
+package rockets.reactive_data_access_layer.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import rockets.reactive_data_access_layer.ReactiveDataAccessLayerApplication;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Drives the same read workload against the MVC application, on platform
+ * and on virtual threads, and against this one, and prints throughput,
+ * latency percentiles, resident memory and thread count at each level of
+ * concurrency. The difference in memory between two levels, divided by the
+ * difference in connections, is what each further connection costs.
+ * <p>
+ * Each application runs in its own JVM with the same heap limit and pool
+ * size, against the Postgres database the {@code DB_*} environment
+ * variables point at; the MVC one creates the schema and is used to seed
+ * it. Build the MVC jar first, then run with
+ * {@code mvn test -Pbenchmark -Dtest=ReadApiBenchmark}; the
+ * {@code benchmark.*} system properties below tune the load.
+ */
+@Tag("benchmark")
+public class ReadApiBenchmark {
+    private static final List<Integer> CONCURRENCY = Arrays.stream(
+            System.getProperty("benchmark.clients", "100,1000").split(","))
+            .map(String::strip)
+            .map(Integer::valueOf)
+            .toList();
+
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 20);
+
+    private static final String HEAP = System.getProperty("benchmark.heap", "512m");
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 10));
+
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("benchmark.seconds", 20));
+
+    private static final Path MVC_JAR = Path.of(System.getProperty("benchmark.mvc-jar",
+            "../data-access-layer/target/data-access-layer-0.0.1-SNAPSHOT.jar"));
+
+    private static final int PARTICIPANTS = 500;
+
+    private static final int MEETINGS = 5_000;
+
+    private static final int CALENDARS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void compareWithMvc() throws Exception {
+        assumeTrue(System.getenv("DB_IP") != null, "DB_IP, DB_USERNAME and DB_PASSWORD must point at Postgres");
+        assumeTrue(Files.exists(MVC_JAR), MVC_JAR + " not found, run mvn package in data-access-layer");
+
+        List<String> paths;
+        Map<String, List<Level>> results = new HashMap<>();
+        try (Server mvc = startMvc(false)) {
+            paths = seed(mvc.port());
+            results.put("mvc-platform", measure(mvc, paths));
+        }
+        try (Server mvc = startMvc(true)) {
+            results.put("mvc-virtual", measure(mvc, paths));
+        }
+        try (Server reactive = startReactive()) {
+            results.put("reactive", measure(reactive, paths));
+        }
+
+        System.out.printf("%n%d connections in each pool, -Xmx%s, %d s measured%n", POOL_SIZE, HEAP,
+                MEASUREMENT.toSeconds());
+        System.out.printf("%-13s %8s %9s %9s %9s %7s %9s %8s%n", "server", "clients", "req/s", "p50 ms", "p99 ms",
+                "errors", "RSS MiB", "threads");
+        for (String server : List.of("mvc-platform", "mvc-virtual", "reactive")) {
+            List<Level> levels = results.get(server);
+            levels.forEach(level -> level.print(server));
+            Level first = levels.get(0);
+            Level last = levels.get(levels.size() - 1);
+            if (last.clients() > first.clients()) {
+                int added = last.clients() - first.clients();
+                System.out.printf("%-13s %.1f KiB and %.2f threads per further connection%n", server,
+                        (last.rssKib() - first.rssKib()) / (double) added,
+                        (last.threads() - first.threads()) / (double) added);
+            }
+        }
+        results.values().forEach(levels -> levels.forEach(level -> assertEquals(0, level.errors())));
+    }
+
+    private List<Level> measure(Server server, List<String> paths) throws Exception {
+        List<Level> levels = new ArrayList<>();
+        for (int clients : CONCURRENCY) {
+            drive(server, paths, clients, WARMUP);
+            levels.add(drive(server, paths, clients, MEASUREMENT));
+        }
+        return levels;
+    }
+
+    /**
+     * {@code clients} closed-loop clients, each sending its next request as
+     * soon as the previous one is answered, while the server's resident
+     * memory and thread count are sampled for their peaks.
+     */
+    private Level drive(Server server, List<String> paths, int clients, Duration duration) throws Exception {
+        long[][] latencies = new long[clients][];
+        AtomicLong errors = new AtomicLong();
+        long end = System.nanoTime() + duration.toNanos();
+        long[] peak = new long[2];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                executor.submit(() -> {
+                    Random random = new Random(client);
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < end) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create(server.url(paths.get(random.nextInt(paths.size())))))
+                                .timeout(Duration.ofSeconds(60))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    latencies[client] = Arrays.copyOf(samples, count);
+                });
+            }
+            while (System.nanoTime() < end) {
+                Map<String, Long> status = server.status();
+                peak[0] = Math.max(peak[0], status.get("VmRSS"));
+                peak[1] = Math.max(peak[1], status.get("Threads"));
+                Thread.sleep(250);
+            }
+        }
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Level(clients, all.length / (double) duration.toSeconds(), errors.get(), all, peak[0],
+                (int) peak[1]);
+    }
+
+    /**
+     * Participants, meetings with one to four of them, calendars of up to
+     * fifty meetings, and the request paths the clients cycle through.
+     */
+    private List<String> seed(int port) throws Exception {
+        List<String> participantIds = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            JsonNode participant = post(port, "/participants", Map.of(
+                    "name", "Participant " + i,
+                    "email", "participant" + i + "-" + System.nanoTime() + "@example.com"));
+            participantIds.add(participant.get("id").asText());
+        }
+
+        Random random = new Random(42);
+        List<String> meetingIds = new ArrayList<>();
+        List<Map<String, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < MEETINGS; i++) {
+            List<String> attendees = new ArrayList<>();
+            for (int p = 1 + random.nextInt(4); p > 0; p--) {
+                attendees.add(participantIds.get(random.nextInt(PARTICIPANTS)));
+            }
+            batch.add(Map.of(
+                    "title", "Meeting " + i,
+                    "dateTime", String.format("2030-%02d-%02d 09:00", 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                    "location", "Room " + random.nextInt(20),
+                    "participantIds", attendees));
+            if (batch.size() == 500 || i == MEETINGS - 1) {
+                post(port, "/meetings/batch", batch).forEach(result -> meetingIds.add(result.get("id").asText()));
+                batch.clear();
+            }
+        }
+
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < CALENDARS; i++) {
+            List<String> meetings = new ArrayList<>();
+            for (int m = 1 + random.nextInt(50); m > 0; m--) {
+                meetings.add(meetingIds.get(random.nextInt(MEETINGS)));
+            }
+            JsonNode calendar = post(port, "/calendars", Map.of("title", "Calendar " + i, "meetings", meetings));
+            paths.add("/calendars/" + calendar.get("id").asText() + "/view");
+        }
+        for (int i = 0; i < 2 * CALENDARS; i++) {
+            paths.add("/meetings/" + meetingIds.get(random.nextInt(MEETINGS)) + "/view");
+        }
+        for (int i = 0; i < 50; i++) {
+            paths.add("/meetings/views?limit=20");
+            paths.add("/calendars/views?limit=20");
+        }
+        return paths;
+    }
+
+    private JsonNode post(int port, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " answered " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private Server startMvc(boolean virtualThreads) throws Exception {
+        int port = freePort();
+        return Server.start(port, List.of(
+                "-jar", MVC_JAR.toAbsolutePath().toString(),
+                "--server.port=" + port,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.jpa.show-sql=false"));
+    }
+
+    private Server startReactive() throws Exception {
+        int port = freePort();
+        return Server.start(port, List.of(
+                "-cp", System.getProperty("java.class.path"),
+                ReactiveDataAccessLayerApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.r2dbc.url=r2dbc:postgresql://" + System.getenv("DB_IP") + ":5432/postgres",
+                "--spring.r2dbc.username=" + System.getenv("DB_USERNAME"),
+                "--spring.r2dbc.password=" + System.getenv("DB_PASSWORD"),
+                "--spring.r2dbc.pool.initial-size=" + POOL_SIZE,
+                "--spring.r2dbc.pool.max-size=" + POOL_SIZE,
+                "--spring.sql.init.mode=never"));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Server(Process process, int port) implements AutoCloseable {
+        static Server start(int port, List<String> arguments) throws Exception {
+            List<String> command = new ArrayList<>(List.of(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-Xmx" + HEAP,
+                    "-Dlogging.level.root=warn"));
+            command.addAll(arguments);
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(Path.of("target", "benchmark-server-" + port + ".log").toFile())
+                    .start();
+            Server server = new Server(process, port);
+            HttpClient probe = HttpClient.newHttpClient();
+            long deadline = System.nanoTime() + Duration.ofMinutes(2).toNanos();
+            while (System.nanoTime() < deadline && server.process().isAlive()) {
+                try {
+                    probe.send(HttpRequest.newBuilder(URI.create(server.url("/meetings/views?limit=1"))).build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    return server;
+                } catch (IOException e) {
+                    Thread.sleep(500);
+                }
+            }
+            server.close();
+            throw new IllegalStateException("server on port " + port + " did not start, see target/benchmark-server-"
+                    + port + ".log");
+        }
+
+        String url(String path) {
+            return "http://localhost:" + port + path;
+        }
+
+        /**
+         * The process's resident memory in KiB and its thread count, from
+         * {@code /proc/<pid>/status}.
+         */
+        Map<String, Long> status() throws IOException {
+            Map<String, Long> status = new HashMap<>();
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(process.pid()), "status"))) {
+                String[] field = line.split(":\\s+");
+                if (field[0].equals("VmRSS") || field[0].equals("Threads")) {
+                    status.put(field[0], Long.valueOf(field[1].split(" ")[0]));
+                }
+            }
+            return status;
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private record Level(int clients, double requests, long errors, long[] latencies, long rssKib, int threads) {
+        void print(String server) {
+            System.out.printf("%-13s %8d %9.0f %9.1f %9.1f %7d %9.0f %8d%n", server, clients, requests, millis(0.5),
+                    millis(0.99), errors, rssKib / 1024.0, threads);
+        }
+
+        private double millis(double quantile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            return latencies[(int) Math.min(latencies.length - 1, quantile * latencies.length)] / 1e6;
+        }
+    }
+}
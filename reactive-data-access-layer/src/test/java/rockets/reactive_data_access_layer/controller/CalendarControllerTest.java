@@ -0,0 +1,96 @@
+package rockets.reactive_data_access_layer.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import rockets.reactive_data_access_layer.util.Export;
+import rockets.reactive_data_access_layer.util.Pagination;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class CalendarControllerTest {
+    private static final UUID MEETING = UUID.randomUUID();
+
+    private static final int CALENDARS = Export.CHUNK_SIZE + 3;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private UUID firstCalendarId;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("calendar_meeting", "meeting_participant", "meeting_attachment", "calendar",
+                "meeting", "participant", "attachment")) {
+            databaseClient.sql("delete from " + table).then().block();
+        }
+        databaseClient.sql("insert into meeting (id, title) values (:id, 'Standup')")
+                .bind("id", MEETING).then().block();
+        for (int i = 0; i < CALENDARS; i++) {
+            UUID id = new UUID(0, i + 1);
+            databaseClient.sql("insert into calendar (id, title, details) values (:id, :title, 'Shared')")
+                    .bind("id", id)
+                    .bind("title", "Calendar " + i)
+                    .then().block();
+            databaseClient.sql("insert into calendar_meeting (calendar_id, meeting_id) values (:calendar, :meeting)")
+                    .bind("calendar", id)
+                    .bind("meeting", MEETING)
+                    .then().block();
+        }
+        firstCalendarId = new UUID(0, 1);
+    }
+
+    @Test
+    void testGetCalendarViews() {
+        webTestClient.get().uri("/calendars/views?limit=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(Pagination.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(10)
+                .jsonPath("$[0].id").isEqualTo(firstCalendarId.toString())
+                .jsonPath("$[0].meetingIds[0]").isEqualTo(MEETING.toString());
+    }
+
+    @Test
+    void testGetCalendarViewById() {
+        webTestClient.get().uri("/calendars/{id}/view", firstCalendarId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Calendar 0")
+                .jsonPath("$.details").isEqualTo("Shared")
+                .jsonPath("$.meetingIds[0]").isEqualTo(MEETING.toString());
+
+        webTestClient.get().uri("/calendars/{id}/view", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testExportCalendarsAcrossChunks() {
+        String body = webTestClient.get().uri("/calendars/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/x-ndjson")
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(CALENDARS, lines.size());
+        assertEquals(CALENDARS, lines.stream().filter(line -> line.contains(MEETING.toString())).count());
+    }
+}
@@ -0,0 +1,142 @@
+package rockets.reactive_data_access_layer.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import rockets.reactive_data_access_layer.util.Pagination;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class MeetingControllerTest {
+    private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private static final UUID SECOND = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    private static final UUID THIRD = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    private static final UUID PARTICIPANT = UUID.randomUUID();
+
+    private static final UUID CALENDAR = UUID.randomUUID();
+
+    private static final LocalDateTime STARTS_AT = LocalDateTime.of(2030, 1, 2, 9, 30);
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("calendar_meeting", "meeting_participant", "meeting_attachment", "calendar",
+                "meeting", "participant", "attachment")) {
+            databaseClient.sql("delete from " + table).then().block();
+        }
+        databaseClient.sql("insert into participant (id, name) values (:id, 'Ada')")
+                .bind("id", PARTICIPANT).then().block();
+        for (UUID id : List.of(FIRST, SECOND, THIRD)) {
+            databaseClient.sql("insert into meeting (id, title, date_time, location) values (:id, :title, :dateTime, 'Room 1')")
+                    .bind("id", id)
+                    .bind("title", "Meeting " + id.getLeastSignificantBits())
+                    .bind("dateTime", STARTS_AT)
+                    .then().block();
+            databaseClient.sql("insert into meeting_participant (meeting_id, participant_id) values (:meeting, :participant)")
+                    .bind("meeting", id)
+                    .bind("participant", PARTICIPANT)
+                    .then().block();
+        }
+        databaseClient.sql("insert into calendar (id, title) values (:id, 'Team')")
+                .bind("id", CALENDAR).then().block();
+        databaseClient.sql("insert into calendar_meeting (calendar_id, meeting_id) values (:calendar, :meeting)")
+                .bind("calendar", CALENDAR)
+                .bind("meeting", FIRST)
+                .then().block();
+    }
+
+    @Test
+    void testGetMeetingViewsPagesByCursor() {
+        String cursor = webTestClient.get().uri("/meetings/views?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(Pagination.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(FIRST.toString())
+                .jsonPath("$[0].participantIds[0]").isEqualTo(PARTICIPANT.toString())
+                .jsonPath("$[1].id").isEqualTo(SECOND.toString())
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst(Pagination.NEXT_CURSOR_HEADER);
+
+        webTestClient.get().uri("/meetings/views?limit=2&cursor={cursor}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(Pagination.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(THIRD.toString());
+    }
+
+    @Test
+    void testGetMeetingViewById() {
+        String dateTime = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
+                .format(STARTS_AT.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC));
+
+        webTestClient.get().uri("/meetings/{id}/view", FIRST)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Meeting 1")
+                .jsonPath("$.dateTime").isEqualTo(dateTime)
+                .jsonPath("$.location").isEqualTo("Room 1")
+                .jsonPath("$.calendarIds[0]").isEqualTo(CALENDAR.toString())
+                .jsonPath("$.attachmentIds.length()").isEqualTo(0);
+    }
+
+    @Test
+    void testGetMeetingViewByIdNotFound() {
+        webTestClient.get().uri("/meetings/{id}/view", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testInvalidCursorIsRejected() {
+        webTestClient.get().uri("/meetings/views?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.cursor").isEqualTo("cursor is not valid");
+    }
+
+    @Test
+    void testExportMeetingsAsNdjson() {
+        String body = webTestClient.get().uri("/meetings/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/x-ndjson")
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"id\":\"" + FIRST + "\""));
+        assertTrue(lines.get(0).contains(PARTICIPANT.toString()));
+        assertTrue(lines.get(2).contains("\"id\":\"" + THIRD + "\""));
+    }
+}
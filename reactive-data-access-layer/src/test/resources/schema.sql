@@ -0,0 +1,54 @@
+-- The tables data-access-layer's Hibernate mapping creates, as far as this
+-- module reads them. Outside tests the schema is owned by data-access-layer.
+create table if not exists participant (
+    id uuid primary key,
+    version bigint default 0 not null,
+    name varchar(600) not null,
+    email varchar(255)
+);
+
+create table if not exists attachment (
+    id uuid primary key,
+    version bigint default 0 not null,
+    url varchar(2048) not null
+);
+
+create table if not exists meeting (
+    id uuid primary key,
+    version bigint default 0 not null,
+    title varchar(2000) not null,
+    date_time timestamp(6),
+    duration_minutes integer default 60 not null,
+    recurrence_rule varchar(500),
+    time_zone varchar(255),
+    last_occurrence timestamp(6),
+    series_id uuid,
+    original_date_time timestamp(6),
+    location varchar(255),
+    details varchar(10000)
+);
+
+create table if not exists calendar (
+    id uuid primary key,
+    version bigint default 0 not null,
+    title varchar(2000) not null,
+    details varchar(10000)
+);
+
+create table if not exists meeting_participant (
+    meeting_id uuid not null references meeting,
+    participant_id uuid not null references participant,
+    primary key (meeting_id, participant_id)
+);
+
+create table if not exists meeting_attachment (
+    meeting_id uuid not null references meeting,
+    attachment_id uuid not null references attachment,
+    primary key (meeting_id, attachment_id)
+);
+
+create table if not exists calendar_meeting (
+    calendar_id uuid not null references calendar,
+    meeting_id uuid not null references meeting,
+    primary key (calendar_id, meeting_id)
+);